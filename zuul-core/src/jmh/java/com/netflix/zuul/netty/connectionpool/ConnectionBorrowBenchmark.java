@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+package com.netflix.zuul.netty.connectionpool;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoop;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Compares moving an idle connection to another event loop, as {@link PerServerConnectionPool} does when borrowing,
+ * with opening a new one.  Both are over loopback, so the connect cost is a lower bound: real origins add a network
+ * round trip, and usually a TLS handshake.
+ */
+@State(Scope.Benchmark)
+public class ConnectionBorrowBenchmark {
+
+    private static final ChannelInitializer<Channel> NO_OP = new ChannelInitializer<>() {
+        @Override
+        protected void initChannel(Channel ch) {}
+    };
+
+    private NioEventLoopGroup serverGroup;
+    private NioEventLoopGroup clientGroup;
+    private EventLoop[] eventLoops;
+    private Channel serverChannel;
+    private Bootstrap bootstrap;
+
+    private Channel idleChannel;
+    private int next;
+
+    @Setup
+    public void setUp() throws Exception {
+        serverGroup = new NioEventLoopGroup(1);
+        clientGroup = new NioEventLoopGroup(2);
+        eventLoops = new EventLoop[] {clientGroup.next(), clientGroup.next()};
+
+        serverChannel = new ServerBootstrap()
+                .group(serverGroup)
+                .channel(NioServerSocketChannel.class)
+                .childHandler(NO_OP)
+                .bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0))
+                .sync()
+                .channel();
+
+        bootstrap = new Bootstrap()
+                .channel(NioSocketChannel.class)
+                .handler(NO_OP)
+                .remoteAddress(serverChannel.localAddress());
+
+        idleChannel = bootstrap.clone().group(eventLoops[0]).connect().sync().channel();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        idleChannel.close().sync();
+        serverChannel.close().sync();
+        clientGroup.shutdownGracefully(0, 0, TimeUnit.SECONDS).sync();
+        serverGroup.shutdownGracefully(0, 0, TimeUnit.SECONDS).sync();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Channel borrowIdleConnection() throws Exception {
+        EventLoop to = eventLoops[++next & 1];
+        idleChannel.deregister().sync();
+        to.register(idleChannel).sync();
+        return idleChannel;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Channel openNewConnection() throws Exception {
+        Channel ch = bootstrap.clone().group(eventLoops[++next & 1]).connect().sync().channel();
+        ch.close().sync();
+        return ch;
+    }
+}
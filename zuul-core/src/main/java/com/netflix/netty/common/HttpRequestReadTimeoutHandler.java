@@ -24,8 +24,8 @@ import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.netty.channel.ChannelPipeline;
 import io.netty.handler.codec.http.HttpRequest;
 import io.netty.handler.codec.http.LastHttpContent;
-import io.netty.handler.timeout.ReadTimeoutHandler;
 import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
 
 /**
  * This handler times from the point a HttpRequest is read until the LastHttpContent is read,
@@ -34,16 +34,22 @@ import java.util.concurrent.TimeUnit;
  * Unlike ReadTimeoutHandler, this impl does NOT close the channel on a timeout. Only fires the
  * event.
  *
+ * The timeout is pushed back each time more of the request is read, and runs on the event loop's
+ * {@link TimingWheel}.
+ *
  * @author michaels
  */
 public class HttpRequestReadTimeoutHandler extends ChannelInboundHandlerAdapter {
     private static final String HANDLER_NAME = "http_request_read_timeout_handler";
-    private static final String INTERNAL_HANDLER_NAME = "http_request_read_timeout_internal";
 
     private final long timeout;
     private final TimeUnit unit;
     private final Counter httpRequestReadTimeoutCounter;
 
+    @Nullable private ChannelHandlerContext ctx;
+
+    @Nullable private TimingWheel.Timeout readTimeout;
+
     protected HttpRequestReadTimeoutHandler(long timeout, TimeUnit unit, Counter httpRequestReadTimeoutCounter) {
         this.timeout = timeout;
         this.unit = unit;
@@ -61,24 +67,40 @@ public class HttpRequestReadTimeoutHandler extends ChannelInboundHandlerAdapter
         pipeline.addLast(HANDLER_NAME, handler);
     }
 
+    @Override
+    public void handlerAdded(ChannelHandlerContext ctx) throws Exception {
+        this.ctx = ctx;
+        super.handlerAdded(ctx);
+    }
+
     @Override
     public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
         if (msg instanceof LastHttpContent) {
-            removeInternalHandler(ctx);
+            stopTimeout();
         } else if (msg instanceof HttpRequest) {
-            // Start timeout handler.
-            InternalReadTimeoutHandler handler = new InternalReadTimeoutHandler(timeout, unit);
-            ctx.pipeline().addBefore(HANDLER_NAME, INTERNAL_HANDLER_NAME, handler);
+            // Start timeout.
+            if (readTimeout == null) {
+                readTimeout = TimingWheel.forExecutor(ctx.executor()).newTimeout(this::readTimedOut);
+            }
+            readTimeout.arm(timeout, unit);
         }
 
         super.channelRead(ctx, msg);
     }
 
+    @Override
+    public void channelReadComplete(ChannelHandlerContext ctx) throws Exception {
+        if (readTimeout != null && readTimeout.isArmed()) {
+            readTimeout.arm(timeout, unit);
+        }
+        super.channelReadComplete(ctx);
+    }
+
     @Override
     public void userEventTriggered(ChannelHandlerContext ctx, Object evt) throws Exception {
         if (evt instanceof HttpRequestReadTimeoutEvent) {
             CurrentPassport.fromChannel(ctx.channel()).add(PassportState.IN_REQ_READ_TIMEOUT);
-            removeInternalHandler(ctx);
+            stopTimeout();
             httpRequestReadTimeoutCounter.increment();
         }
 
@@ -87,32 +109,30 @@ public class HttpRequestReadTimeoutHandler extends ChannelInboundHandlerAdapter
 
     @Override
     public void handlerRemoved(ChannelHandlerContext ctx) throws Exception {
-        removeInternalHandler(ctx);
+        stopTimeout();
         super.handlerRemoved(ctx);
     }
 
     @Override
     public void channelInactive(ChannelHandlerContext ctx) throws Exception {
-        removeInternalHandler(ctx);
+        stopTimeout();
         super.channelInactive(ctx);
     }
 
-    protected void removeInternalHandler(ChannelHandlerContext ctx) {
-        // Remove timeout handler if not already removed.
-        ChannelHandlerContext handlerContext = ctx.pipeline().context(INTERNAL_HANDLER_NAME);
-        if (handlerContext != null && !handlerContext.isRemoved()) {
-            ctx.pipeline().remove(INTERNAL_HANDLER_NAME);
+    protected void stopTimeout() {
+        if (readTimeout != null) {
+            readTimeout.disarm();
         }
     }
 
-    static class InternalReadTimeoutHandler extends ReadTimeoutHandler {
-        public InternalReadTimeoutHandler(long timeout, TimeUnit unit) {
-            super(timeout, unit);
+    private void readTimedOut() {
+        if (ctx == null || ctx.isRemoved()) {
+            return;
         }
-
-        @Override
-        protected void readTimedOut(ChannelHandlerContext ctx) throws Exception {
-            ctx.fireUserEventTriggered(HttpRequestReadTimeoutEvent.INSTANCE);
+        try {
+            userEventTriggered(ctx, HttpRequestReadTimeoutEvent.INSTANCE);
+        } catch (Exception e) {
+            ctx.fireExceptionCaught(e);
         }
     }
 }
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.netty.common;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.netflix.config.DynamicIntProperty;
+import com.netflix.netty.common.metrics.EventLoopGroupMetrics;
+import com.netflix.netty.common.metrics.EventLoopMetrics;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.EventExecutorChooserFactory;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.annotation.Nullable;
+
+/**
+ * Picks the event loop for each new connection by power of two choices: two distinct loops are sampled at random, and
+ * the less loaded one is used.  A loop's load is a weighted sum of its connections, its HTTP requests in flight, and
+ * how late its tasks have recently been running, so that loops busy with long-lived push or HTTP/2 connections, or
+ * just running behind, get fewer new ones.  Unlike {@link LeastConnsEventLoopChooserFactory}, choosing neither
+ * allocates nor looks at every loop.
+ *
+ * <p>Each loop runs a small task every 100ms, which measures how late it ran, and which also finds the loop's
+ * {@link EventLoopMetrics}.  Until it first runs, a loop looks idle.
+ */
+public class P2CEventLoopChooserFactory implements EventExecutorChooserFactory {
+
+    private static final DynamicIntProperty CONNECTION_WEIGHT =
+            new DynamicIntProperty("zuul.server.eventloops.p2c.weight.connections", 1);
+
+    private static final DynamicIntProperty REQUEST_WEIGHT =
+            new DynamicIntProperty("zuul.server.eventloops.p2c.weight.requests", 4);
+
+    /**
+     * The weight of each millisecond of task queue latency.
+     */
+    private static final DynamicIntProperty QUEUE_LATENCY_WEIGHT =
+            new DynamicIntProperty("zuul.server.eventloops.p2c.weight.queueLatencyMs", 10);
+
+    private static final long PROBE_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final EventLoopGroupMetrics groupMetrics;
+
+    public P2CEventLoopChooserFactory(EventLoopGroupMetrics groupMetrics) {
+        this.groupMetrics = groupMetrics;
+    }
+
+    @Override
+    public EventExecutorChooser newChooser(EventExecutor[] executors) {
+        return new P2CEventExecutorChooser(executors, groupMetrics);
+    }
+
+    @VisibleForTesting
+    static final class P2CEventExecutorChooser implements EventExecutorChooser {
+        private final LoopState[] loops;
+        private final AtomicBoolean probing = new AtomicBoolean();
+
+        P2CEventExecutorChooser(EventExecutor[] executors, EventLoopGroupMetrics groupMetrics) {
+            loops = new LoopState[executors.length];
+            for (int i = 0; i < executors.length; i++) {
+                loops[i] = new LoopState(executors[i], groupMetrics);
+            }
+        }
+
+        @Override
+        public EventExecutor next() {
+            int count = loops.length;
+            if (count == 1) {
+                return loops[0].executor;
+            }
+            // Started lazily, as the loops' threads aren't when the chooser is created.
+            if (!probing.get() && probing.compareAndSet(false, true)) {
+                for (LoopState loop : loops) {
+                    loop.start();
+                }
+            }
+
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            int first = random.nextInt(count);
+            int second = random.nextInt(count - 1);
+            if (second >= first) {
+                second++;
+            }
+            LoopState a = loops[first];
+            LoopState b = loops[second];
+            return a.load() <= b.load() ? a.executor : b.executor;
+        }
+
+        @VisibleForTesting
+        double load(int index) {
+            return loops[index].load();
+        }
+
+        @VisibleForTesting
+        boolean isProbed(int index) {
+            return loops[index].metrics != null;
+        }
+    }
+
+    private static final class LoopState implements Runnable {
+        private final EventExecutor executor;
+        private final EventLoopGroupMetrics groupMetrics;
+
+        @Nullable private volatile EventLoopMetrics metrics;
+
+        private volatile long queueLatencyNanos;
+
+        // Only used on the loop, once started.
+        private long expectedNanos;
+
+        LoopState(EventExecutor executor, EventLoopGroupMetrics groupMetrics) {
+            this.executor = executor;
+            this.groupMetrics = groupMetrics;
+        }
+
+        double load() {
+            double load = QUEUE_LATENCY_WEIGHT.get() * (queueLatencyNanos / 1_000_000.0);
+            EventLoopMetrics metrics = this.metrics;
+            if (metrics != null) {
+                load += CONNECTION_WEIGHT.get() * metrics.currentConnectionsCount()
+                        + REQUEST_WEIGHT.get() * metrics.currentHttpRequestsCount();
+            }
+            return load;
+        }
+
+        void start() {
+            expectedNanos = System.nanoTime();
+            try {
+                executor.execute(this);
+            } catch (RejectedExecutionException e) {
+                // Shutting down.
+            }
+        }
+
+        @Override
+        public void run() {
+            if (metrics == null) {
+                metrics = groupMetrics.getForCurrentEventLoop();
+            }
+            long now = System.nanoTime();
+            long late = Math.max(0, now - expectedNanos);
+            // Smoothed, so that one slow task doesn't steer connections away from the loop for long.
+            queueLatencyNanos += (late - queueLatencyNanos) / 4;
+
+            // Rescheduling while shutting down would keep the loop from ever going quiet.
+            if (executor.isShuttingDown()) {
+                return;
+            }
+            expectedNanos = now + PROBE_INTERVAL_NANOS;
+            try {
+                executor.schedule(this, PROBE_INTERVAL_NANOS, TimeUnit.NANOSECONDS);
+            } catch (RejectedExecutionException e) {
+                // Shut down in the meantime.
+            }
+        }
+    }
+}
@@ -0,0 +1,232 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.netty.common;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.netflix.config.CachedDynamicIntProperty;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.FastThreadLocal;
+import io.netty.util.concurrent.ScheduledFuture;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A hashed timing wheel confined to a single event loop, for timeouts that are armed and disarmed far more often than
+ * they fire (read timeouts, idle timeouts, ...).
+ *
+ * <p>Arming or disarming a {@link Timeout} just links it into or out of one of the wheel's buckets, rather than
+ * inserting into or removing from the event loop's scheduled task queue, and doesn't allocate.  The only task the
+ * wheel schedules is a single periodic tick, which runs while there are timeouts armed, and stops again once the wheel
+ * has been empty for a full rotation.
+ *
+ * <p>Timeouts fire on the tick they fall due in, so are accurate to within one tick ({@code zuul.timingWheel.tickMs}).
+ *
+ * NOTE: Not threadsafe, the wheel and its timeouts must only be used from the event loop they belong to.
+ */
+public final class TimingWheel {
+    private static final Logger LOG = LoggerFactory.getLogger(TimingWheel.class);
+
+    private static final CachedDynamicIntProperty TICK_MS = new CachedDynamicIntProperty("zuul.timingWheel.tickMs", 10);
+    private static final CachedDynamicIntProperty WHEEL_SIZE =
+            new CachedDynamicIntProperty("zuul.timingWheel.size", 512);
+
+    private static final FastThreadLocal<TimingWheel> WHEELS = new FastThreadLocal<>();
+
+    private static final int UNARMED = -1;
+    private static final int FIRING = -2;
+
+    private final EventExecutor executor;
+    private final long tickNanos;
+    private final Timeout[] buckets;
+    private final int mask;
+    private final Runnable tickTask = this::onTick;
+    private final List<Timeout> expired = new ArrayList<>();
+
+    private long currentTick;
+    private int armed;
+    private int idleTicks;
+
+    @Nullable private ScheduledFuture<?> ticker;
+
+    @VisibleForTesting
+    TimingWheel(EventExecutor executor, long tickNanos, int wheelSize) {
+        if (tickNanos <= 0) {
+            throw new IllegalArgumentException("tickNanos must be positive: " + tickNanos);
+        }
+        if (wheelSize <= 0) {
+            throw new IllegalArgumentException("wheelSize must be positive: " + wheelSize);
+        }
+        this.executor = executor;
+        this.tickNanos = tickNanos;
+        int size = Integer.highestOneBit(wheelSize) == wheelSize ? wheelSize : Integer.highestOneBit(wheelSize) << 1;
+        this.buckets = new Timeout[size];
+        this.mask = size - 1;
+    }
+
+    /**
+     * Returns the wheel for the given event loop, creating it if needed.  Must be called from the event loop.
+     */
+    public static TimingWheel forExecutor(EventExecutor executor) {
+        if (!executor.inEventLoop()) {
+            throw new IllegalStateException("TimingWheel must be used from its event loop");
+        }
+        TimingWheel wheel = WHEELS.get();
+        if (wheel == null || wheel.executor != executor) {
+            wheel = new TimingWheel(executor, TimeUnit.MILLISECONDS.toNanos(TICK_MS.get()), WHEEL_SIZE.get());
+            WHEELS.set(wheel);
+        }
+        return wheel;
+    }
+
+    /**
+     * Returns a new, unarmed, timeout which runs {@code task} on the event loop each time it fires.
+     */
+    public Timeout newTimeout(Runnable task) {
+        return new Timeout(task);
+    }
+
+    @VisibleForTesting
+    int armedCount() {
+        return armed;
+    }
+
+    @VisibleForTesting
+    boolean isTicking() {
+        return ticker != null;
+    }
+
+    private void link(Timeout timeout) {
+        int bucket = (int) (timeout.deadlineTick & mask);
+        Timeout head = buckets[bucket];
+        timeout.bucket = bucket;
+        timeout.prev = null;
+        timeout.next = head;
+        if (head != null) {
+            head.prev = timeout;
+        }
+        buckets[bucket] = timeout;
+        armed++;
+        idleTicks = 0;
+        if (ticker == null) {
+            ticker = executor.scheduleAtFixedRate(tickTask, tickNanos, tickNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void unlink(Timeout timeout) {
+        if (timeout.prev != null) {
+            timeout.prev.next = timeout.next;
+        } else {
+            buckets[timeout.bucket] = timeout.next;
+        }
+        if (timeout.next != null) {
+            timeout.next.prev = timeout.prev;
+        }
+        timeout.prev = null;
+        timeout.next = null;
+        timeout.bucket = UNARMED;
+        armed--;
+    }
+
+    private void onTick() {
+        currentTick++;
+
+        if (armed == 0) {
+            if (++idleTicks >= buckets.length && ticker != null) {
+                ticker.cancel(false);
+                ticker = null;
+            }
+            return;
+        }
+
+        int bucket = (int) (currentTick & mask);
+        Timeout timeout = buckets[bucket];
+        while (timeout != null) {
+            Timeout next = timeout.next;
+            if (timeout.deadlineTick <= currentTick) {
+                unlink(timeout);
+                timeout.bucket = FIRING;
+                expired.add(timeout);
+            }
+            timeout = next;
+        }
+
+        // Run the tasks once the bucket has been swept, since they are free to arm and disarm timeouts themselves.
+        for (int i = 0; i < expired.size(); i++) {
+            Timeout t = expired.get(i);
+            if (t.bucket != FIRING) {
+                // Disarmed or re-armed by an earlier task.
+                continue;
+            }
+            t.bucket = UNARMED;
+            try {
+                t.task.run();
+            } catch (Throwable e) {
+                LOG.warn("Error running timeout task", e);
+            }
+        }
+        expired.clear();
+    }
+
+    /**
+     * A reusable timeout on the wheel.
+     */
+    public final class Timeout {
+        private final Runnable task;
+
+        private long deadlineTick;
+        private int bucket = UNARMED;
+
+        @Nullable private Timeout prev;
+
+        @Nullable private Timeout next;
+
+        private Timeout(Runnable task) {
+            this.task = task;
+        }
+
+        /**
+         * Arms the timeout to fire after {@code delay}, replacing any deadline it was already armed with.
+         */
+        public void arm(long delay, TimeUnit unit) {
+            long ticks = Math.max(1, (unit.toNanos(delay) + tickNanos - 1) / tickNanos);
+            if (bucket >= 0) {
+                unlink(this);
+            }
+            deadlineTick = currentTick + ticks;
+            link(this);
+        }
+
+        /**
+         * Disarms the timeout, if it is armed.
+         */
+        public void disarm() {
+            if (bucket >= 0) {
+                unlink(this);
+            } else {
+                bucket = UNARMED;
+            }
+        }
+
+        public boolean isArmed() {
+            return bucket >= 0;
+        }
+    }
+}
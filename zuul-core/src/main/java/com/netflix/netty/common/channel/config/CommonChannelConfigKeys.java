@@ -43,6 +43,14 @@ public class CommonChannelConfigKeys {
     /** The HTTP request read timeout, in milliseconds */
     public static final ChannelConfigKey<Integer> httpRequestReadTimeout =
             new ChannelConfigKey<>("httpRequestReadTimeout", 5000);
+    /**
+     * Flushes of HTTP/1 responses are deferred to the end of the current read or event loop task, so that a burst of
+     * response chunks goes out in one write (and TLS record) rather than one each.  Caps how many flushes can be held
+     * back, or 0 to flush every time.
+     */
+    public static final ChannelConfigKey<Integer> flushConsolidationMaxFlushes =
+            new ChannelConfigKey<>("flushConsolidationMaxFlushes", 0);
+
     /** The maximum number of inbound connections to proxy. */
     public static final ChannelConfigKey<Integer> maxConnections = new ChannelConfigKey<>("maxConnections", 20000);
 
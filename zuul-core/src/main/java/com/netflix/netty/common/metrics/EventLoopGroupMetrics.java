@@ -21,6 +21,7 @@ import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * User: michaels@netflix.com
@@ -30,7 +31,8 @@ import java.util.Map;
 @Singleton
 public class EventLoopGroupMetrics {
     private final ThreadLocal<EventLoopMetrics> metricsForCurrentThread;
-    private final Map<Thread, EventLoopMetrics> byEventLoop = new HashMap<>();
+    // Each event loop registers its own metrics, concurrently with the others.
+    private final Map<Thread, EventLoopMetrics> byEventLoop = new ConcurrentHashMap<>();
 
     @Inject
     public EventLoopGroupMetrics(Registry registry) {
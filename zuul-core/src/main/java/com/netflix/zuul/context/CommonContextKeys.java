@@ -19,6 +19,7 @@ package com.netflix.zuul.context;
 import com.google.common.collect.ImmutableList;
 import com.netflix.client.config.IClientConfig;
 import com.netflix.zuul.filters.ZuulFilter;
+import com.netflix.zuul.message.RequestBufferArena;
 import com.netflix.zuul.message.http.HttpRequestMessage;
 import com.netflix.zuul.message.http.HttpResponseMessage;
 import com.netflix.zuul.niws.RequestAttempts;
@@ -85,6 +86,9 @@ public class CommonContextKeys {
     public static final SessionContext.Key<Provider<Long>> RESP_BODY_SIZE_PROVIDER =
             SessionContext.newKey("response_body_size");
 
+    public static final SessionContext.Key<RequestBufferArena> BUFFER_ARENA =
+            SessionContext.newKey("_request_buffer_arena");
+
     public static final SessionContext.Key<CurrentPassport> PASSPORT = SessionContext.newKey("_passport");
     public static final SessionContext.Key<Boolean> ZUUL_USE_DECODED_URI =
             SessionContext.newKey("zuul_use_decoded_uri");
@@ -15,15 +15,16 @@
  */
 package com.netflix.zuul.context;
 
+import com.netflix.config.CachedDynamicIntProperty;
 import com.netflix.zuul.message.Header;
 import com.netflix.zuul.message.ZuulMessage;
 import com.netflix.zuul.message.http.HttpRequestInfo;
 import com.netflix.zuul.message.http.HttpResponseInfo;
 import io.netty.util.ReferenceCounted;
-import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import rx.Observable;
 
 /**
@@ -34,6 +35,16 @@ import rx.Observable;
  */
 public class Debug {
 
+    private static final String KEY_ROUTING_DEBUG = "routingDebug";
+    private static final String KEY_REQUEST_DEBUG = "requestDebug";
+
+    /**
+     * Upper bound on the number of routing and request debug lines retained per request.  Older lines are evicted
+     * once the limit is hit, so a debugged request cannot grow without bound.
+     */
+    private static final CachedDynamicIntProperty MAX_DEBUG_EVENTS =
+            new CachedDynamicIntProperty("zuul.debug.maxEventsPerRequest", 512);
+
     public static void setDebugRequest(SessionContext ctx, boolean bDebug) {
         ctx.setDebugRequest(bDebug);
     }
@@ -76,15 +87,10 @@ public class Debug {
 
     /**
      *
-     * @return Returns the list of routiong debug messages
+     * @return Returns the bounded list of routing debug messages
      */
     public static List<String> getRoutingDebug(SessionContext ctx) {
-        List<String> rd = (List<String>) ctx.get("routingDebug");
-        if (rd == null) {
-            rd = new ArrayList<String>();
-            ctx.set("routingDebug", rd);
-        }
-        return rd;
+        return getOrCreateRing(ctx, KEY_ROUTING_DEBUG);
     }
 
     /**
@@ -98,51 +104,86 @@ public class Debug {
 
     /**
      *
-     * @return returns the list of request debug messages
+     * @return returns the bounded list of request debug messages
      */
     public static List<String> getRequestDebug(SessionContext ctx) {
-        List<String> rd = (List<String>) ctx.get("requestDebug");
-        if (rd == null) {
-            rd = new ArrayList<String>();
-            ctx.set("requestDebug", rd);
+        return getOrCreateRing(ctx, KEY_REQUEST_DEBUG);
+    }
+
+    private static DebugEventRing getOrCreateRing(SessionContext ctx, String key) {
+        DebugEventRing ring = (DebugEventRing) ctx.get(key);
+        if (ring == null) {
+            ring = new DebugEventRing(Math.max(1, MAX_DEBUG_EVENTS.get()));
+            ctx.set(key, ring);
         }
-        return rd;
+        return ring;
     }
 
     /**
-     * Adds debug details about changes that a given filter made to the request context.
-     * @param filterName
-     * @param copy
+     * Turns on the context's mutation journal and returns the current position in it, to later be passed to
+     * {@link #compareContextState(String, SessionContext, int)}.
      */
-    public static void compareContextState(String filterName, SessionContext context, SessionContext copy) {
-        // TODO - only comparing Attributes. Need to compare the messages too.
-
-        // Ensure that the routingDebug property already exists, otherwise we'll have a ConcurrentModificationException
-        // below
+    public static int markContextState(SessionContext context) {
+        // Make sure the debug rings exist before the mark, so creating them never shows up in the diff.
         getRoutingDebug(context);
+        getRequestDebug(context);
+        context.enableMutationJournal();
+        return context.getMutationJournal().size();
+    }
 
-        Iterator<String> it = context.keySet().iterator();
-        String key = it.next();
-        while (key != null) {
-            if ((!key.equals("routingDebug") && !key.equals("requestDebug"))) {
-                Object newValue = context.get(key);
-                Object oldValue = copy.get(key);
-                if (!(newValue instanceof ReferenceCounted) && !(oldValue instanceof ReferenceCounted)) {
-                    if (oldValue == null && newValue != null) {
-                        addRoutingDebug(context, "{" + filterName + "} added " + key + "=" + newValue.toString());
-                    } else if (oldValue != null && newValue != null) {
-                        if (!oldValue.equals(newValue)) {
-                            addRoutingDebug(context, "{" + filterName + "} changed " + key + "=" + newValue.toString());
-                        }
-                    }
-                }
-            }
-            if (it.hasNext()) {
-                key = it.next();
+    /**
+     * Adds debug details about changes that a given filter made to the request context, read from the context's
+     * mutation journal rather than by comparing against a copy.  Several writes to the same key are collapsed into
+     * one line describing the net change.  The journal itself is left as is, for anything else auditing the filters.
+     *
+     * @param mark the journal position returned by {@link #markContextState(SessionContext)} before the filter ran
+     */
+    public static void compareContextState(String filterName, SessionContext context, int mark) {
+        List<SessionContext.Mutation> journal = context.getMutationJournal();
+        boolean truncated = context.isMutationJournalTruncated();
+        if (mark >= journal.size() && !truncated) {
+            return;
+        }
+        DebugEventRing routingDebug = getOrCreateRing(context, KEY_ROUTING_DEBUG);
+
+        // key -> {first old value, last new value}
+        Map<Object, Object[]> changes = new LinkedHashMap<>();
+        for (SessionContext.Mutation mutation : journal.subList(Math.min(mark, journal.size()), journal.size())) {
+            Object[] change = changes.get(mutation.key());
+            if (change == null) {
+                changes.put(mutation.key(), new Object[] {mutation.oldValue(), mutation.newValue()});
             } else {
-                key = null;
+                change[1] = mutation.newValue();
             }
         }
+
+        for (Map.Entry<Object, Object[]> entry : changes.entrySet()) {
+            String key = entry.getKey() instanceof SessionContext.Key<?> typedKey
+                    ? typedKey.name()
+                    : String.valueOf(entry.getKey());
+            Object oldValue = entry.getValue()[0];
+            Object newValue = entry.getValue()[1];
+            if (oldValue == newValue || isDebugKey(key)) {
+                continue;
+            }
+            if (newValue instanceof ReferenceCounted || oldValue instanceof ReferenceCounted) {
+                continue;
+            }
+            if (oldValue == null) {
+                routingDebug.add("{" + filterName + "} added " + key + "=" + newValue);
+            } else if (newValue == null) {
+                routingDebug.add("{" + filterName + "} removed " + key);
+            } else if (!oldValue.equals(newValue)) {
+                routingDebug.add("{" + filterName + "} changed " + key + "=" + newValue);
+            }
+        }
+        if (truncated) {
+            routingDebug.add("{" + filterName + "} context journal full, later changes not recorded");
+        }
+    }
+
+    private static boolean isDebugKey(String key) {
+        return key.equals(KEY_ROUTING_DEBUG) || key.equals(KEY_REQUEST_DEBUG);
     }
 
     public static Observable<Boolean> writeDebugRequest(
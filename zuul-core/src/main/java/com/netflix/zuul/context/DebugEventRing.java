@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+package com.netflix.zuul.context;
+
+import com.google.common.base.Preconditions;
+import java.util.AbstractList;
+
+/**
+ * Bounded, per-request ring of debug events. Once full, each new event overwrites the oldest one, so a request with
+ * debugging enabled can never accumulate more than {@code capacity} entries no matter how many filters it passes
+ * through.
+ *
+ * <p>Exposed as a {@code List<String>} of the retained lines, oldest first, so existing consumers of
+ * {@link Debug#getRoutingDebug(SessionContext)} and {@link Debug#getRequestDebug(SessionContext)} keep working.
+ *
+ * NOTE: Not threadsafe, same as {@link SessionContext}.
+ */
+public final class DebugEventRing extends AbstractList<String> {
+
+    /**
+     * A single captured debug line, along with the {@link System#nanoTime()} at which it was recorded.
+     */
+    public record Event(long nanoTime, String line) {}
+
+    private final Event[] events;
+    private int head;
+    private int size;
+    private long dropped;
+
+    public DebugEventRing(int capacity) {
+        Preconditions.checkArgument(capacity > 0, "capacity must be positive: %s", capacity);
+        this.events = new Event[capacity];
+    }
+
+    /**
+     * Appends a line, evicting the oldest retained line if the ring is full.  Always returns {@code true}.
+     */
+    @Override
+    public boolean add(String line) {
+        Event event = new Event(System.nanoTime(), line);
+        if (size < events.length) {
+            events[(head + size) % events.length] = event;
+            size++;
+        } else {
+            events[head] = event;
+            head = (head + 1) % events.length;
+            dropped++;
+        }
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public String get(int index) {
+        return getEvent(index).line();
+    }
+
+    public Event getEvent(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index " + index + ", size " + size);
+        }
+        return events[(head + index) % events.length];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            events[(head + i) % events.length] = null;
+        }
+        head = 0;
+        size = 0;
+        modCount++;
+    }
+
+    public int capacity() {
+        return events.length;
+    }
+
+    /**
+     * Returns how many events have been evicted because the ring was full.
+     */
+    public long dropped() {
+        return dropped;
+    }
+}
@@ -16,6 +16,7 @@
 package com.netflix.zuul.context;
 
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.netflix.config.CachedDynamicIntProperty;
 import com.netflix.config.DynamicPropertyFactory;
 import com.netflix.zuul.filters.FilterError;
 import com.netflix.zuul.message.http.HttpResponseMessage;
@@ -29,6 +30,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import javax.annotation.Nullable;
 import lombok.NonNull;
@@ -48,6 +51,9 @@ public final class SessionContext extends HashMap<String, Object> implements Clo
             .getIntProperty("com.netflix.zuul.context.SessionContext.initialSize", 60)
             .get();
 
+    private static final CachedDynamicIntProperty MAX_JOURNAL_SIZE =
+            new CachedDynamicIntProperty("com.netflix.zuul.context.SessionContext.maxJournalSize", 1024);
+
     private boolean brownoutMode = false;
     private boolean shouldStopFilterProcessing = false;
     private boolean shouldSendErrorResponse = false;
@@ -68,6 +74,19 @@ public final class SessionContext extends HashMap<String, Object> implements Clo
 
     private final IdentityHashMap<Key<?>, ?> typedMap = new IdentityHashMap<>();
 
+    /**
+     * Write log of context mutations, only allocated once {@link #enableMutationJournal()} has been called.
+     */
+    @Nullable private List<Mutation> journal;
+
+    private boolean journalTruncated = false;
+
+    /**
+     * A single write to the context, recorded while the mutation journal is enabled.  The {@code key} is either the
+     * {@link String} or the {@link Key} that was written; a {@code null} {@code newValue} means the key was removed.
+     */
+    public record Mutation(Object key, @Nullable Object oldValue, @Nullable Object newValue) {}
+
     /**
      * A Key is type-safe, identity-based key into the Session Context.
      * @param <T>
@@ -201,7 +220,176 @@ public final class SessionContext extends HashMap<String, Object> implements Clo
      */
     @Override
     public Object put(String key, Object value) {
-        return super.put(key, value);
+        Object old = super.put(key, value);
+        if (journal != null) {
+            recordMutation(key, old, value);
+        }
+        return old;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Overridden so that writes are captured by the mutation journal.
+     */
+    @Override
+    public Object putIfAbsent(String key, Object value) {
+        Object old = super.putIfAbsent(key, value);
+        if (journal != null && old == null) {
+            recordMutation(key, null, value);
+        }
+        return old;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Overridden so that writes are captured by the mutation journal.
+     */
+    @Override
+    public void putAll(Map<? extends String, ?> m) {
+        if (journal == null) {
+            super.putAll(m);
+            return;
+        }
+        for (Map.Entry<? extends String, ?> entry : m.entrySet()) {
+            put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Overridden so that writes are captured by the mutation journal.
+     */
+    @Override
+    public void clear() {
+        if (journal != null) {
+            for (Map.Entry<String, Object> entry : entrySet()) {
+                recordMutation(entry.getKey(), entry.getValue(), null);
+            }
+        }
+        super.clear();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Overridden so that writes are captured by the mutation journal.
+     */
+    @Override
+    public Object compute(String key, BiFunction<? super String, ? super Object, ?> remappingFunction) {
+        if (journal == null) {
+            return super.compute(key, remappingFunction);
+        }
+        Object old = super.get(key);
+        Object res = super.compute(key, remappingFunction);
+        if (old != res) {
+            recordMutation(key, old, res);
+        }
+        return res;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Overridden so that writes are captured by the mutation journal.
+     */
+    @Override
+    public Object computeIfAbsent(String key, Function<? super String, ?> mappingFunction) {
+        if (journal == null) {
+            return super.computeIfAbsent(key, mappingFunction);
+        }
+        Object old = super.get(key);
+        Object res = super.computeIfAbsent(key, mappingFunction);
+        if (old != res) {
+            recordMutation(key, old, res);
+        }
+        return res;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Overridden so that writes are captured by the mutation journal.
+     */
+    @Override
+    public Object computeIfPresent(String key, BiFunction<? super String, ? super Object, ?> remappingFunction) {
+        if (journal == null) {
+            return super.computeIfPresent(key, remappingFunction);
+        }
+        Object old = super.get(key);
+        Object res = super.computeIfPresent(key, remappingFunction);
+        if (old != res) {
+            recordMutation(key, old, res);
+        }
+        return res;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Overridden so that writes are captured by the mutation journal.
+     */
+    @Override
+    public Object merge(String key, Object value, BiFunction<? super Object, ? super Object, ?> remappingFunction) {
+        if (journal == null) {
+            return super.merge(key, value, remappingFunction);
+        }
+        Object old = super.get(key);
+        Object res = super.merge(key, value, remappingFunction);
+        if (old != res) {
+            recordMutation(key, old, res);
+        }
+        return res;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Overridden so that writes are captured by the mutation journal.
+     */
+    @Override
+    public Object replace(String key, Object value) {
+        Object old = super.replace(key, value);
+        if (journal != null && old != null) {
+            recordMutation(key, old, value);
+        }
+        return old;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Overridden so that writes are captured by the mutation journal.
+     */
+    @Override
+    public boolean replace(String key, Object oldValue, Object newValue) {
+        boolean res = super.replace(key, oldValue, newValue);
+        if (journal != null && res) {
+            recordMutation(key, oldValue, newValue);
+        }
+        return res;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Overridden so that writes are captured by the mutation journal.
+     */
+    @Override
+    public void replaceAll(BiFunction<? super String, ? super Object, ?> function) {
+        if (journal == null) {
+            super.replaceAll(function);
+            return;
+        }
+        for (Map.Entry<String, Object> entry : entrySet()) {
+            Object value = function.apply(entry.getKey(), entry.getValue());
+            Object old = entry.setValue(value);
+            if (old != value) {
+                recordMutation(entry.getKey(), old, value);
+            }
+        }
     }
 
     /**
@@ -215,6 +403,9 @@ public final class SessionContext extends HashMap<String, Object> implements Clo
 
         @SuppressWarnings("unchecked") // Sorry.
         T res = ((Map<Key<T>, T>) (Map) typedMap).put(key, value);
+        if (journal != null) {
+            recordMutation(key, res, value);
+        }
         return res;
     }
 
@@ -225,7 +416,11 @@ public final class SessionContext extends HashMap<String, Object> implements Clo
      */
     @Override
     public boolean remove(Object key, Object value) {
-        return super.remove(key, value);
+        boolean res = super.remove(key, value);
+        if (journal != null && res) {
+            recordMutation(key, value, null);
+        }
+        return res;
     }
 
     public <T> boolean remove(Key<T> key, T value) {
@@ -233,6 +428,9 @@ public final class SessionContext extends HashMap<String, Object> implements Clo
         Objects.requireNonNull(value, "value");
         @SuppressWarnings("unchecked") // sorry
         boolean res = ((Map<Key<T>, T>) (Map) typedMap).remove(key, value);
+        if (journal != null && res) {
+            recordMutation(key, value, null);
+        }
         return res;
     }
 
@@ -243,13 +441,20 @@ public final class SessionContext extends HashMap<String, Object> implements Clo
      */
     @Override
     public Object remove(Object key) {
-        return super.remove(key);
+        Object old = super.remove(key);
+        if (journal != null && old != null) {
+            recordMutation(key, old, null);
+        }
+        return old;
     }
 
     public <T> T remove(Key<T> key) {
         Objects.requireNonNull(key, "key");
         @SuppressWarnings("unchecked") // sorry
         T res = ((Map<Key<T>, T>) (Map) typedMap).remove(key);
+        if (journal != null && res != null) {
+            recordMutation(key, res, null);
+        }
         return res;
     }
 
@@ -258,12 +463,58 @@ public final class SessionContext extends HashMap<String, Object> implements Clo
     }
 
     /**
-     * Makes a copy of the RequestContext. This is used for debugging.
+     * Starts recording every subsequent write to this context as a {@link Mutation}.  This is cheap enough to turn on
+     * for a sampled fraction of requests, and lets tooling find out what changed between two points (e.g. before and
+     * after a filter) without cloning and comparing the whole context.  Calling this more than once has no effect.
+     *
+     * <p>Writes through the map's methods and the typed {@link Key} methods are captured.  Changes made through the
+     * {@link #keySet()}, {@link #values()} and {@link #entrySet()} views, such as removing via an iterator or calling
+     * {@link Map.Entry#setValue(Object)}, are not.
+     */
+    public void enableMutationJournal() {
+        if (journal == null) {
+            journal = new ArrayList<>();
+        }
+    }
+
+    public boolean isMutationJournalEnabled() {
+        return journal != null;
+    }
+
+    /**
+     * Returns the mutations recorded so far, oldest first, or an empty list if journaling is not enabled.  Callers
+     * wanting the changes made over some span should remember {@code size()} at the start and read from there.
+     */
+    public List<Mutation> getMutationJournal() {
+        return journal != null ? Collections.unmodifiableList(journal) : Collections.emptyList();
+    }
+
+    /**
+     * Returns {@code true} if mutations have been dropped because the journal reached its maximum size.
+     */
+    public boolean isMutationJournalTruncated() {
+        return journalTruncated;
+    }
+
+    private void recordMutation(Object key, @Nullable Object oldValue, @Nullable Object newValue) {
+        if (journal.size() >= MAX_JOURNAL_SIZE.get()) {
+            journalTruncated = true;
+            return;
+        }
+        journal.add(new Mutation(key, oldValue, newValue));
+    }
+
+    /**
+     * Makes a copy of the RequestContext. This is used for debugging.  The mutation journal is not carried over to
+     * the copy.
      */
     @Override
     public SessionContext clone() {
         // TODO(carl-mastrangelo): copy over the type safe keys
-        return (SessionContext) super.clone();
+        SessionContext copy = (SessionContext) super.clone();
+        copy.journal = null;
+        copy.journalTruncated = false;
+        return copy;
     }
 
     public String getString(String key) {
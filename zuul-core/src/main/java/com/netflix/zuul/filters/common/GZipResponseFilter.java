@@ -133,9 +133,9 @@ public class GZipResponseFilter extends HttpOutboundSyncFilter {
         gzipper.write(chunk);
         if (chunk instanceof LastHttpContent) {
             gzipper.finish();
-            return new DefaultLastHttpContent(gzipper.getByteBuf());
+            return new DefaultLastHttpContent(gzipper.getByteBuf(resp.getContext()));
         } else {
-            return new DefaultHttpContent(gzipper.getByteBuf());
+            return new DefaultHttpContent(gzipper.getByteBuf(resp.getContext()));
         }
     }
 }
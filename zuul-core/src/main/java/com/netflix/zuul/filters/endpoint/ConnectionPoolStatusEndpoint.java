@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.zuul.filters.endpoint;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.netflix.zuul.context.CommonContextKeys;
+import com.netflix.zuul.context.SessionContext;
+import com.netflix.zuul.filters.Endpoint;
+import com.netflix.zuul.message.http.HttpRequestMessage;
+import com.netflix.zuul.message.http.HttpResponseMessage;
+import com.netflix.zuul.message.http.HttpResponseMessageImpl;
+import com.netflix.zuul.netty.connectionpool.ConnectionPoolSnapshot;
+import com.netflix.zuul.origins.NettyOrigin;
+import com.netflix.zuul.origins.OriginManager;
+import com.netflix.zuul.stats.status.StatusCategoryUtils;
+import com.netflix.zuul.stats.status.ZuulStatusCategory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import rx.Observable;
+
+/**
+ * Optional admin endpoint that renders a {@link ConnectionPoolSnapshot} of every origin known to the request's
+ * {@link OriginManager} as JSON.  An {@code origin} query param limits the output to origins with that name.
+ *
+ * <p>Like any other endpoint, it is only reachable if a routing filter chooses it, so it should be routed to only from
+ * an admin port or path.
+ */
+public class ConnectionPoolStatusEndpoint extends Endpoint<HttpRequestMessage, HttpResponseMessage> {
+    private static final Logger LOG = LoggerFactory.getLogger(ConnectionPoolStatusEndpoint.class);
+    private static final ObjectMapper JACKSON_MAPPER = new ObjectMapper();
+
+    @Override
+    public Observable<HttpResponseMessage> applyAsync(HttpRequestMessage request) {
+        SessionContext context = request.getContext();
+        @SuppressWarnings("unchecked")
+        OriginManager<? extends NettyOrigin> originManager =
+                (OriginManager<? extends NettyOrigin>) context.get(CommonContextKeys.ORIGIN_MANAGER);
+        String originFilter = request.getQueryParams().getFirst("origin");
+
+        List<CompletableFuture<ConnectionPoolSnapshot>> snapshots = new ArrayList<>();
+        if (originManager != null) {
+            for (NettyOrigin origin : originManager.getOrigins()) {
+                if (originFilter == null || originFilter.equals(origin.getName().getTarget())) {
+                    // Origins that can't be introspected are left out, rather than failing the whole request.
+                    snapshots.add(origin.getConnectionPoolSnapshot().exceptionally(e -> null));
+                }
+            }
+        }
+
+        CompletableFuture<List<ConnectionPoolSnapshot>> all = CompletableFuture.allOf(
+                        snapshots.toArray(new CompletableFuture<?>[0]))
+                .thenApply(ignored -> snapshots.stream()
+                        .map(CompletableFuture::join)
+                        .filter(Objects::nonNull)
+                        .toList());
+
+        return Observable.create(subscriber -> all.whenComplete((result, error) -> {
+            subscriber.onNext(error == null ? toResponse(request, result) : getDefaultOutput(request));
+            subscriber.onCompleted();
+        }));
+    }
+
+    private HttpResponseMessage toResponse(HttpRequestMessage request, List<ConnectionPoolSnapshot> snapshots) {
+        HttpResponseMessage resp;
+        try {
+            String json = JACKSON_MAPPER.writeValueAsString(snapshots);
+            resp = new HttpResponseMessageImpl(request.getContext(), request, 200);
+            resp.getHeaders().set("Content-Type", "application/json");
+            resp.setBodyAsText(json);
+        } catch (JsonProcessingException e) {
+            LOG.warn("Failed to render connection pool snapshots", e);
+            return getDefaultOutput(request);
+        }
+
+        // need to set this manually since we are not going through the ProxyEndpoint
+        StatusCategoryUtils.setStatusCategory(request.getContext(), ZuulStatusCategory.SUCCESS);
+        return resp;
+    }
+
+    @Override
+    public HttpResponseMessage getDefaultOutput(HttpRequestMessage request) {
+        return HttpResponseMessageImpl.defaultErrorResponse(request);
+    }
+}
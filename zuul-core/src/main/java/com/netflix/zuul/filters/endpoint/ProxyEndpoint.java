@@ -58,6 +58,7 @@ import com.netflix.zuul.netty.filter.FilterRunner;
 import com.netflix.zuul.netty.server.ClientRequestReceiver;
 import com.netflix.zuul.netty.server.MethodBinding;
 import com.netflix.zuul.netty.server.OriginResponseReceiver;
+import com.netflix.zuul.netty.server.OriginResponseReceiverBinding;
 import com.netflix.zuul.netty.timeouts.OriginTimeoutManager;
 import com.netflix.zuul.niws.RequestAttempt;
 import com.netflix.zuul.niws.RequestAttempts;
@@ -76,7 +77,6 @@ import com.netflix.zuul.util.VipUtils;
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
-import io.netty.channel.ChannelPipeline;
 import io.netty.handler.codec.http.DefaultFullHttpResponse;
 import io.netty.handler.codec.http.DefaultLastHttpContent;
 import io.netty.handler.codec.http.HttpContent;
@@ -453,14 +453,9 @@ public class ProxyEndpoint extends SyncZuulFilterAdapter<HttpRequestMessage, Htt
         // case the discovery info is not an IP.
         Map<Integer, String> attemptToIpAddressMap =
                 (Map<Integer, String>) eventProps.get(ZUUL_ORIGIN_ATTEMPT_IPADDR_MAP_KEY);
-        Map<Integer, InetAddress> attemptToChosenHostMap = (Map<Integer, InetAddress>)
-                eventProps.get(CommonContextKeys.ZUUL_ORIGIN_CHOSEN_HOST_ADDR_MAP_KEY.name());
         if (attemptToIpAddressMap == null) {
             attemptToIpAddressMap = new HashMap<>();
         }
-        if (attemptToChosenHostMap == null) {
-            attemptToChosenHostMap = new HashMap<>();
-        }
 
         // the chosen server can be null in the case of a timeout exception that skips acquiring a new origin connection
         String ipAddr = origin.getIpAddrFromServer(chosenServer.get());
@@ -469,15 +464,27 @@ public class ProxyEndpoint extends SyncZuulFilterAdapter<HttpRequestMessage, Htt
             eventProps.put(ZUUL_ORIGIN_ATTEMPT_IPADDR_MAP_KEY, attemptToIpAddressMap);
         }
 
-        if (chosenHostAddr.get() != null) {
-            attemptToChosenHostMap.put(attemptNum, chosenHostAddr.get());
-            eventProps.put(CommonContextKeys.ZUUL_ORIGIN_CHOSEN_HOST_ADDR_MAP_KEY.name(), attemptToChosenHostMap);
-            context.put(CommonContextKeys.ZUUL_ORIGIN_CHOSEN_HOST_ADDR_MAP_KEY, attemptToChosenHostMap);
-        }
+        storeChosenHostAddr();
 
         eventProps.put(ZUUL_ORIGIN_REQUEST_URI, zuulRequest.getPathAndQuery());
     }
 
+    private void storeChosenHostAddr() {
+        InetAddress hostAddr = chosenHostAddr.get();
+        if (hostAddr == null) {
+            return;
+        }
+        Map<String, Object> eventProps = context.getEventProperties();
+        Map<Integer, InetAddress> attemptToChosenHostMap = (Map<Integer, InetAddress>)
+                eventProps.get(CommonContextKeys.ZUUL_ORIGIN_CHOSEN_HOST_ADDR_MAP_KEY.name());
+        if (attemptToChosenHostMap == null) {
+            attemptToChosenHostMap = new HashMap<>();
+        }
+        attemptToChosenHostMap.put(attemptNum, hostAddr);
+        eventProps.put(CommonContextKeys.ZUUL_ORIGIN_CHOSEN_HOST_ADDR_MAP_KEY.name(), attemptToChosenHostMap);
+        context.put(CommonContextKeys.ZUUL_ORIGIN_CHOSEN_HOST_ADDR_MAP_KEY, attemptToChosenHostMap);
+    }
+
     protected void updateOriginRpsTrackers(NettyOrigin origin, int attempt) {
         // override
     }
@@ -582,6 +589,13 @@ public class ProxyEndpoint extends SyncZuulFilterAdapter<HttpRequestMessage, Htt
     private void onOriginConnectSucceeded(PooledConnection conn, Duration readTimeout) {
         passport.add(PassportState.ORIGIN_CONN_ACQUIRE_END);
 
+        // A host name is only resolved once connected, so its address wasn't known when the attempt was recorded.
+        InetAddress hostAddr = chosenHostAddr.get();
+        if (hostAddr != null && currentRequestAttempt.getIpAddress() == null) {
+            currentRequestAttempt.setIpAddress(hostAddr.getHostAddress());
+            storeChosenHostAddr();
+        }
+
         if (context.isCancelled()) {
             logger.info("Client cancelled after successful origin connect: {}", conn.getChannel());
 
@@ -616,12 +630,17 @@ public class ProxyEndpoint extends SyncZuulFilterAdapter<HttpRequestMessage, Htt
 
         preWriteToOrigin(chosenServer.get(), zuulRequest);
 
-        ChannelPipeline pipeline = ch.pipeline();
         originResponseReceiver = getOriginResponseReceiver();
-        pipeline.addBefore(
-                DefaultOriginChannelInitializer.CONNECTION_POOL_HANDLER,
-                OriginResponseReceiver.CHANNEL_HANDLER_NAME,
-                originResponseReceiver);
+        OriginResponseReceiverBinding binding = conn.getResponseReceiverBinding();
+        if (binding != null) {
+            binding.bindReceiver(originResponseReceiver);
+        } else {
+            ch.pipeline()
+                    .addBefore(
+                            DefaultOriginChannelInitializer.CONNECTION_POOL_HANDLER,
+                            OriginResponseReceiver.CHANNEL_HANDLER_NAME,
+                            originResponseReceiver);
+        }
 
         ch.write(zuulRequest);
         writeBufferedBodyContent(zuulRequest, ch);
@@ -860,6 +879,7 @@ public class ProxyEndpoint extends SyncZuulFilterAdapter<HttpRequestMessage, Htt
         if (currentRequestAttempt != null) {
             currentRequestAttempt.complete(respStatus, duration, null);
         }
+        origin.recordOriginResponse(chosenServer, respStatus, duration);
         // separate nfstatus for 404 so that we can notify origins
         ByteBufUtil.touch(originResponse, "ProxyEndpoint handling successful response, request: ", zuulRequest);
         StatusCategory statusCategory =
@@ -956,6 +976,7 @@ public class ProxyEndpoint extends SyncZuulFilterAdapter<HttpRequestMessage, Htt
         if (currentRequestAttempt != null) {
             currentRequestAttempt.complete(respStatus, duration, obe);
         }
+        origin.recordOriginResponse(chosenServer, respStatus, duration);
 
         // Flag this error with the ExecutionListener.
         origin.onRequestExceptionWithServer(zuulRequest, chosenServer, attemptNum, new ClientException(niwsErrorType));
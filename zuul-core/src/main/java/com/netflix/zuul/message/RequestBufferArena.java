@@ -0,0 +1,160 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.zuul.message;
+
+import com.netflix.config.CachedDynamicBooleanProperty;
+import com.netflix.config.CachedDynamicIntProperty;
+import com.netflix.zuul.context.CommonContextKeys;
+import com.netflix.zuul.context.SessionContext;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.util.concurrent.EventExecutor;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import javax.annotation.Nullable;
+
+/**
+ * Request-scoped source of {@link ByteBuf}s for bodies built at the ZuulMessage level (static responses,
+ * {@code setBody()}/{@code setBodyAsText()}, gzip output, ...).
+ *
+ * <p>Small buffers are carved out of slabs taken from the client channel's {@link ByteBufAllocator}, rather than
+ * being allocated as unpooled heap buffers.  Each handed out buffer is a retained slice of its slab, so it can be
+ * written and released like any other buffer; the arena drops its own reference to the slabs in one sweep when the
+ * request completes, at which point the memory goes back to the pool as soon as the last slice is released.  Larger
+ * buffers are allocated straight from the channel allocator.
+ *
+ * <p>The arena is confined to the channel's event loop.  Allocations made from any other thread (e.g. by an async
+ * filter) bypass the slab and go directly to the allocator.
+ */
+public final class RequestBufferArena {
+
+    private static final CachedDynamicBooleanProperty ENABLED =
+            new CachedDynamicBooleanProperty("zuul.request.buffer.arena.enabled", true);
+
+    private static final CachedDynamicIntProperty SLAB_SIZE =
+            new CachedDynamicIntProperty("zuul.request.buffer.arena.slabSize", 8192);
+
+    private final ByteBufAllocator alloc;
+    private final EventExecutor executor;
+    private final int slabSize;
+
+    @Nullable private ByteBuf slab;
+
+    private boolean released;
+
+    public RequestBufferArena(ByteBufAllocator alloc, EventExecutor executor) {
+        this(alloc, executor, SLAB_SIZE.get());
+    }
+
+    RequestBufferArena(ByteBufAllocator alloc, EventExecutor executor, int slabSize) {
+        this.alloc = Objects.requireNonNull(alloc, "alloc");
+        this.executor = Objects.requireNonNull(executor, "executor");
+        this.slabSize = slabSize;
+    }
+
+    /**
+     * Creates an arena for the request, and stores it in the context, if arenas are enabled.
+     */
+    @Nullable public static RequestBufferArena install(
+            SessionContext context, ByteBufAllocator alloc, EventExecutor executor) {
+        if (!ENABLED.get()) {
+            return null;
+        }
+        RequestBufferArena arena = new RequestBufferArena(alloc, executor);
+        context.put(CommonContextKeys.BUFFER_ARENA, arena);
+        return arena;
+    }
+
+    /**
+     * Returns an empty buffer with room for exactly {@code size} bytes from the context's arena, or an unpooled buffer
+     * if the context has none.  Unlike {@link Unpooled#buffer(int)}, the buffer can't grow: writing more than
+     * {@code size} bytes throws {@link IndexOutOfBoundsException}, so callers must know the size up front.
+     */
+    public static ByteBuf fixedCapacityBuffer(SessionContext context, int size) {
+        RequestBufferArena arena = context.get(CommonContextKeys.BUFFER_ARENA);
+        if (arena == null) {
+            return Unpooled.buffer(size, size);
+        }
+        return arena.buffer(size);
+    }
+
+    /**
+     * Copies {@code bytes} into a buffer from the context's arena, or into an unpooled buffer if the context has none.
+     */
+    public static ByteBuf copiedBuffer(SessionContext context, byte[] bytes) {
+        RequestBufferArena arena = context.get(CommonContextKeys.BUFFER_ARENA);
+        if (arena == null) {
+            return Unpooled.copiedBuffer(bytes);
+        }
+        return arena.buffer(bytes.length).writeBytes(bytes);
+    }
+
+    /**
+     * Encodes {@code text} as UTF-8 into a buffer from the context's arena, or into an unpooled buffer if the context
+     * has none.
+     */
+    public static ByteBuf utf8Buffer(SessionContext context, CharSequence text) {
+        RequestBufferArena arena = context.get(CommonContextKeys.BUFFER_ARENA);
+        if (arena == null) {
+            return Unpooled.copiedBuffer(text, StandardCharsets.UTF_8);
+        }
+        int length = ByteBufUtil.utf8Bytes(text);
+        ByteBuf buf = arena.buffer(length);
+        ByteBufUtil.reserveAndWriteUtf8(buf, text, length);
+        return buf;
+    }
+
+    /**
+     * Returns an empty buffer with room for exactly {@code size} bytes, which can't grow beyond that.
+     */
+    public ByteBuf buffer(int size) {
+        if (released || size > slabSize / 2 || !executor.inEventLoop()) {
+            return alloc.buffer(size, size);
+        }
+        if (slab == null || slab.writableBytes() < size) {
+            if (slab != null) {
+                slab.release();
+            }
+            slab = alloc.buffer(slabSize, slabSize);
+        }
+        ByteBuf buf = slab.retainedSlice(slab.writerIndex(), size);
+        slab.writerIndex(slab.writerIndex() + size);
+        return buf.clear();
+    }
+
+    /**
+     * Drops the arena's reference to its current slab.  Buffers already handed out stay valid until they are
+     * released; any later allocations go directly to the channel allocator.
+     */
+    public void release() {
+        if (executor.inEventLoop()) {
+            releaseInternal();
+        } else {
+            executor.execute(this::releaseInternal);
+        }
+    }
+
+    private void releaseInternal() {
+        released = true;
+        if (slab != null) {
+            slab.release();
+            slab = null;
+        }
+    }
+}
@@ -24,7 +24,6 @@ import com.netflix.zuul.context.SessionContext;
 import com.netflix.zuul.filters.ZuulFilter;
 import com.netflix.zuul.message.http.HttpHeaderNames;
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.Unpooled;
 import io.netty.handler.codec.http.DefaultLastHttpContent;
 import io.netty.handler.codec.http.HttpContent;
 import io.netty.handler.codec.http.LastHttpContent;
@@ -113,9 +112,9 @@ public class ZuulMessageImpl implements ZuulMessage {
     public void setBodyAsText(String bodyText) {
         disposeBufferedBody();
         if (!Strings.isNullOrEmpty(bodyText)) {
-            byte[] bytes = bodyText.getBytes(Charsets.UTF_8);
-            bufferBodyContents(new DefaultLastHttpContent(Unpooled.wrappedBuffer(bytes)));
-            setContentLength(bytes.length);
+            ByteBuf content = RequestBufferArena.utf8Buffer(context, bodyText);
+            bufferBodyContents(new DefaultLastHttpContent(content));
+            setContentLength(content.readableBytes());
         } else {
             bufferBodyContents(new DefaultLastHttpContent());
             setContentLength(0);
@@ -126,7 +125,7 @@ public class ZuulMessageImpl implements ZuulMessage {
     public void setBody(byte[] body) {
         disposeBufferedBody();
         if (body != null && body.length > 0) {
-            ByteBuf content = Unpooled.copiedBuffer(body);
+            ByteBuf content = RequestBufferArena.copiedBuffer(context, body);
             bufferBodyContents(new DefaultLastHttpContent(content));
             setContentLength(body.length);
         } else {
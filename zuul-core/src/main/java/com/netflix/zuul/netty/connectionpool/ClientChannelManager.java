@@ -21,6 +21,7 @@ import com.netflix.zuul.passport.CurrentPassport;
 import io.netty.channel.EventLoop;
 import io.netty.util.concurrent.Promise;
 import java.net.InetAddress;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicReference;
 
 /**
@@ -61,4 +62,18 @@ public interface ClientChannelManager {
     int getConnsInUse();
 
     ConnectionPoolConfig getConfig();
+
+    /**
+     * Captures the state of all the per server pools, broken down by event loop.  The state is collected by tasks
+     * submitted to each event loop, so the returned future completes asynchronously.
+     */
+    default CompletableFuture<ConnectionPoolSnapshot> snapshot() {
+        return CompletableFuture.failedFuture(
+                new UnsupportedOperationException(getClass().getName() + " does not support snapshots"));
+    }
+
+    /**
+     * Notes the status and duration of a response from {@code server}, for outlier detection.
+     */
+    default void recordResponse(DiscoveryResult server, int statusCode, long durationMs) {}
 }
@@ -34,9 +34,50 @@ public interface ConnectionPoolConfig {
 
     int perServerWaterline();
 
+    /* Whether to size each server's idle pool, on each event loop, from its recent concurrent demand instead of
+    perServerWaterline */
+    default boolean isAdaptiveWaterline() {
+        return false;
+    }
+
+    /* Length of the windows that peak concurrent demand is measured over when the waterline is adaptive */
+    default int getAdaptiveWaterlineWindowMs() {
+        return 1000;
+    }
+
+    /* Max age of a connection before it needs to be recycled, or -1 for no limit */
+    default int getMaxConnectionLifetimeMs() {
+        return -1;
+    }
+
+    /* Idle connections to keep open to each server, on each event loop, ahead of requests needing them */
+    default int minIdlePerServerPerEventLoop() {
+        return 0;
+    }
+
+    /* How often each event loop tops its pools back up to minIdlePerServerPerEventLoop */
+    default int getWarmUpIntervalMs() {
+        return 1000;
+    }
+
+    /* Whether an event loop with no idle connections to a server borrows one from another event loop's pool */
+    default boolean isBorrowAcrossEventLoops() {
+        return false;
+    }
+
     /* Origin client TCP configuration options */
     int getConnectTimeout();
 
+    /* Delay after which a connect that is still in progress is raced by a second attempt, or -1 to never race */
+    default int getConnectRaceDelayMs() {
+        return -1;
+    }
+
+    /* Max flushes to origin to hold back and coalesce into one, or 0 to flush every time */
+    default int getFlushConsolidationMaxFlushes() {
+        return 0;
+    }
+
     /* number of milliseconds connection can stay idle in a connection pool before it is closed */
     int getIdleTimeout();
 
@@ -58,7 +99,22 @@ public interface ConnectionPoolConfig {
 
     boolean useIPAddrForServer();
 
+    /* Whether host names are resolved on the event loop through a TTL-respecting cache, rather than blocking */
+    default boolean isAsyncDnsResolution() {
+        return true;
+    }
+
     default boolean isCloseOnCircuitBreakerEnabled() {
         return true;
     }
+
+    /* Whether to multiplex requests as HTTP/2 streams over shared origin connections */
+    default boolean isHttp2() {
+        return false;
+    }
+
+    /* Upper bound on concurrent HTTP/2 streams per origin connection, further limited by the origin's SETTINGS */
+    default int getHttp2MaxConcurrentStreams() {
+        return 100;
+    }
 }
@@ -29,27 +29,82 @@ public class ConnectionPoolConfigImpl implements ConnectionPoolConfig {
 
     static final int DEFAULT_BUFFER_SIZE = 32 * 1024;
     static final int DEFAULT_CONNECT_TIMEOUT = 500;
+    static final int DEFAULT_CONNECT_RACE_DELAY_MS = -1;
     static final int DEFAULT_IDLE_TIMEOUT = 60000;
     static final int DEFAULT_MAX_CONNS_PER_HOST = 50;
     static final int DEFAULT_PER_SERVER_WATERLINE = 4;
+    static final int DEFAULT_MIN_IDLE_PER_SERVER_PER_EVENT_LOOP = 0;
+    static final int DEFAULT_WARM_UP_INTERVAL = 1000;
     static final int DEFAULT_MAX_REQUESTS_PER_CONNECTION = 1000;
+    static final int DEFAULT_ADAPTIVE_WATERLINE_WINDOW_MS = 1000;
+    static final int DEFAULT_MAX_CONNECTION_LIFETIME_MS = -1;
+    static final int DEFAULT_HTTP2_MAX_CONCURRENT_STREAMS = 100;
+    static final int DEFAULT_FLUSH_CONSOLIDATION_MAX_FLUSHES = 0;
 
     // TODO(argha-c): Document why these values were chosen, as opposed to defaults of 32k/64k
     static final int DEFAULT_WRITE_BUFFER_HIGH_WATER_MARK = 32 * 1024;
     static final int DEFAULT_WRITE_BUFFER_LOW_WATER_MARK = 8 * 1024;
 
+    /**
+     * Should be well under the ConnectTimeout, and above the usual connect time to the origin, so that only connects
+     * that have stalled (typically on a lost SYN) are raced.
+     */
+    public static final IClientConfigKey<Integer> CONNECT_RACE_DELAY_MS =
+            new CommonClientConfigKey<>("ConnectRaceDelayMs") {};
+
     /**
      * NOTE that each eventloop has its own connection pool per host, and this is applied per event-loop.
      */
     public static final IClientConfigKey<Integer> PER_SERVER_WATERLINE =
             new CommonClientConfigKey<>("PerServerWaterline") {};
 
+    /**
+     * NOTE that like the waterline, this is applied per event-loop, and is capped by it.
+     */
+    public static final IClientConfigKey<Integer> MIN_IDLE_PER_SERVER_PER_EVENT_LOOP =
+            new CommonClientConfigKey<>("MinIdlePerServerPerEventLoop") {};
+
+    /**
+     * When enabled, PerServerWaterline is ignored, and each event-loop instead keeps as many idle connections to a
+     * server as it has recently needed at once.
+     */
+    public static final IClientConfigKey<Boolean> ADAPTIVE_WATERLINE =
+            new CommonClientConfigKey<>("AdaptiveWaterline") {};
+
+    public static final IClientConfigKey<Integer> ADAPTIVE_WATERLINE_WINDOW_MS =
+            new CommonClientConfigKey<>("AdaptiveWaterlineWindowMs") {};
+
+    public static final IClientConfigKey<Integer> WARM_UP_INTERVAL_MS =
+            new CommonClientConfigKey<>("WarmUpIntervalMs") {};
+
+    /**
+     * When enabled, an event-loop with no idle connections to a server moves one over from another event-loop's pool,
+     * if there is one, rather than opening a new connection.
+     */
+    public static final IClientConfigKey<Boolean> BORROW_ACROSS_EVENT_LOOPS =
+            new CommonClientConfigKey<>("BorrowAcrossEventLoops") {};
+
     public static final IClientConfigKey<Boolean> CLOSE_ON_CIRCUIT_BREAKER =
             new CommonClientConfigKey<>("CloseOnCircuitBreaker") {};
 
     public static final IClientConfigKey<Integer> MAX_REQUESTS_PER_CONNECTION =
             new CommonClientConfigKey<>("MaxRequestsPerConnection") {};
 
+    /**
+     * Connections are recycled once they reach this age, as well as after MaxRequestsPerConnection requests, so that
+     * origins that scale out or move behind a new load balancer see traffic rebalance onto them.
+     */
+    public static final IClientConfigKey<Integer> MAX_CONNECTION_LIFETIME_MS =
+            new CommonClientConfigKey<>("MaxConnectionLifetimeMs") {};
+
+    /**
+     * Whether servers with a host name rather than an IP address are resolved asynchronously, on the event loop that
+     * connects to them, rather than by a blocking lookup when their pool is created.  On by default; turning it off
+     * brings back the blocking lookup.
+     */
+    public static final IClientConfigKey<Boolean> ASYNC_DNS_RESOLUTION =
+            new CommonClientConfigKey<>("AsyncDnsResolution") {};
+
     public static final IClientConfigKey<Boolean> TCP_KEEP_ALIVE = new CommonClientConfigKey<>("TcpKeepAlive") {};
 
     public static final IClientConfigKey<Boolean> TCP_NO_DELAY = new CommonClientConfigKey<>("TcpNoDelay") {};
@@ -62,6 +117,24 @@ public class ConnectionPoolConfigImpl implements ConnectionPoolConfig {
     public static final IClientConfigKey<Integer> WRITE_BUFFER_LOW_WATER_MARK =
             new CommonClientConfigKey<>("WriteBufferLowWaterMark") {};
 
+    /**
+     * Flushes of request data to the origin are deferred to the end of the current event loop task, so that the
+     * request head and any body chunks written together go out in one write (and TLS record).  Caps how many flushes
+     * can be held back; 0 disables it.
+     */
+    public static final IClientConfigKey<Integer> FLUSH_CONSOLIDATION_MAX_FLUSHES =
+            new CommonClientConfigKey<>("FlushConsolidationMaxFlushes") {};
+
+    /**
+     * When enabled, origin requests are sent as streams over shared HTTP/2 connections rather than each taking a
+     * connection of its own.  Secure origins must negotiate h2 via ALPN; plaintext origins must accept h2c with prior
+     * knowledge.
+     */
+    public static final IClientConfigKey<Boolean> HTTP2 = new CommonClientConfigKey<>("Http2") {};
+
+    public static final IClientConfigKey<Integer> HTTP2_MAX_CONCURRENT_STREAMS =
+            new CommonClientConfigKey<>("Http2MaxConcurrentStreams") {};
+
     private final OriginName originName;
     private final IClientConfig clientConfig;
 
@@ -80,6 +153,11 @@ public class ConnectionPoolConfigImpl implements ConnectionPoolConfig {
         return clientConfig.getPropertyAsInteger(IClientConfigKey.Keys.ConnectTimeout, DEFAULT_CONNECT_TIMEOUT);
     }
 
+    @Override
+    public int getConnectRaceDelayMs() {
+        return clientConfig.getPropertyAsInteger(CONNECT_RACE_DELAY_MS, DEFAULT_CONNECT_RACE_DELAY_MS);
+    }
+
     @Override
     public int getMaxRequestsPerConnection() {
         return clientConfig.getPropertyAsInteger(MAX_REQUESTS_PER_CONNECTION, DEFAULT_MAX_REQUESTS_PER_CONNECTION);
@@ -96,6 +174,37 @@ public class ConnectionPoolConfigImpl implements ConnectionPoolConfig {
         return clientConfig.getPropertyAsInteger(PER_SERVER_WATERLINE, DEFAULT_PER_SERVER_WATERLINE);
     }
 
+    @Override
+    public int minIdlePerServerPerEventLoop() {
+        return clientConfig.getPropertyAsInteger(
+                MIN_IDLE_PER_SERVER_PER_EVENT_LOOP, DEFAULT_MIN_IDLE_PER_SERVER_PER_EVENT_LOOP);
+    }
+
+    @Override
+    public boolean isAdaptiveWaterline() {
+        return clientConfig.getPropertyAsBoolean(ADAPTIVE_WATERLINE, false);
+    }
+
+    @Override
+    public int getAdaptiveWaterlineWindowMs() {
+        return clientConfig.getPropertyAsInteger(ADAPTIVE_WATERLINE_WINDOW_MS, DEFAULT_ADAPTIVE_WATERLINE_WINDOW_MS);
+    }
+
+    @Override
+    public int getMaxConnectionLifetimeMs() {
+        return clientConfig.getPropertyAsInteger(MAX_CONNECTION_LIFETIME_MS, DEFAULT_MAX_CONNECTION_LIFETIME_MS);
+    }
+
+    @Override
+    public int getWarmUpIntervalMs() {
+        return clientConfig.getPropertyAsInteger(WARM_UP_INTERVAL_MS, DEFAULT_WARM_UP_INTERVAL);
+    }
+
+    @Override
+    public boolean isBorrowAcrossEventLoops() {
+        return clientConfig.getPropertyAsBoolean(BORROW_ACROSS_EVENT_LOOPS, false);
+    }
+
     @Override
     public int getIdleTimeout() {
         return clientConfig.getPropertyAsInteger(
@@ -147,8 +256,29 @@ public class ConnectionPoolConfigImpl implements ConnectionPoolConfig {
         return clientConfig.getPropertyAsBoolean(IClientConfigKey.Keys.UseIPAddrForServer, true);
     }
 
+    @Override
+    public boolean isAsyncDnsResolution() {
+        return clientConfig.getPropertyAsBoolean(ASYNC_DNS_RESOLUTION, true);
+    }
+
     @Override
     public boolean isCloseOnCircuitBreakerEnabled() {
         return clientConfig.getPropertyAsBoolean(CLOSE_ON_CIRCUIT_BREAKER, true);
     }
+
+    @Override
+    public int getFlushConsolidationMaxFlushes() {
+        return clientConfig.getPropertyAsInteger(
+                FLUSH_CONSOLIDATION_MAX_FLUSHES, DEFAULT_FLUSH_CONSOLIDATION_MAX_FLUSHES);
+    }
+
+    @Override
+    public boolean isHttp2() {
+        return clientConfig.getPropertyAsBoolean(HTTP2, false);
+    }
+
+    @Override
+    public int getHttp2MaxConcurrentStreams() {
+        return clientConfig.getPropertyAsInteger(HTTP2_MAX_CONCURRENT_STREAMS, DEFAULT_HTTP2_MAX_CONCURRENT_STREAMS);
+    }
 }
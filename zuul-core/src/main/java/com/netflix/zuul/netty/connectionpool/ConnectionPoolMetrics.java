@@ -20,8 +20,10 @@ import com.netflix.spectator.api.Counter;
 import com.netflix.spectator.api.Registry;
 import com.netflix.spectator.api.histogram.PercentileTimer;
 import com.netflix.spectator.api.patterns.PolledMeter;
+import com.netflix.zuul.discovery.OutlierDetector;
+import com.netflix.zuul.discovery.ZoneAwareServerResolver;
 import com.netflix.zuul.origins.OriginName;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToDoubleFunction;
 
 /**
  * @author Justin Guerra
@@ -42,9 +44,7 @@ public record ConnectionPoolMetrics(
         Counter maxConnsPerHostExceededCounter,
         Counter closeWrtBusyConnCounter,
         Counter circuitBreakerClose,
-        PercentileTimer connEstablishTimer,
-        AtomicInteger connsInPool,
-        AtomicInteger connsInUse) {
+        PercentileTimer connEstablishTimer) {
 
     public static ConnectionPoolMetrics create(OriginName originName, Registry registry) {
         Counter createNewConnCounter = newCounter("connectionpool_create", originName, registry);
@@ -69,9 +69,6 @@ public record ConnectionPoolMetrics(
         PercentileTimer connEstablishTimer = PercentileTimer.get(
                 registry, registry.createId("connectionpool_createTiming", "id", originName.getMetricId()));
 
-        AtomicInteger connsInPool = newGauge("connectionpool_inPool", originName, registry);
-        AtomicInteger connsInUse = newGauge("connectionpool_inUse", originName, registry);
-
         return new ConnectionPoolMetrics(
                 createNewConnCounter,
                 createConnSucceededCounter,
@@ -87,19 +84,62 @@ public record ConnectionPoolMetrics(
                 maxConnsPerHostExceededCounter,
                 closeWrtBusyConnCounter,
                 circuitBreakerClose,
-                connEstablishTimer,
-                connsInPool,
-                connsInUse);
+                connEstablishTimer);
+    }
+
+    /**
+     * Registers the in pool and in use gauges.  These are polled from the channel manager, which sums up the per event
+     * loop counts of each server pool, rather than being maintained as origin wide atomics on every acquire and
+     * release.
+     */
+    public static void monitorPoolSizes(ClientChannelManager channelManager, OriginName originName, Registry registry) {
+        newGauge("connectionpool_inPool", originName, registry, channelManager, ClientChannelManager::getConnsInPool);
+        newGauge("connectionpool_inUse", originName, registry, channelManager, ClientChannelManager::getConnsInUse);
+    }
+
+    /**
+     * Requests kept in and routed out of the local zone, and the share currently kept in it.
+     */
+    public static void monitorZoneAffinity(ZoneAwareServerResolver resolver, OriginName originName, Registry registry) {
+        PolledMeter.using(registry)
+                .withName("connectionpool_zoneAffinityRequests")
+                .withTag("id", originName.getMetricId())
+                .withTag("zone", "local")
+                .monitorMonotonicCounter(resolver, ZoneAwareServerResolver::getLocalZoneRequests);
+        PolledMeter.using(registry)
+                .withName("connectionpool_zoneAffinityRequests")
+                .withTag("id", originName.getMetricId())
+                .withTag("zone", "cross")
+                .monitorMonotonicCounter(resolver, ZoneAwareServerResolver::getCrossZoneRequests);
+        PolledMeter.using(registry)
+                .withName("connectionpool_zoneAffinityLocalShare")
+                .withTag("id", originName.getMetricId())
+                .monitorValue(resolver, ZoneAwareServerResolver::getLocalShare);
+    }
+
+    public static void monitorOutlierEjections(OutlierDetector detector, OriginName originName, Registry registry) {
+        for (OutlierDetector.Reason reason : OutlierDetector.Reason.values()) {
+            PolledMeter.using(registry)
+                    .withName("connectionpool_outlierEjections")
+                    .withTag("id", originName.getMetricId())
+                    .withTag("reason", reason.name())
+                    .monitorMonotonicCounter(detector, d -> d.getEjections(reason));
+        }
     }
 
     private static Counter newCounter(String metricName, OriginName originName, Registry registry) {
         return registry.counter(metricName, "id", originName.getMetricId());
     }
 
-    private static AtomicInteger newGauge(String metricName, OriginName originName, Registry registry) {
-        return PolledMeter.using(registry)
+    private static void newGauge(
+            String metricName,
+            OriginName originName,
+            Registry registry,
+            ClientChannelManager channelManager,
+            ToDoubleFunction<ClientChannelManager> f) {
+        PolledMeter.using(registry)
                 .withName(metricName)
                 .withTag("id", originName.getMetricId())
-                .monitorValue(new AtomicInteger());
+                .monitorValue(channelManager, f);
     }
 }
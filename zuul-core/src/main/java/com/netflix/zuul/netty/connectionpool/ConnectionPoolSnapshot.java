@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.zuul.netty.connectionpool;
+
+import com.netflix.zuul.discovery.DiscoveryResult;
+import java.util.List;
+
+/**
+ * Point-in-time view of an origin's connection pools, broken down by server and event loop.  See
+ * {@link ClientChannelManager#snapshot()}.
+ *
+ * <p>Each event loop's part of the snapshot is taken on that event loop, so is consistent in itself, but different
+ * event loops (and servers) are captured at slightly different times.
+ */
+public record ConnectionPoolSnapshot(
+        String origin,
+        long timestampMillis,
+        boolean available,
+        boolean cold,
+        int connsInPool,
+        int connsInUse,
+        List<ServerSnapshot> servers) {
+
+    public record ServerSnapshot(
+            String serverId,
+            String host,
+            int port,
+            boolean available,
+            int openConnections,
+            int activeRequests,
+            List<EventLoopSnapshot> eventLoops) {
+
+        static ServerSnapshot of(DiscoveryResult server, IConnectionPool pool, List<EventLoopSnapshot> eventLoops) {
+            return new ServerSnapshot(
+                    server.getServerId(),
+                    server.getHost(),
+                    server.getPort(),
+                    pool.isAvailable(),
+                    server.getOpenConnectionsCount(),
+                    server.getActiveRequestsCount(),
+                    eventLoops);
+        }
+    }
+
+    /**
+     * A single server's pool on a single event loop.  Only the idle connections are listed individually, since
+     * connections in use are not tracked by the pool.  The waterline is the most idle connections the pool will keep,
+     * or -1 if unlimited.
+     */
+    public record EventLoopSnapshot(
+            String eventLoop,
+            int idle,
+            int inUse,
+            int warmingUp,
+            int waterline,
+            List<ConnectionSnapshot> idleConnections) {}
+
+    public record ConnectionSnapshot(String channelId, long ageMillis, long usageCount, boolean active) {
+
+        static ConnectionSnapshot of(PooledConnection conn) {
+            return new ConnectionSnapshot(
+                    conn.getChannel().id().asShortText(),
+                    conn.getAgeInMillis(),
+                    conn.getUsageCount(),
+                    conn.isActive());
+        }
+    }
+}
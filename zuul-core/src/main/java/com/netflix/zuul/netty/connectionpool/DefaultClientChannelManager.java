@@ -22,17 +22,24 @@ import com.netflix.client.config.IClientConfig;
 import com.netflix.spectator.api.Counter;
 import com.netflix.spectator.api.Registry;
 import com.netflix.spectator.api.histogram.PercentileTimer;
+import com.netflix.zuul.discovery.ConsistentHashServerResolver;
 import com.netflix.zuul.discovery.DiscoveryResult;
 import com.netflix.zuul.discovery.DynamicServerResolver;
+import com.netflix.zuul.discovery.OutlierDetector;
+import com.netflix.zuul.discovery.P2CServerResolver;
 import com.netflix.zuul.discovery.ResolverResult;
+import com.netflix.zuul.discovery.ZoneAwareServerResolver;
 import com.netflix.zuul.exception.OutboundErrorType;
 import com.netflix.zuul.netty.SpectatorUtils;
 import com.netflix.zuul.netty.insights.PassportStateHttpClientHandler;
 import com.netflix.zuul.netty.server.OriginResponseReceiver;
+import com.netflix.zuul.netty.server.OriginResponseReceiverBinding;
 import com.netflix.zuul.origins.OriginName;
+import com.netflix.zuul.origins.StaticServerResolver;
 import com.netflix.zuul.passport.CurrentPassport;
 import com.netflix.zuul.resolver.Resolver;
 import com.netflix.zuul.resolver.ResolverListener;
+import com.netflix.zuul.resolver.ServerSetDiff;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInitializer;
@@ -40,14 +47,17 @@ import io.netty.channel.ChannelPipeline;
 import io.netty.channel.EventLoop;
 import io.netty.handler.timeout.IdleStateHandler;
 import io.netty.util.concurrent.Promise;
+import io.netty.util.concurrent.ScheduledFuture;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import javax.annotation.Nullable;
 import org.slf4j.Logger;
@@ -70,13 +80,26 @@ public class DefaultClientChannelManager implements ClientChannelManager {
     protected final ConcurrentHashMap<DiscoveryResult, IConnectionPool> perServerPools;
     protected final ConnectionPoolMetrics metrics;
 
+    @Nullable private final OutlierDetector outlierDetector;
+
+    /**
+     * The event loops that have acquired connections, each of which runs a periodic warm-up task when
+     * MinIdlePerServerPerEventLoop is set.
+     */
+    private final ConcurrentHashMap<EventLoop, ScheduledFuture<?>> warmUpTasks = new ConcurrentHashMap<>();
+
+    /**
+     * Event loops whose last warm-up found a server with fewer connections than it should have.
+     */
+    private final Set<EventLoop> coldEventLoops = ConcurrentHashMap.newKeySet();
+
     protected NettyClientConnectionFactory clientConnFactory;
     protected OriginChannelInitializer channelInitializer;
 
     private volatile boolean shuttingDown = false;
 
     public DefaultClientChannelManager(OriginName originName, IClientConfig clientConfig, Registry registry) {
-        this(originName, clientConfig, new DynamicServerResolver(clientConfig), registry);
+        this(originName, clientConfig, createResolver(clientConfig), registry);
     }
 
     public DefaultClientChannelManager(
@@ -91,6 +114,32 @@ public class DefaultClientChannelManager implements ClientChannelManager {
         this.connPoolConfig = new ConnectionPoolConfigImpl(originName, this.clientConfig);
 
         this.metrics = ConnectionPoolMetrics.create(originName, registry);
+        ConnectionPoolMetrics.monitorPoolSizes(this, originName, registry);
+        if (resolver instanceof ZoneAwareServerResolver zoneAwareResolver) {
+            ConnectionPoolMetrics.monitorZoneAffinity(zoneAwareResolver, originName, registry);
+        }
+
+        if (OutlierDetector.isEnabled(clientConfig)) {
+            this.outlierDetector = new OutlierDetector(clientConfig, resolver::getServers);
+            ConnectionPoolMetrics.monitorOutlierEjections(outlierDetector, originName, registry);
+        } else {
+            this.outlierDetector = null;
+        }
+    }
+
+    private static Resolver<DiscoveryResult> createResolver(IClientConfig clientConfig) {
+        if (StaticServerResolver.isEnabled(clientConfig)) {
+            return StaticServerResolver.create(clientConfig);
+        }
+        if (ConsistentHashServerResolver.isEnabled(clientConfig)) {
+            return new ConsistentHashServerResolver(clientConfig);
+        }
+        if (ZoneAwareServerResolver.isEnabled(clientConfig)) {
+            return new ZoneAwareServerResolver(clientConfig);
+        }
+        return P2CServerResolver.isEnabled(clientConfig)
+                ? new P2CServerResolver(clientConfig)
+                : new DynamicServerResolver(clientConfig);
     }
 
     @Override
@@ -122,9 +171,16 @@ public class DefaultClientChannelManager implements ClientChannelManager {
         return dynamicServerResolver.hasServers();
     }
 
+    /**
+     * An origin is cold when it should be keeping idle connections ready, but hasn't got them yet: either no event loop
+     * has used it yet, or the last warm-up on some event loop found a server short of connections.
+     */
     @Override
     public boolean isCold() {
-        return false;
+        if (connPoolConfig.minIdlePerServerPerEventLoop() <= 0) {
+            return false;
+        }
+        return warmUpTasks.isEmpty() || !coldEventLoops.isEmpty();
     }
 
     @Override
@@ -137,6 +193,7 @@ public class DefaultClientChannelManager implements ClientChannelManager {
         this.shuttingDown = true;
 
         dynamicServerResolver.shutdown();
+        cancelWarmUps();
 
         for (IConnectionPool pool : perServerPools.values()) {
             pool.shutdown();
@@ -153,6 +210,7 @@ public class DefaultClientChannelManager implements ClientChannelManager {
         LOG.info("Starting a graceful shutdown of {}", clientConfig.getClientName());
         shuttingDown = true;
         dynamicServerResolver.shutdown();
+        cancelWarmUps();
         perServerPools.values().forEach(IConnectionPool::drain);
     }
 
@@ -161,11 +219,15 @@ public class DefaultClientChannelManager implements ClientChannelManager {
 
         conn.stopRequestTimer();
         metrics.releaseConnCounter().increment();
-        metrics.connsInUse().decrementAndGet();
 
         DiscoveryResult discoveryResult = conn.getServer();
         updateServerStatsOnRelease(conn);
 
+        IConnectionPool pool = getPool(discoveryResult);
+        if (pool != null) {
+            pool.onRelease(conn);
+        }
+
         boolean released = false;
 
         if (conn.isShouldClose()) {
@@ -175,14 +237,15 @@ public class DefaultClientChannelManager implements ClientChannelManager {
             conn.close();
             LOG.debug(
                     "[{}] closing conn flagged to be closed", conn.getChannel().id());
-        } else if (isConnectionExpired(conn.getUsageCount())) {
+        } else if (isConnectionExpired(conn)) {
             conn.setInPool(false);
             conn.close();
             metrics.closeExpiredConnLifetimeCounter().increment();
             LOG.debug(
-                    "[{}] closing conn lifetime expired, usage: {}",
+                    "[{}] closing conn lifetime expired, usage: {}, age: {}ms",
                     conn.getChannel().id(),
-                    conn.getUsageCount());
+                    conn.getUsageCount(),
+                    conn.getAgeInMillis());
         } else if (connPoolConfig.isCloseOnCircuitBreakerEnabled() && discoveryResult.isCircuitBreakerTripped()) {
             LOG.debug(
                     "[{}] closing conn, server circuit breaker tripped",
@@ -202,7 +265,6 @@ public class DefaultClientChannelManager implements ClientChannelManager {
             releaseHandlers(conn);
 
             // Attempt to return connection to the pool.
-            IConnectionPool pool = perServerPools.get(discoveryResult);
             if (pool != null) {
                 released = pool.release(conn);
             } else {
@@ -219,6 +281,11 @@ public class DefaultClientChannelManager implements ClientChannelManager {
         return released;
     }
 
+    protected boolean isConnectionExpired(PooledConnection conn) {
+        return isConnectionExpired(conn.getUsageCount())
+                || conn.isPastLifetime(connPoolConfig.getMaxConnectionLifetimeMs());
+    }
+
     protected boolean isConnectionExpired(long usageCount) {
         // if the connection has been around too long (i.e. too many requests), then close it
         // TODO(argha-c): Document what is a reasonable default here, and the class of origins that optimizes for
@@ -232,15 +299,33 @@ public class DefaultClientChannelManager implements ClientChannelManager {
     }
 
     protected void releaseHandlers(PooledConnection conn) {
+        OriginResponseReceiverBinding binding = conn.getResponseReceiverBinding();
+        if (binding != null) {
+            binding.unbindReceiver();
+        } else {
+            removeHandlerFromPipeline(OriginResponseReceiver.CHANNEL_HANDLER_NAME, conn.getChannel().pipeline());
+        }
+        if (conn.isStream()) {
+            // Streams are closed rather than pooled, and idle handling is done on the connection they belong to.
+            return;
+        }
+        addIdleStateHandler(conn, connPoolConfig.getIdleTimeout());
+    }
+
+    static void addIdleStateHandler(PooledConnection conn, int idleTimeoutMs) {
+        OriginTimeoutHandler timeouts = conn.getTimeoutHandler();
+        if (timeouts != null) {
+            timeouts.startIdleTimeout(idleTimeoutMs, TimeUnit.MILLISECONDS);
+            return;
+        }
         ChannelPipeline pipeline = conn.getChannel().pipeline();
-        removeHandlerFromPipeline(OriginResponseReceiver.CHANNEL_HANDLER_NAME, pipeline);
         // The Outbound handler is always after the inbound handler, so look for it.
         ChannelHandlerContext passportStateHttpClientHandlerCtx =
                 pipeline.context(PassportStateHttpClientHandler.OutboundHandler.class);
         pipeline.addAfter(
                 passportStateHttpClientHandlerCtx.name(),
                 IDLE_STATE_HANDLER_NAME,
-                new IdleStateHandler(0, 0, connPoolConfig.getIdleTimeout(), TimeUnit.MILLISECONDS));
+                new IdleStateHandler(0, 0, idleTimeoutMs, TimeUnit.MILLISECONDS));
     }
 
     public static void removeHandlerFromPipeline(String handlerName, ChannelPipeline pipeline) {
@@ -259,14 +344,13 @@ public class DefaultClientChannelManager implements ClientChannelManager {
         }
 
         // Attempt to remove the connection from the pool.
-        IConnectionPool pool = perServerPools.get(conn.getServer());
+        IConnectionPool pool = getPool(conn.getServer());
         if (pool != null) {
             return pool.remove(conn);
         } else {
             // The pool for this server no longer exists (maybe due to it failling out of
             // discovery).
             conn.setInPool(false);
-            metrics.connsInPool().decrementAndGet();
             return false;
         }
     }
@@ -302,8 +386,50 @@ public class DefaultClientChannelManager implements ClientChannelManager {
             return promise;
         }
 
+        maybeStartWarmUp(eventLoop);
+
         // Now get the connection-pool for this server.
-        IConnectionPool pool = perServerPools.computeIfAbsent(chosenServer, s -> {
+        IConnectionPool pool = getOrCreatePool(chosenServer);
+        if (!pool.isAvailable()) {
+            // The server was chosen just as it left the server set, and its pool is now draining.  Choose again from
+            // the updated set rather than fail the request.
+            DiscoveryResult rechosen = dynamicServerResolver.resolve(key);
+            if (!Objects.equals(rechosen, DiscoveryResult.EMPTY)) {
+                chosenServer = rechosen;
+                selectedServer.set(chosenServer);
+                pool = getOrCreatePool(chosenServer);
+            }
+            if (!pool.isAvailable()) {
+                Promise<PooledConnection> promise = eventLoop.newPromise();
+                promise.setFailure(
+                        new OriginConnectException("No servers available", OutboundErrorType.NO_AVAILABLE_SERVERS));
+                return promise;
+            }
+        }
+        return pool.acquire(eventLoop, passport, selectedHostAddr);
+    }
+
+    /**
+     * Resolvers hand out the same result for a server while it stays in discovery, so its pool is attached to it to
+     * save a map lookup per request.  The map remains the source of truth, and covers results that aren't cached.
+     */
+    @Nullable private IConnectionPool getPool(DiscoveryResult server) {
+        Object attached = server.getAttachment();
+        return attached instanceof IConnectionPool ? (IConnectionPool) attached : perServerPools.get(server);
+    }
+
+    private IConnectionPool getOrCreatePool(DiscoveryResult chosenServer) {
+        Object attached = chosenServer.getAttachment();
+        if (attached instanceof IConnectionPool) {
+            return (IConnectionPool) attached;
+        }
+        IConnectionPool pool = createPoolIfAbsent(chosenServer);
+        chosenServer.setAttachment(pool);
+        return pool;
+    }
+
+    private IConnectionPool createPoolIfAbsent(DiscoveryResult chosenServer) {
+        return perServerPools.computeIfAbsent(chosenServer, s -> {
             SocketAddress finalServerAddr = pickAddress(chosenServer);
             ClientChannelManager clientChannelMgr = this;
             PooledConnectionFactory pcf = createPooledConnectionFactory(
@@ -325,12 +451,44 @@ public class DefaultClientChannelManager implements ClientChannelManager {
                     metrics.connTakenFromPoolIsNotOpen(),
                     metrics.closeAbovePoolHighWaterMarkCounter(),
                     metrics.maxConnsPerHostExceededCounter(),
-                    metrics.connEstablishTimer(),
-                    metrics.connsInPool(),
-                    metrics.connsInUse());
+                    metrics.connEstablishTimer());
         });
+    }
 
-        return pool.acquire(eventLoop, passport, selectedHostAddr);
+    /**
+     * Event loops are only known once they have used this origin, so that's when their warm-up task is started.  Pools
+     * are created at the same time for every server the resolver knows about, so that they are all warmed up rather
+     * than just those requested so far.
+     */
+    private void maybeStartWarmUp(EventLoop eventLoop) {
+        if (warmUpTasks.containsKey(eventLoop) || connPoolConfig.minIdlePerServerPerEventLoop() <= 0) {
+            return;
+        }
+        for (DiscoveryResult server : dynamicServerResolver.getServers()) {
+            getOrCreatePool(server);
+        }
+        int interval = connPoolConfig.getWarmUpIntervalMs();
+        warmUpTasks.computeIfAbsent(
+                eventLoop, loop -> loop.scheduleWithFixedDelay(() -> warmUp(loop), 0, interval, TimeUnit.MILLISECONDS));
+    }
+
+    private void warmUp(EventLoop eventLoop) {
+        if (shuttingDown) {
+            return;
+        }
+        boolean warm = true;
+        for (IConnectionPool pool : perServerPools.values()) {
+            warm &= pool.warmUp(eventLoop);
+        }
+        if (warm) {
+            coldEventLoops.remove(eventLoop);
+        } else {
+            coldEventLoops.add(eventLoop);
+        }
+    }
+
+    private void cancelWarmUps() {
+        warmUpTasks.values().forEach(task -> task.cancel(false));
     }
 
     protected PooledConnectionFactory createPooledConnectionFactory(
@@ -357,9 +515,25 @@ public class DefaultClientChannelManager implements ClientChannelManager {
             Counter connTakenFromPoolIsNotOpen,
             Counter closeAbovePoolHighWaterMarkCounter,
             Counter maxConnsPerHostExceededCounter,
-            PercentileTimer connEstablishTimer,
-            AtomicInteger connsInPool,
-            AtomicInteger connsInUse) {
+            PercentileTimer connEstablishTimer) {
+        if (connPoolConfig.isHttp2()) {
+            return new Http2PerServerConnectionPool(
+                    discoveryResult,
+                    serverAddr,
+                    clientConnFactory,
+                    pcf,
+                    connPoolConfig,
+                    clientConfig,
+                    createNewConnCounter,
+                    createConnSucceededCounter,
+                    createConnFailedCounter,
+                    requestConnCounter,
+                    reuseConnCounter,
+                    connTakenFromPoolIsNotOpen,
+                    closeAbovePoolHighWaterMarkCounter,
+                    maxConnsPerHostExceededCounter,
+                    connEstablishTimer);
+        }
         return new PerServerConnectionPool(
                 discoveryResult,
                 serverAddr,
@@ -375,37 +549,124 @@ public class DefaultClientChannelManager implements ClientChannelManager {
                 connTakenFromPoolIsNotOpen,
                 closeAbovePoolHighWaterMarkCounter,
                 maxConnsPerHostExceededCounter,
-                connEstablishTimer,
-                connsInPool,
-                connsInUse);
+                connEstablishTimer);
     }
 
+    /**
+     * Applies each update of the resolver's server set to the pools in one batch.  Pools of servers that left are
+     * drained, so that requests in flight on them complete, and pools for new servers are warmed up with one task per
+     * event loop, however many servers were added.
+     */
     final class ServerPoolListener implements ResolverListener<DiscoveryResult> {
+        @Override
+        public void onUpdate(ServerSetDiff<DiscoveryResult> diff) {
+            LOG.debug(
+                    "Applying server set version {}. name = {}. {} added, {} removed, {} changed.",
+                    diff.version(),
+                    originName,
+                    diff.added().size(),
+                    diff.removed().size(),
+                    diff.changed().size());
+            // Removals first, as the new result for a changed server is equal to the previous one, and would otherwise
+            // pick up its pool.
+            removePools(diff.removed());
+            warmUpPools(diff.added());
+        }
+
+        @Override
+        public void onServersAdded(List<DiscoveryResult> addedSet) {
+            warmUpPools(addedSet);
+        }
+
         @Override
         public void onChange(List<DiscoveryResult> removedSet) {
-            if (!removedSet.isEmpty()) {
-                LOG.debug(
-                        "Removing connection pools for missing servers. name = {}. {} servers gone.",
-                        originName,
-                        removedSet.size());
-                for (DiscoveryResult s : removedSet) {
-                    IConnectionPool pool = perServerPools.remove(s);
-                    if (pool != null) {
-                        pool.shutdown();
-                    }
+            removePools(removedSet);
+        }
+
+        private void removePools(List<DiscoveryResult> removedSet) {
+            if (removedSet.isEmpty()) {
+                return;
+            }
+            LOG.debug(
+                    "Draining connection pools for missing servers. name = {}. {} servers gone.",
+                    originName,
+                    removedSet.size());
+            for (DiscoveryResult s : removedSet) {
+                s.setAttachment(null);
+                IConnectionPool pool = perServerPools.remove(s);
+                if (pool != null) {
+                    pool.drain();
                 }
             }
         }
+
+        private void warmUpPools(List<DiscoveryResult> addedSet) {
+            if (addedSet.isEmpty() || shuttingDown || warmUpTasks.isEmpty()) {
+                return;
+            }
+            LOG.debug(
+                    "Warming up connection pools for new servers. name = {}. {} servers added.",
+                    originName,
+                    addedSet.size());
+            List<IConnectionPool> pools = new ArrayList<>(addedSet.size());
+            for (DiscoveryResult s : addedSet) {
+                pools.add(getOrCreatePool(s));
+            }
+            for (EventLoop eventLoop : warmUpTasks.keySet()) {
+                eventLoop.execute(() -> {
+                    for (IConnectionPool pool : pools) {
+                        if (!pool.warmUp(eventLoop)) {
+                            coldEventLoops.add(eventLoop);
+                        }
+                    }
+                });
+            }
+        }
     }
 
+    /**
+     * Aggregated lazily from the per server, per event loop pools, so it is cheap on the request path but not on
+     * every call here.
+     */
     @Override
     public int getConnsInPool() {
-        return metrics.connsInPool().get();
+        int total = 0;
+        for (IConnectionPool pool : perServerPools.values()) {
+            total += pool.getConnsInPool();
+        }
+        return total;
     }
 
     @Override
     public int getConnsInUse() {
-        return metrics.connsInUse().get();
+        int total = 0;
+        for (IConnectionPool pool : perServerPools.values()) {
+            total += pool.getConnsInUse();
+        }
+        return total;
+    }
+
+    @Override
+    public void recordResponse(DiscoveryResult server, int statusCode, long durationMs) {
+        if (outlierDetector != null && server != DiscoveryResult.EMPTY) {
+            outlierDetector.onResponse(server, statusCode, durationMs);
+        }
+    }
+
+    @Override
+    public CompletableFuture<ConnectionPoolSnapshot> snapshot() {
+        List<CompletableFuture<ConnectionPoolSnapshot.ServerSnapshot>> servers = new ArrayList<>();
+        perServerPools.forEach((server, pool) -> servers.add(
+                pool.snapshot().thenApply(loops -> ConnectionPoolSnapshot.ServerSnapshot.of(server, pool, loops))));
+        return CompletableFuture.allOf(servers.toArray(new CompletableFuture<?>[0]))
+                .thenApply(ignored -> new ConnectionPoolSnapshot(
+                        originName.getTarget(),
+                        System.currentTimeMillis(),
+                        isAvailable(),
+                        isCold(),
+                        getConnsInPool(),
+                        getConnsInUse(),
+                        servers.stream().map(CompletableFuture::join).toList()));
     }
 
     protected ConcurrentHashMap<DiscoveryResult, IConnectionPool> getPerServerPools() {
@@ -442,6 +703,10 @@ public class DefaultClientChannelManager implements ClientChannelManager {
      * Given a server chosen from the load balancer, pick the appropriate address to connect to.
      */
     protected SocketAddress pickAddress(DiscoveryResult chosenServer) {
+        if (connPoolConfig.isAsyncDnsResolution() && !InetAddresses.isInetAddress(chosenServer.getHost())) {
+            // Left for the connection factory to resolve on the event loop for each connect, see OriginDnsResolver.
+            return InetSocketAddress.createUnresolved(chosenServer.getHost(), chosenServer.getPort());
+        }
         return pickAddressInternal(chosenServer, connPoolConfig.getOriginName());
     }
 }
@@ -22,13 +22,24 @@ import com.netflix.spectator.api.Registry;
 import com.netflix.zuul.netty.insights.PassportStateHttpClientHandler;
 import com.netflix.zuul.netty.insights.PassportStateOriginHandler;
 import com.netflix.zuul.netty.server.BaseZuulChannelInitializer;
+import com.netflix.zuul.netty.server.OriginResponseReceiverBinding;
+import com.netflix.zuul.netty.server.http2.DummyChannelHandler;
 import com.netflix.zuul.netty.ssl.ClientSslContextFactory;
 import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelPipeline;
 import io.netty.handler.codec.http.HttpClientCodec;
+import io.netty.handler.codec.http2.Http2FrameCodecBuilder;
+import io.netty.handler.codec.http2.Http2MultiplexHandler;
+import io.netty.handler.codec.http2.Http2Settings;
+import io.netty.handler.codec.http2.Http2StreamFrameToHttpObjectCodec;
+import io.netty.handler.flush.FlushConsolidationHandler;
 import io.netty.handler.logging.LogLevel;
 import io.netty.handler.logging.LoggingHandler;
 import io.netty.handler.ssl.SslContext;
+import io.netty.handler.timeout.IdleStateHandler;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Default Origin Channel Initializer
@@ -40,8 +51,10 @@ public class DefaultOriginChannelInitializer extends OriginChannelInitializer {
 
     public static final String ORIGIN_NETTY_LOGGER = "originNettyLogger";
     public static final String CONNECTION_POOL_HANDLER = "connectionPoolHandler";
+    public static final String FLUSH_CONSOLIDATION_HANDLER = "flushConsolidationHandler";
     private final ConnectionPoolConfig connectionPoolConfig;
     private final SslContext sslContext;
+    private final ChannelInitializer<Channel> http2StreamInitializer;
     protected final ConnectionPoolHandler connectionPoolHandler;
     protected final HttpMetricsChannelHandler httpMetricsHandler;
     protected final LoggingHandler nettyLogger;
@@ -53,6 +66,16 @@ public class DefaultOriginChannelInitializer extends OriginChannelInitializer {
         this.httpMetricsHandler = new HttpMetricsChannelHandler(spectatorRegistry, "client", niwsClientName);
         this.nettyLogger = new LoggingHandler("zuul.origin.nettylog." + niwsClientName, LogLevel.INFO);
         this.sslContext = getClientSslContext(spectatorRegistry);
+        this.http2StreamInitializer = new ChannelInitializer<>() {
+            @Override
+            protected void initChannel(Channel ch) {
+                ChannelPipeline pipeline = ch.pipeline();
+                pipeline.addLast(
+                        BaseZuulChannelInitializer.HTTP_CODEC_HANDLER_NAME,
+                        new Http2StreamFrameToHttpObjectCodec(false));
+                addHttpHandlers(pipeline);
+            }
+        };
     }
 
     @Override
@@ -66,6 +89,17 @@ public class DefaultOriginChannelInitializer extends OriginChannelInitializer {
             pipeline.addLast("ssl", sslContext.newHandler(ch.alloc()));
         }
 
+        int maxFlushes = connectionPoolConfig.getFlushConsolidationMaxFlushes();
+        if (maxFlushes > 0) {
+            // Behind the SslHandler, so that coalesced writes are also encrypted together.
+            pipeline.addLast(FLUSH_CONSOLIDATION_HANDLER, new FlushConsolidationHandler(maxFlushes, true));
+        }
+
+        if (connectionPoolConfig.isHttp2()) {
+            addHttp2ConnectionHandlers(pipeline);
+            return;
+        }
+
         pipeline.addLast(
                 BaseZuulChannelInitializer.HTTP_CODEC_HANDLER_NAME,
                 new HttpClientCodec(
@@ -74,8 +108,18 @@ public class DefaultOriginChannelInitializer extends OriginChannelInitializer {
                         BaseZuulChannelInitializer.MAX_CHUNK_SIZE.get(),
                         false,
                         false));
+        addHttpHandlers(pipeline);
+    }
+
+    /**
+     * Adds the handlers that see the origin traffic as HTTP/1 objects.  For HTTP/2 origins, these are installed on
+     * each stream channel rather than on the connection, so that everything from here on up (including the
+     * {@code OriginResponseReceiver} added per request) works the same for both.
+     */
+    protected void addHttpHandlers(ChannelPipeline pipeline) {
         pipeline.addLast(new PassportStateHttpClientHandler.InboundHandler());
         pipeline.addLast(new PassportStateHttpClientHandler.OutboundHandler());
+        pipeline.addLast(OriginTimeoutHandler.NAME, new OriginTimeoutHandler());
         pipeline.addLast(ORIGIN_NETTY_LOGGER, nettyLogger);
         pipeline.addLast(httpMetricsHandler);
         addMethodBindingHandler(pipeline);
@@ -83,9 +127,37 @@ public class DefaultOriginChannelInitializer extends OriginChannelInitializer {
         pipeline.addLast(HttpClientLifecycleChannelHandler.OUTBOUND_CHANNEL_HANDLER);
         pipeline.addLast(new ClientTimeoutHandler.InboundHandler());
         pipeline.addLast(new ClientTimeoutHandler.OutboundHandler());
+        pipeline.addLast(OriginResponseReceiverBinding.NAME, new OriginResponseReceiverBinding());
         pipeline.addLast(CONNECTION_POOL_HANDLER, connectionPoolHandler);
     }
 
+    /**
+     * Sets up a connection to be multiplexed.  Streams on it are opened by the connection pool, and initialized by
+     * {@link #getHttp2StreamInitializer()}.
+     */
+    protected void addHttp2ConnectionHandlers(ChannelPipeline pipeline) {
+        pipeline.addLast(Http2FrameCodecBuilder.forClient()
+                .initialSettings(Http2Settings.defaultSettings().pushEnabled(false))
+                .build());
+        // We never accept pushed streams, so the inbound stream handler should never be used.
+        pipeline.addLast(
+                BaseZuulChannelInitializer.HTTP_CODEC_HANDLER_NAME,
+                new Http2MultiplexHandler(new DummyChannelHandler()));
+        pipeline.addLast(
+                DefaultClientChannelManager.IDLE_STATE_HANDLER_NAME,
+                new IdleStateHandler(0, 0, connectionPoolConfig.getIdleTimeout(), TimeUnit.MILLISECONDS));
+        pipeline.addLast(
+                Http2OriginConnectionHandler.NAME,
+                new Http2OriginConnectionHandler(
+                        connectionPoolConfig.getHttp2MaxConcurrentStreams(),
+                        connectionPoolConfig.getMaxRequestsPerConnection()));
+    }
+
+    @Override
+    public ChannelHandler getHttp2StreamInitializer() {
+        return http2StreamInitializer;
+    }
+
     /**
      * This method can be overridden to create your own custom SSL context
      *
@@ -93,7 +165,8 @@ public class DefaultOriginChannelInitializer extends OriginChannelInitializer {
      * @return Netty SslContext
      */
     protected SslContext getClientSslContext(Registry spectatorRegistry) {
-        return new ClientSslContextFactory(spectatorRegistry).getClientSslContext();
+        ClientSslContextFactory factory = new ClientSslContextFactory(spectatorRegistry);
+        return connectionPoolConfig.isHttp2() ? factory.getHttp2ClientSslContext() : factory.getClientSslContext();
     }
 
     /**
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.zuul.netty.connectionpool;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.handler.codec.http2.Http2Connection;
+import io.netty.handler.codec.http2.Http2FrameCodec;
+import io.netty.handler.timeout.IdleStateEvent;
+import io.netty.util.ReferenceCountUtil;
+import javax.annotation.Nullable;
+
+/**
+ * Sits at the end of the pipeline of a multiplexed HTTP/2 origin connection, and keeps track of how many streams are
+ * currently leased out on it.
+ *
+ * <p>The number of streams a connection can carry is the lower of our own configured limit and the origin's
+ * SETTINGS_MAX_CONCURRENT_STREAMS, as applied by the frame codec.  Until the origin's SETTINGS arrive the configured
+ * limit alone applies.
+ *
+ * <p>Connection level frames that make it past the multiplex handler (SETTINGS, PING, GOAWAY) are already handled by
+ * the codec, so they are just released here.  An idle timeout only closes the connection when no streams are leased.
+ *
+ * NOTE: Not threadsafe, only ever used from the connection's event loop.
+ */
+public final class Http2OriginConnectionHandler extends ChannelInboundHandlerAdapter {
+
+    public static final String NAME = "http2OriginConnectionHandler";
+
+    private final int maxConcurrentStreams;
+    private final int maxStreamsPerConnection;
+
+    @Nullable private Http2Connection connection;
+
+    private int leasedStreams;
+    private int totalStreams;
+
+    public Http2OriginConnectionHandler(int maxConcurrentStreams, int maxStreamsPerConnection) {
+        this.maxConcurrentStreams = maxConcurrentStreams;
+        this.maxStreamsPerConnection = maxStreamsPerConnection;
+    }
+
+    @Nullable public static Http2OriginConnectionHandler fromChannel(Channel ch) {
+        return ch.pipeline().get(Http2OriginConnectionHandler.class);
+    }
+
+    @Override
+    public void handlerAdded(ChannelHandlerContext ctx) {
+        Http2FrameCodec codec = ctx.pipeline().get(Http2FrameCodec.class);
+        if (codec == null) {
+            throw new IllegalStateException("Http2FrameCodec must be added before " + NAME);
+        }
+        connection = codec.connection();
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) {
+        ReferenceCountUtil.release(msg);
+    }
+
+    @Override
+    public void userEventTriggered(ChannelHandlerContext ctx, Object evt) throws Exception {
+        if (evt instanceof IdleStateEvent) {
+            if (leasedStreams == 0) {
+                ctx.close();
+            }
+            return;
+        }
+        super.userEventTriggered(ctx, evt);
+    }
+
+    /**
+     * Returns the number of concurrent streams this connection can currently carry.
+     */
+    public int maxConcurrentStreams() {
+        if (connection == null) {
+            return maxConcurrentStreams;
+        }
+        return Math.min(maxConcurrentStreams, connection.local().maxActiveStreams());
+    }
+
+    /**
+     * Whether the connection is still willing to accept new streams, as opposed to waiting for its current ones to
+     * finish before being closed.
+     */
+    public boolean isAcceptingStreams() {
+        return connection != null
+                && !connection.goAwayReceived()
+                && !connection.goAwaySent()
+                && totalStreams < maxStreamsPerConnection;
+    }
+
+    public boolean canLeaseStream() {
+        return isAcceptingStreams() && leasedStreams < maxConcurrentStreams();
+    }
+
+    public int leasedStreams() {
+        return leasedStreams;
+    }
+
+    void streamLeased() {
+        leasedStreams++;
+        totalStreams++;
+    }
+
+    void streamReturned() {
+        leasedStreams--;
+    }
+}
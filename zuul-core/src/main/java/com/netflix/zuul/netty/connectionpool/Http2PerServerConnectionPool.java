@@ -0,0 +1,278 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.zuul.netty.connectionpool;
+
+import com.netflix.client.config.IClientConfig;
+import com.netflix.spectator.api.Counter;
+import com.netflix.spectator.api.Timer;
+import com.netflix.zuul.discovery.DiscoveryResult;
+import com.netflix.zuul.exception.OutboundErrorType;
+import com.netflix.zuul.passport.CurrentPassport;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.EventLoop;
+import io.netty.handler.codec.http2.Http2StreamChannel;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.Promise;
+import java.net.InetAddress;
+import java.net.SocketAddress;
+import java.util.concurrent.atomic.AtomicReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Connection pool for an origin server that speaks HTTP/2.
+ *
+ * <p>The pooled connections are shared: each acquire leases a new stream on a connection, and the returned
+ * {@link PooledConnection} wraps the stream channel.  A connection stays in its event loop's pool for as long as it can
+ * take more streams (see {@link Http2OriginConnectionHandler}), and rejoins it once one of its streams finishes.  New
+ * connections are only made once all existing ones on the event loop are full, so {@code MaxConnectionsPerHost} now
+ * bounds the number of sockets rather than the number of concurrent requests.
+ *
+ * <p>Streams are never reused; releasing one just closes it.
+ */
+public class Http2PerServerConnectionPool extends PerServerConnectionPool {
+    private static final Logger LOG = LoggerFactory.getLogger(Http2PerServerConnectionPool.class);
+
+    public Http2PerServerConnectionPool(
+            DiscoveryResult server,
+            SocketAddress serverAddr,
+            NettyClientConnectionFactory connectionFactory,
+            PooledConnectionFactory pooledConnectionFactory,
+            ConnectionPoolConfig config,
+            IClientConfig niwsClientConfig,
+            Counter createNewConnCounter,
+            Counter createConnSucceededCounter,
+            Counter createConnFailedCounter,
+            Counter requestConnCounter,
+            Counter reuseConnCounter,
+            Counter connTakenFromPoolIsNotOpen,
+            Counter closeAboveHighWaterMarkCounter,
+            Counter maxConnsPerHostExceededCounter,
+            Timer connEstablishTimer) {
+        super(
+                server,
+                serverAddr,
+                connectionFactory,
+                pooledConnectionFactory,
+                config,
+                niwsClientConfig,
+                createNewConnCounter,
+                createConnSucceededCounter,
+                createConnFailedCounter,
+                requestConnCounter,
+                reuseConnCounter,
+                connTakenFromPoolIsNotOpen,
+                closeAboveHighWaterMarkCounter,
+                maxConnsPerHostExceededCounter,
+                connEstablishTimer);
+    }
+
+    /**
+     * Returns a connection that has room for another stream, leaving it in the pool.  Connections that are full, or
+     * are winding down, are dropped from the pool on the way.
+     */
+    @Override
+    public PooledConnection tryGettingFromConnectionPool(EventLoop eventLoop) {
+        PooledConnection conn;
+        EventLoopPool connections = getPoolForEventLoop(eventLoop);
+        while ((conn = connections.poll()) != null) {
+
+            conn.setInPool(false);
+
+            Http2OriginConnectionHandler streams = Http2OriginConnectionHandler.fromChannel(conn.getChannel());
+            if (streams == null || !isValidFromPool(conn)) {
+                connTakenFromPoolIsNotOpen.increment();
+                conn.getChannel().close();
+            } else if (streams.canLeaseStream()) {
+                reuseConnCounter.increment();
+                connections.incrementInUse();
+                return conn;
+            } else if (!streams.isAcceptingStreams() && streams.leasedStreams() == 0) {
+                conn.getChannel().close();
+            }
+            // Otherwise it's full, and will be put back in the pool once one of its streams is done.
+        }
+        return null;
+    }
+
+    @Override
+    protected void reusePooledConnection(
+            CurrentPassport passport,
+            AtomicReference<? super InetAddress> selectedHostAddr,
+            PooledConnection conn,
+            Promise<PooledConnection> promise) {
+        selectedHostAddr.set(getConnectedHost(conn.getChannel()));
+        openStream(conn, promise, passport);
+    }
+
+    @Override
+    protected void createConnection(
+            ChannelFuture cf, Promise<PooledConnection> callerPromise, CurrentPassport passport) {
+        Channel ch = cf.channel();
+        PooledConnection conn = pooledConnectionFactory.create(ch);
+        ch.closeFuture().addListener(future -> onConnectionClosed(conn));
+        openStream(conn, callerPromise, passport);
+    }
+
+    /**
+     * The waterline doesn't apply, since HTTP/2 connections are not handed back to the pool after each request.
+     */
+    @Override
+    protected int getMinIdle() {
+        return config.minIdlePerServerPerEventLoop();
+    }
+
+    /**
+     * Connections are shared by the streams of the event loop that opened them, so are never moved to another.
+     */
+    @Override
+    protected boolean isBorrowingEnabled() {
+        return false;
+    }
+
+    @Override
+    protected void addWarmedConnection(Channel ch, EventLoopPool connections) {
+        PooledConnection conn = pooledConnectionFactory.create(ch);
+        ch.closeFuture().addListener(future -> onConnectionClosed(conn));
+        if (draining || shutdown) {
+            ch.close();
+            return;
+        }
+        connections.offer(conn);
+        conn.setInPool(true);
+    }
+
+    protected void openStream(PooledConnection conn, Promise<PooledConnection> promise, CurrentPassport passport) {
+        Http2OriginConnectionHandler streams = Http2OriginConnectionHandler.fromChannel(conn.getChannel());
+        if (streams == null) {
+            getPoolForEventLoop(conn.getChannel().eventLoop()).decrementInUse();
+            server.decrementActiveRequestsCount();
+            promise.setFailure(new OriginConnectException(
+                    "Origin connection is not set up for HTTP/2", OutboundErrorType.CONNECT_ERROR));
+            conn.getChannel().close();
+            return;
+        }
+
+        streams.streamLeased();
+        returnToPoolIfAvailable(conn, streams);
+
+        Future<Http2StreamChannel> streamFuture = connectionFactory.openStream(conn.getChannel(), passport, this);
+        if (streamFuture.isDone()) {
+            handleStreamOpened(streamFuture, conn, streams, promise, passport);
+        } else {
+            streamFuture.addListener(future -> handleStreamOpened(streamFuture, conn, streams, promise, passport));
+        }
+    }
+
+    protected void handleStreamOpened(
+            Future<Http2StreamChannel> streamFuture,
+            PooledConnection conn,
+            Http2OriginConnectionHandler streams,
+            Promise<PooledConnection> promise,
+            CurrentPassport passport) {
+        if (!streamFuture.isSuccess()) {
+            getPoolForEventLoop(conn.getChannel().eventLoop()).decrementInUse();
+            server.decrementActiveRequestsCount();
+            onStreamClosed(conn, streams);
+            Throwable cause = streamFuture.cause();
+            promise.setFailure(new OriginConnectException(cause.getMessage(), cause, OutboundErrorType.CONNECT_ERROR));
+            return;
+        }
+
+        Http2StreamChannel stream = streamFuture.getNow();
+        stream.closeFuture().addListener(future -> onStreamClosed(conn, streams));
+
+        PooledConnection streamConn = pooledConnectionFactory.create(stream);
+        streamConn.incrementUsageCount();
+        streamConn.startRequestTimer();
+        streamConn.getChannel().read();
+        onAcquire(streamConn, passport);
+        initPooledConnection(streamConn, promise);
+    }
+
+    private void onStreamClosed(PooledConnection conn, Http2OriginConnectionHandler streams) {
+        streams.streamReturned();
+        if (!conn.getChannel().isActive()) {
+            return;
+        }
+        if ((draining || !streams.isAcceptingStreams()) && streams.leasedStreams() == 0) {
+            LOG.debug("[{}] closing finished HTTP/2 origin connection", conn.getChannel().id());
+            conn.getChannel().close();
+        } else {
+            returnToPoolIfAvailable(conn, streams);
+        }
+    }
+
+    private void returnToPoolIfAvailable(PooledConnection conn, Http2OriginConnectionHandler streams) {
+        if (!draining && !conn.isInPool() && streams.canLeaseStream()) {
+            getPoolForEventLoop(conn.getChannel().eventLoop()).offer(conn);
+            conn.setInPool(true);
+        }
+    }
+
+    private void onConnectionClosed(PooledConnection conn) {
+        server.decrementOpenConnectionsCount();
+        remove(conn);
+    }
+
+    /**
+     * Streams are single use, so rather than going back into the pool they are closed, which frees up their slot on
+     * the connection.
+     */
+    @Override
+    public boolean release(PooledConnection conn) {
+        if (conn == null) {
+            return false;
+        }
+        conn.close();
+        return false;
+    }
+
+    @Override
+    public void shutdown() {
+        shutdown = true;
+        for (EventLoopPool connections : getEventLoopPools()) {
+            connections.eventLoop().execute(() -> {
+                PooledConnection conn;
+                while ((conn = connections.poll()) != null) {
+                    conn.setInPool(false);
+                    // Open connection counts are updated once the channel has closed.
+                    conn.getChannel().close();
+                }
+            });
+        }
+    }
+
+    @Override
+    void drainIdleConnectionsOnEventLoop(EventLoop eventLoop) {
+        eventLoop.execute(() -> {
+            EventLoopPool connections = getPoolForEventLoop(eventLoop);
+
+            PooledConnection conn;
+            while ((conn = connections.poll()) != null) {
+                conn.setInPool(false);
+                Http2OriginConnectionHandler streams = Http2OriginConnectionHandler.fromChannel(conn.getChannel());
+                // Connections with streams in flight are closed when their last stream is done.
+                if (streams == null || streams.leasedStreams() == 0) {
+                    LOG.debug("Closing connection {}", conn);
+                    conn.getChannel().close();
+                }
+            }
+        });
+    }
+}
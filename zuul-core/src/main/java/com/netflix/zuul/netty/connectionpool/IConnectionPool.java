@@ -20,6 +20,8 @@ import com.netflix.zuul.passport.CurrentPassport;
 import io.netty.channel.EventLoop;
 import io.netty.util.concurrent.Promise;
 import java.net.InetAddress;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicReference;
 
 /**
@@ -33,8 +35,31 @@ public interface IConnectionPool {
 
     boolean release(PooledConnection conn);
 
+    /**
+     * Called for every connection acquired from this pool when it is given back to the channel manager, whether or not
+     * it is then returned to the pool.
+     */
+    default void onRelease(PooledConnection conn) {}
+
     boolean remove(PooledConnection conn);
 
+    /**
+     * Opens connections on the given event loop, in the background, until the pool has at least
+     * {@link ConnectionPoolConfig#minIdlePerServerPerEventLoop()} idle ones.  Must be called on the event loop.
+     *
+     * @return whether the pool already had that many connections (idle or in use) on the event loop
+     */
+    default boolean warmUp(EventLoop eventLoop) {
+        return true;
+    }
+
+    /**
+     * Captures the state of the pool on each of its event loops, by running a task on each of them.
+     */
+    default CompletableFuture<List<ConnectionPoolSnapshot.EventLoopSnapshot>> snapshot() {
+        return CompletableFuture.completedFuture(List.of());
+    }
+
     void shutdown();
 
     default void drain() {
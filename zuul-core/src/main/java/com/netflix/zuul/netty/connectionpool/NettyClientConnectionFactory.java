@@ -21,10 +21,14 @@ import com.netflix.zuul.passport.CurrentPassport;
 import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoop;
 import io.netty.channel.WriteBufferWaterMark;
+import io.netty.handler.codec.http2.Http2StreamChannel;
+import io.netty.handler.codec.http2.Http2StreamChannelBootstrap;
+import io.netty.util.concurrent.Future;
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
 import java.util.Objects;
@@ -46,7 +50,7 @@ public class NettyClientConnectionFactory {
     public ChannelFuture connect(
             EventLoop eventLoop, SocketAddress socketAddress, CurrentPassport passport, IConnectionPool pool) {
         Objects.requireNonNull(socketAddress, "socketAddress");
-        if (socketAddress instanceof InetSocketAddress) {
+        if (socketAddress instanceof InetSocketAddress && !connPoolConfig.isAsyncDnsResolution()) {
             // This should be checked by the ClientConnectionManager
             assert !((InetSocketAddress) socketAddress).isUnresolved() : socketAddress;
         }
@@ -66,8 +70,41 @@ public class NettyClientConnectionFactory {
                         new WriteBufferWaterMark(
                                 connPoolConfig.getNettyWriteBufferLowWaterMark(),
                                 connPoolConfig.getNettyWriteBufferHighWaterMark()))
-                .option(ChannelOption.AUTO_READ, connPoolConfig.getNettyAutoRead())
+                // A multiplexed connection always has to read, to keep up with connection level frames (SETTINGS, PING,
+                // WINDOW_UPDATE) no matter what its streams are doing.  Each stream still honours the AutoRead setting.
+                .option(ChannelOption.AUTO_READ, connPoolConfig.isHttp2() || connPoolConfig.getNettyAutoRead())
                 .remoteAddress(socketAddress);
+        if (socketAddress instanceof InetSocketAddress inetAddr && inetAddr.isUnresolved()) {
+            // Only host names need the DNS resolver, which would otherwise be set up on the event loop for nothing.
+            bootstrap.resolver(OriginDnsResolver.group());
+        }
         return bootstrap.connect();
     }
+
+    /**
+     * Opens a new stream on an established HTTP/2 origin connection.  The stream channel is set up by the initializer's
+     * {@link OriginChannelInitializer#getHttp2StreamInitializer()}, so it looks like a plain HTTP/1 origin channel to
+     * everything above it.
+     */
+    public Future<Http2StreamChannel> openStream(Channel parent, CurrentPassport passport, IConnectionPool pool) {
+        ChannelHandler streamInitializer = null;
+        if (channelInitializer instanceof OriginChannelInitializer originChannelInitializer) {
+            streamInitializer = originChannelInitializer.getHttp2StreamInitializer();
+        }
+        if (streamInitializer == null) {
+            throw new IllegalStateException(
+                    "Channel initializer does not support HTTP/2 origins: " + channelInitializer);
+        }
+        return new Http2StreamChannelBootstrap(parent)
+                .handler(streamInitializer)
+                .attr(CurrentPassport.CHANNEL_ATTR, passport)
+                .attr(PerServerConnectionPool.CHANNEL_ATTR, pool)
+                .option(
+                        ChannelOption.WRITE_BUFFER_WATER_MARK,
+                        new WriteBufferWaterMark(
+                                connPoolConfig.getNettyWriteBufferLowWaterMark(),
+                                connPoolConfig.getNettyWriteBufferHighWaterMark()))
+                .option(ChannelOption.AUTO_READ, connPoolConfig.getNettyAutoRead())
+                .open();
+    }
 }
@@ -18,7 +18,9 @@ package com.netflix.zuul.netty.connectionpool;
 
 import com.netflix.netty.common.metrics.HttpMetricsChannelHandler;
 import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelInitializer;
+import javax.annotation.Nullable;
 
 /**
  * Origin Channel Initializer
@@ -29,4 +31,12 @@ import io.netty.channel.ChannelInitializer;
 public abstract class OriginChannelInitializer extends ChannelInitializer<Channel> {
 
     public abstract HttpMetricsChannelHandler getHttpMetricsHandler();
+
+    /**
+     * Returns the handler that sets up each stream opened on a multiplexed HTTP/2 origin connection, or {@code null}
+     * if this initializer doesn't support HTTP/2 origins.
+     */
+    @Nullable public ChannelHandler getHttp2StreamInitializer() {
+        return null;
+    }
 }
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.zuul.netty.connectionpool;
+
+import com.netflix.config.DynamicIntProperty;
+import com.netflix.zuul.netty.server.Server;
+import io.netty.channel.socket.DatagramChannel;
+import io.netty.channel.socket.nio.NioDatagramChannel;
+import io.netty.resolver.AddressResolverGroup;
+import io.netty.resolver.dns.DefaultDnsCache;
+import io.netty.resolver.dns.DnsNameResolverBuilder;
+import io.netty.resolver.dns.RoundRobinDnsAddressResolverGroup;
+import java.net.InetSocketAddress;
+
+/**
+ * Resolves origin host names for {@link NettyClientConnectionFactory} without blocking, on the event loop that makes
+ * the connection, for origins with {@link ConnectionPoolConfig#isAsyncDnsResolution()}.
+ *
+ * <p>Answers are cached for their TTL, capped by {@code zuul.origin.dns.maxTtl}, in a cache shared by all event loops
+ * and origins, so most connects don't query DNS at all.  When a name has several addresses, each connection picks one
+ * at random, so connections spread across them, and follow the answers as they rotate while connections are replaced.
+ *
+ * <p>Resolution only happens per connection: DNS answers never feed back into the origin's server list.  A host name
+ * stays one server, with one pool, stats and circuit breaker, however many addresses it resolves to, and addresses
+ * that drop out of the answers are only left once the connections to them are closed, e.g. by
+ * {@link ConnectionPoolConfigImpl#MAX_CONNECTION_LIFETIME_MS}.
+ */
+final class OriginDnsResolver {
+
+    private static final DynamicIntProperty MIN_TTL = new DynamicIntProperty("zuul.origin.dns.minTtl", 0);
+    private static final DynamicIntProperty MAX_TTL = new DynamicIntProperty("zuul.origin.dns.maxTtl", 300);
+    private static final DynamicIntProperty NEGATIVE_TTL = new DynamicIntProperty("zuul.origin.dns.negativeTtl", 5);
+
+    private OriginDnsResolver() {}
+
+    static AddressResolverGroup<InetSocketAddress> group() {
+        return Holder.GROUP;
+    }
+
+    /**
+     * Created on first use, by which point the server has picked its transport.
+     */
+    private static final class Holder {
+        static final AddressResolverGroup<InetSocketAddress> GROUP = createGroup();
+    }
+
+    private static AddressResolverGroup<InetSocketAddress> createGroup() {
+        Class<? extends DatagramChannel> channelType = Server.defaultOutboundDatagramChannelType.get();
+        DnsNameResolverBuilder builder = new DnsNameResolverBuilder()
+                .channelType(channelType != null ? channelType : NioDatagramChannel.class)
+                .resolveCache(new DefaultDnsCache(MIN_TTL.get(), MAX_TTL.get(), NEGATIVE_TTL.get()));
+        return new RoundRobinDnsAddressResolverGroup(builder);
+    }
+}
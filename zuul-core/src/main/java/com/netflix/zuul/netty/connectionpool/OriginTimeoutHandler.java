@@ -0,0 +1,164 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.zuul.netty.connectionpool;
+
+import com.netflix.netty.common.TimingWheel;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.timeout.IdleStateEvent;
+import io.netty.handler.timeout.ReadTimeoutException;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+
+/**
+ * A single, permanent timer for an origin channel, which is switched between modes as the connection moves in and out
+ * of the pool rather than being added to and removed from the pipeline:
+ *
+ * <ul>
+ *   <li>idle - while the connection sits in the pool, fires an {@link IdleStateEvent} once nothing has been read for
+ *   the idle timeout, like an all-idle {@code IdleStateHandler}</li>
+ *   <li>read timeout - once a request has been written, fires a {@link ReadTimeoutException} and closes the channel
+ *   once nothing has been read for the read timeout, like a {@code ReadTimeoutHandler}</li>
+ *   <li>off - while a request is being written</li>
+ * </ul>
+ *
+ * <p>The timer is a {@link TimingWheel.Timeout} on the event loop's shared wheel, so switching modes and pushing the
+ * deadline back on each read are cheap, and never touch the event loop's scheduled task queue.
+ *
+ * NOTE: Not threadsafe, must only be used from the channel's event loop.
+ */
+public final class OriginTimeoutHandler extends ChannelDuplexHandler {
+
+    public static final String NAME = "originTimeoutHandler";
+
+    private enum Mode {
+        OFF,
+        IDLE,
+        READ_TIMEOUT
+    }
+
+    @Nullable private ChannelHandlerContext ctx;
+
+    @Nullable private TimingWheel.Timeout timeout;
+
+    private Mode mode = Mode.OFF;
+    private long timeoutNanos;
+
+    @Override
+    public void handlerAdded(ChannelHandlerContext ctx) {
+        this.ctx = ctx;
+    }
+
+    @Override
+    public void handlerRemoved(ChannelHandlerContext ctx) {
+        stop();
+        this.ctx = null;
+    }
+
+    /**
+     * The timer belongs to the wheel of the event loop the channel was registered with, so is dropped if the channel
+     * moves to another one.
+     */
+    @Override
+    public void channelUnregistered(ChannelHandlerContext ctx) throws Exception {
+        stop();
+        timeout = null;
+        super.channelUnregistered(ctx);
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        stop();
+        super.channelInactive(ctx);
+    }
+
+    @Override
+    public void channelReadComplete(ChannelHandlerContext ctx) throws Exception {
+        if (mode != Mode.OFF) {
+            timeout.arm(timeoutNanos, TimeUnit.NANOSECONDS);
+        }
+        super.channelReadComplete(ctx);
+    }
+
+    public void startIdleTimeout(long timeout, TimeUnit unit) {
+        start(Mode.IDLE, unit.toNanos(timeout));
+    }
+
+    public void startReadTimeout(long timeout, TimeUnit unit) {
+        start(Mode.READ_TIMEOUT, unit.toNanos(timeout));
+    }
+
+    /**
+     * Turns the idle timeout off, if it is on.
+     */
+    public void stopIdleTimeout() {
+        if (mode == Mode.IDLE) {
+            stop();
+        }
+    }
+
+    /**
+     * Turns the read timeout off, if it is on.
+     */
+    public void stopReadTimeout() {
+        if (mode == Mode.READ_TIMEOUT) {
+            stop();
+        }
+    }
+
+    public boolean isIdleTimeoutActive() {
+        return mode == Mode.IDLE;
+    }
+
+    public boolean isReadTimeoutActive() {
+        return mode == Mode.READ_TIMEOUT;
+    }
+
+    private void start(Mode newMode, long nanos) {
+        if (ctx == null || nanos <= 0) {
+            return;
+        }
+        if (timeout == null) {
+            timeout = TimingWheel.forExecutor(ctx.executor()).newTimeout(this::onTimeout);
+        }
+        mode = newMode;
+        timeoutNanos = nanos;
+        timeout.arm(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void stop() {
+        mode = Mode.OFF;
+        if (timeout != null) {
+            timeout.disarm();
+        }
+    }
+
+    private void onTimeout() {
+        if (mode == Mode.OFF || ctx == null || !ctx.channel().isOpen()) {
+            return;
+        }
+
+        Mode expired = mode;
+        mode = Mode.OFF;
+        if (expired == Mode.IDLE) {
+            ctx.fireUserEventTriggered(IdleStateEvent.FIRST_ALL_IDLE_STATE_EVENT);
+        } else {
+            ctx.fireExceptionCaught(ReadTimeoutException.INSTANCE);
+            ctx.close();
+        }
+    }
+}
@@ -23,18 +23,27 @@ import com.netflix.zuul.discovery.DiscoveryResult;
 import com.netflix.zuul.exception.OutboundErrorType;
 import com.netflix.zuul.passport.CurrentPassport;
 import com.netflix.zuul.passport.PassportState;
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.EventLoop;
 import io.netty.handler.codec.DecoderException;
 import io.netty.util.AttributeKey;
+import io.netty.util.concurrent.FastThreadLocal;
 import io.netty.util.concurrent.Promise;
+import io.netty.util.concurrent.ScheduledFuture;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
-import java.util.Deque;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import javax.annotation.Nullable;
@@ -49,8 +58,32 @@ import org.slf4j.LoggerFactory;
 public class PerServerConnectionPool implements IConnectionPool {
     private static final Logger LOG = LoggerFactory.getLogger(PerServerConnectionPool.class);
     public static final AttributeKey<IConnectionPool> CHANNEL_ATTR = AttributeKey.newInstance("_connection_pool");
-    protected final ConcurrentHashMap<EventLoop, Deque<PooledConnection>> connectionsPerEventLoop =
-            new ConcurrentHashMap<>();
+
+    /**
+     * Every event loop thread is given a small, process-wide ordinal the first time it touches any pool, which is
+     * then used as an index into {@link #eventLoopPools}.
+     */
+    private static final AtomicInteger NEXT_EVENT_LOOP_ORDINAL = new AtomicInteger();
+
+    private static final FastThreadLocal<Integer> EVENT_LOOP_ORDINAL = new FastThreadLocal<>() {
+        @Override
+        protected Integer initialValue() {
+            return NEXT_EVENT_LOOP_ORDINAL.getAndIncrement();
+        }
+    };
+
+    /**
+     * Per event loop pools, indexed by event loop ordinal.  Only ever grown (copy-on-write, under the pool monitor),
+     * so the fast path is a plain array read.
+     */
+    private volatile EventLoopPool[] eventLoopPools = new EventLoopPool[0];
+
+    /**
+     * Pools for event loops that were first seen from outside their own thread, so that no ordinal was known.  They
+     * are moved into {@link #eventLoopPools} the first time their event loop looks them up.
+     */
+    private final List<EventLoopPool> unindexedPools = new ArrayList<>(0);
+
     protected final PooledConnectionFactory pooledConnectionFactory;
 
     protected final DiscoveryResult server;
@@ -69,8 +102,6 @@ public class PerServerConnectionPool implements IConnectionPool {
     protected final Counter maxConnsPerHostExceededCounter;
     protected final Counter closeAboveHighWaterMarkCounter;
     protected final Timer connEstablishTimer;
-    protected final AtomicInteger connsInPool;
-    protected final AtomicInteger connsInUse;
 
     /**
      * This is the count of connections currently in progress of being established.
@@ -79,6 +110,7 @@ public class PerServerConnectionPool implements IConnectionPool {
     protected final AtomicInteger connCreationsInProgress;
 
     protected volatile boolean draining;
+    protected volatile boolean shutdown;
 
     public PerServerConnectionPool(
             DiscoveryResult server,
@@ -95,9 +127,7 @@ public class PerServerConnectionPool implements IConnectionPool {
             Counter connTakenFromPoolIsNotOpen,
             Counter closeAboveHighWaterMarkCounter,
             Counter maxConnsPerHostExceededCounter,
-            Timer connEstablishTimer,
-            AtomicInteger connsInPool,
-            AtomicInteger connsInUse) {
+            Timer connEstablishTimer) {
         this.server = server;
         // Note: child classes can sometimes connect to different addresses than
         this.serverAddr = Objects.requireNonNull(serverAddr, "serverAddr");
@@ -114,8 +144,6 @@ public class PerServerConnectionPool implements IConnectionPool {
         this.closeAboveHighWaterMarkCounter = closeAboveHighWaterMarkCounter;
         this.maxConnsPerHostExceededCounter = maxConnsPerHostExceededCounter;
         this.connEstablishTimer = connEstablishTimer;
-        this.connsInPool = connsInPool;
-        this.connsInUse = connsInUse;
 
         this.connCreationsInProgress = new AtomicInteger(0);
     }
@@ -144,6 +172,11 @@ public class PerServerConnectionPool implements IConnectionPool {
     }
 
     protected void removeIdleStateHandler(PooledConnection conn) {
+        OriginTimeoutHandler timeouts = conn.getTimeoutHandler();
+        if (timeouts != null) {
+            timeouts.stopIdleTimeout();
+            return;
+        }
         DefaultClientChannelManager.removeHandlerFromPipeline(
                 DefaultClientChannelManager.IDLE_STATE_HANDLER_NAME,
                 conn.getChannel().pipeline());
@@ -162,13 +195,17 @@ public class PerServerConnectionPool implements IConnectionPool {
 
         Promise<PooledConnection> promise = eventLoop.newPromise();
 
+        if (config.isAdaptiveWaterline()) {
+            getPoolForEventLoop(eventLoop).recordDemand(System.nanoTime(), getDemandWindowNanos());
+        }
+
         // Try getting a connection from the pool.
         PooledConnection conn = tryGettingFromConnectionPool(eventLoop);
         if (conn != null) {
             // There was a pooled connection available, so use this one.
             reusePooledConnection(passport, selectedHostAddr, conn, promise);
-        } else {
-            // connection pool empty, create new connection using client connection factory.
+        } else if (!isBorrowingEnabled() || !tryBorrowingConnection(eventLoop, promise, passport, selectedHostAddr)) {
+            // connection pool empty, and none to borrow, so create new connection using client connection factory.
             tryMakingNewConnection(eventLoop, promise, passport, selectedHostAddr);
         }
 
@@ -185,7 +222,7 @@ public class PerServerConnectionPool implements IConnectionPool {
         conn.getChannel().read();
         onAcquire(conn, passport);
         initPooledConnection(conn, promise);
-        selectedHostAddr.set(getSelectedHostString(serverAddr));
+        selectedHostAddr.set(getConnectedHost(conn.getChannel()));
     }
 
     protected void updateServerStatsOnAcquire() {
@@ -194,26 +231,128 @@ public class PerServerConnectionPool implements IConnectionPool {
 
     public PooledConnection tryGettingFromConnectionPool(EventLoop eventLoop) {
         PooledConnection conn;
-        Deque<PooledConnection> connections = getPoolForEventLoop(eventLoop);
+        EventLoopPool connections = getPoolForEventLoop(eventLoop);
         while ((conn = connections.poll()) != null) {
 
             conn.setInPool(false);
 
+            if (conn.isPastLifetime(config.getMaxConnectionLifetimeMs())) {
+                LOG.debug("[{}] closing pooled conn past its lifetime", conn.getChannel().id());
+                conn.close();
+                continue;
+            }
+
             /* Check that the connection is still open. */
             if (isValidFromPool(conn)) {
                 reuseConnCounter.increment();
-                connsInUse.incrementAndGet();
-                connsInPool.decrementAndGet();
+                connections.incrementInUse();
                 return conn;
             } else {
                 connTakenFromPoolIsNotOpen.increment();
-                connsInPool.decrementAndGet();
                 conn.close();
             }
         }
         return null;
     }
 
+    protected boolean isBorrowingEnabled() {
+        return config.isBorrowAcrossEventLoops();
+    }
+
+    /**
+     * Borrows an idle connection from the event loop with the most of them, by deregistering its channel from that
+     * event loop and registering it with this one.  That costs a couple of thread hops and poller updates, but is far
+     * cheaper than opening (and handshaking) a new connection.  If the other event loop has since run out, a new
+     * connection is made after all.
+     *
+     * @return false if no other event loop has idle connections to this server
+     */
+    protected boolean tryBorrowingConnection(
+            EventLoop eventLoop,
+            Promise<PooledConnection> promise,
+            CurrentPassport passport,
+            AtomicReference<? super InetAddress> selectedHostAddr) {
+        EventLoopPool lender = null;
+        for (EventLoopPool candidate : eventLoopPools) {
+            if (candidate != null
+                    && candidate.eventLoop != eventLoop
+                    && candidate.size() > 0
+                    && (lender == null || candidate.size() > lender.size())) {
+                lender = candidate;
+            }
+        }
+        if (lender == null) {
+            return false;
+        }
+
+        EventLoopPool from = lender;
+        try {
+            from.eventLoop.execute(() -> lendConnection(from, eventLoop, promise, passport, selectedHostAddr));
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Runs on the lending event loop.
+     */
+    private void lendConnection(
+            EventLoopPool lender,
+            EventLoop borrower,
+            Promise<PooledConnection> promise,
+            CurrentPassport passport,
+            AtomicReference<? super InetAddress> selectedHostAddr) {
+        PooledConnection conn;
+        while ((conn = lender.poll()) != null) {
+            conn.setInPool(false);
+            if (isValidFromPool(conn) && !conn.isPastLifetime(config.getMaxConnectionLifetimeMs())) {
+                break;
+            }
+            connTakenFromPoolIsNotOpen.increment();
+            conn.close();
+        }
+        if (conn == null) {
+            // Lost the race with the lender's own requests.
+            borrower.execute(() -> tryMakingNewConnection(borrower, promise, passport, selectedHostAddr));
+            return;
+        }
+
+        // Timers belong to the lender, so must be stopped before the channel leaves it.
+        removeIdleStateHandler(conn);
+
+        PooledConnection borrowed = conn;
+        Channel ch = conn.getChannel();
+        ch.deregister().addListener(deregistered -> {
+            if (!deregistered.isSuccess()) {
+                onBorrowFailed(borrowed, borrower, promise, passport, selectedHostAddr, deregistered.cause());
+                return;
+            }
+            borrower.register(ch).addListener(registered -> {
+                if (!registered.isSuccess()) {
+                    onBorrowFailed(borrowed, borrower, promise, passport, selectedHostAddr, registered.cause());
+                    return;
+                }
+                LOG.debug("[{}] borrowed pooled conn from another event loop", ch.id());
+                reuseConnCounter.increment();
+                getPoolForEventLoop(borrower).incrementInUse();
+                reusePooledConnection(passport, selectedHostAddr, borrowed, promise);
+            });
+        });
+    }
+
+    private void onBorrowFailed(
+            PooledConnection conn,
+            EventLoop borrower,
+            Promise<PooledConnection> promise,
+            CurrentPassport passport,
+            AtomicReference<? super InetAddress> selectedHostAddr,
+            Throwable cause) {
+        LOG.debug("[{}] failed to move pooled conn between event loops", conn.getChannel().id(), cause);
+        conn.close();
+        borrower.execute(() -> tryMakingNewConnection(borrower, promise, passport, selectedHostAddr));
+    }
+
     protected boolean isValidFromPool(PooledConnection conn) {
         return conn.isActive() && conn.getChannel().isOpen();
     }
@@ -223,18 +362,73 @@ public class PerServerConnectionPool implements IConnectionPool {
         promise.setSuccess(conn);
     }
 
-    protected Deque<PooledConnection> getPoolForEventLoop(EventLoop eventLoop) {
-        // We don't want to block under any circumstances, so can't use CHM.computeIfAbsent().
-        // Instead we accept the slight inefficiency of an unnecessary instantiation of a ConcurrentLinkedDeque.
+    protected EventLoopPool getPoolForEventLoop(EventLoop eventLoop) {
+        if (eventLoop.inEventLoop()) {
+            int ordinal = EVENT_LOOP_ORDINAL.get();
+            EventLoopPool[] pools = eventLoopPools;
+            if (ordinal < pools.length) {
+                EventLoopPool pool = pools[ordinal];
+                if (pool != null && pool.eventLoop == eventLoop) {
+                    return pool;
+                }
+            }
+        }
+        return getOrCreatePoolForEventLoop(eventLoop);
+    }
 
-        Deque<PooledConnection> pool = connectionsPerEventLoop.get(eventLoop);
+    /**
+     * Slow path of {@link #getPoolForEventLoop(EventLoop)}, taken once per event loop, or when called from outside
+     * the event loop (e.g. during shutdown).
+     */
+    private synchronized EventLoopPool getOrCreatePoolForEventLoop(EventLoop eventLoop) {
+        EventLoopPool[] pools = eventLoopPools;
+        for (EventLoopPool pool : pools) {
+            if (pool != null && pool.eventLoop == eventLoop) {
+                return pool;
+            }
+        }
+
+        EventLoopPool pool = null;
+        for (Iterator<EventLoopPool> it = unindexedPools.iterator(); it.hasNext(); ) {
+            EventLoopPool candidate = it.next();
+            if (candidate.eventLoop == eventLoop) {
+                pool = candidate;
+                it.remove();
+                break;
+            }
+        }
         if (pool == null) {
-            pool = new ConcurrentLinkedDeque<>();
-            connectionsPerEventLoop.putIfAbsent(eventLoop, pool);
+            pool = new EventLoopPool(eventLoop);
+        }
+
+        int ordinal = eventLoop.inEventLoop() ? EVENT_LOOP_ORDINAL.get() : -1;
+        if (ordinal < 0 || (ordinal < pools.length && pools[ordinal] != null)) {
+            // Either the ordinal is unknown, or another event loop already owns this thread's slot (which only
+            // happens with test event loops that are not bound to a single thread).
+            unindexedPools.add(pool);
+            return pool;
         }
+
+        EventLoopPool[] grown = Arrays.copyOf(pools, Math.max(pools.length, ordinal + 1));
+        grown[ordinal] = pool;
+        eventLoopPools = grown;
         return pool;
     }
 
+    /**
+     * Returns a point-in-time copy of all the per event loop pools.
+     */
+    protected synchronized List<EventLoopPool> getEventLoopPools() {
+        List<EventLoopPool> all = new ArrayList<>(eventLoopPools.length + unindexedPools.size());
+        for (EventLoopPool pool : eventLoopPools) {
+            if (pool != null) {
+                all.add(pool);
+            }
+        }
+        all.addAll(unindexedPools);
+        return all;
+    }
+
     protected void tryMakingNewConnection(
             EventLoop eventLoop,
             Promise<PooledConnection> promise,
@@ -250,16 +444,20 @@ public class PerServerConnectionPool implements IConnectionPool {
             connCreationsInProgress.incrementAndGet();
             passport.add(PassportState.ORIGIN_CH_CONNECTING);
 
+            // Null for a host name until it's connected, see handleConnectCompletion.
             selectedHostAddr.set(getSelectedHostString(serverAddr));
 
             ChannelFuture cf = connectToServer(eventLoop, passport, serverAddr);
 
+            int raceDelayMs = config.getConnectRaceDelayMs();
             if (cf.isDone()) {
-                handleConnectCompletion(cf, promise, passport);
+                handleConnectCompletion(cf, promise, passport, selectedHostAddr);
+            } else if (raceDelayMs > 0) {
+                new ConnectRace(eventLoop, promise, passport, selectedHostAddr).start(cf, raceDelayMs);
             } else {
                 cf.addListener(future -> {
                     try {
-                        handleConnectCompletion((ChannelFuture) future, promise, passport);
+                        handleConnectCompletion((ChannelFuture) future, promise, passport, selectedHostAddr);
                     } catch (Throwable e) {
                         if (!promise.isDone()) {
                             promise.setFailure(e);
@@ -276,6 +474,98 @@ public class PerServerConnectionPool implements IConnectionPool {
         }
     }
 
+    /**
+     * Races a second connect against one that hasn't completed within the race delay, and keeps whichever connects
+     * first.  A lost SYN isn't retransmitted for a second or more, which is usually longer than the connect timeout,
+     * so a fresh attempt often succeeds well before the first one would have timed out.
+     *
+     * <p>Only a failure of the last attempt still in flight fails the request, and only the winner counts towards the
+     * server's stats.  A loser that connects anyway is closed without ever being pooled.  Once started, all the state
+     * is only touched from the event loop.
+     */
+    private final class ConnectRace {
+        private final EventLoop eventLoop;
+        private final Promise<PooledConnection> promise;
+        private final CurrentPassport passport;
+        private final AtomicReference<? super InetAddress> selectedHostAddr;
+
+        private int pending;
+        private boolean decided;
+
+        @Nullable private ScheduledFuture<?> raceTimer;
+
+        ConnectRace(
+                EventLoop eventLoop,
+                Promise<PooledConnection> promise,
+                CurrentPassport passport,
+                AtomicReference<? super InetAddress> selectedHostAddr) {
+            this.eventLoop = eventLoop;
+            this.promise = promise;
+            this.passport = passport;
+            this.selectedHostAddr = selectedHostAddr;
+        }
+
+        void start(ChannelFuture first, int raceDelayMs) {
+            pending = 1;
+            raceTimer = eventLoop.schedule(this::startSecondAttempt, raceDelayMs, TimeUnit.MILLISECONDS);
+            first.addListener((ChannelFutureListener) this::onAttemptComplete);
+        }
+
+        private void startSecondAttempt() {
+            if (decided || draining || shutdown || !hasConnectionHeadroom()) {
+                return;
+            }
+            LOG.debug(
+                    "Connect slow, racing a second attempt. origin={}, host={}",
+                    config.getOriginName(),
+                    server.getServerId());
+            createNewConnCounter.increment();
+            connCreationsInProgress.incrementAndGet();
+            pending++;
+            try {
+                connectToServer(eventLoop, passport, serverAddr)
+                        .addListener((ChannelFutureListener) this::onAttemptComplete);
+            } catch (Throwable e) {
+                pending--;
+                connCreationsInProgress.decrementAndGet();
+                LOG.debug("Failed to start racing connect", e);
+            }
+        }
+
+        private void onAttemptComplete(ChannelFuture cf) {
+            pending--;
+            if (decided) {
+                connCreationsInProgress.decrementAndGet();
+                if (cf.isSuccess()) {
+                    cf.channel().close();
+                }
+                return;
+            }
+            if (!cf.isSuccess() && pending > 0) {
+                // Leave it to the attempt that is still in flight.
+                connCreationsInProgress.decrementAndGet();
+                createConnFailedCounter.increment();
+                return;
+            }
+
+            decided = true;
+            if (raceTimer != null) {
+                raceTimer.cancel(false);
+            }
+            try {
+                handleConnectCompletion(cf, promise, passport, selectedHostAddr);
+            } catch (Throwable e) {
+                if (!promise.isDone()) {
+                    promise.setFailure(e);
+                }
+                LOG.warn(
+                        "Error creating new connection! origin={}, host={}",
+                        config.getOriginName(),
+                        server.getServerId());
+            }
+        }
+    }
+
     protected boolean isWithinConnectionLimit(Promise<PooledConnection> promise) {
         // Enforce MaxConnectionsPerHost config.
         int maxConnectionsPerHost = config.maxConnectionsPerHost();
@@ -303,13 +593,17 @@ public class PerServerConnectionPool implements IConnectionPool {
     }
 
     protected void handleConnectCompletion(
-            ChannelFuture cf, Promise<PooledConnection> callerPromise, CurrentPassport passport) {
+            ChannelFuture cf,
+            Promise<PooledConnection> callerPromise,
+            CurrentPassport passport,
+            AtomicReference<? super InetAddress> selectedHostAddr) {
         connCreationsInProgress.decrementAndGet();
         updateServerStatsOnConnectCompletion(cf);
         if (cf.isSuccess()) {
             passport.add(PassportState.ORIGIN_CH_CONNECTED);
+            selectedHostAddr.set(getConnectedHost(cf.channel()));
             createConnSucceededCounter.increment();
-            connsInUse.incrementAndGet();
+            getPoolForEventLoop(cf.channel().eventLoop()).incrementInUse();
             createConnection(cf, callerPromise, passport);
         } else {
             createConnFailedCounter.increment();
@@ -347,6 +641,81 @@ public class PerServerConnectionPool implements IConnectionPool {
         callerPromise.setSuccess(conn);
     }
 
+    @Override
+    public boolean warmUp(EventLoop eventLoop) {
+        int minIdle = getMinIdle();
+        if (minIdle <= 0 || draining || shutdown) {
+            return true;
+        }
+
+        EventLoopPool connections = getPoolForEventLoop(eventLoop);
+        boolean warm = connections.size() + connections.inUse() >= minIdle;
+
+        int missing = minIdle - connections.size() - connections.warmingUp;
+        for (int i = 0; i < missing && hasConnectionHeadroom(); i++) {
+            warmUpConnection(connections);
+        }
+        return warm;
+    }
+
+    /**
+     * There is no point keeping more idle connections than the waterline allows back into the pool.  An adaptive
+     * waterline never drops below the min idle count, so doesn't cap it.
+     */
+    protected int getMinIdle() {
+        int minIdle = config.minIdlePerServerPerEventLoop();
+        if (config.isAdaptiveWaterline()) {
+            return minIdle;
+        }
+        int poolWaterline = config.perServerWaterline();
+        return poolWaterline > -1 ? Math.min(minIdle, poolWaterline) : minIdle;
+    }
+
+    protected boolean hasConnectionHeadroom() {
+        int maxConnectionsPerHost = config.maxConnectionsPerHost();
+        return maxConnectionsPerHost == -1
+                || server.getOpenConnectionsCount() + connCreationsInProgress.get() < maxConnectionsPerHost;
+    }
+
+    private void warmUpConnection(EventLoopPool connections) {
+        createNewConnCounter.increment();
+        connCreationsInProgress.incrementAndGet();
+        connections.warmingUp++;
+
+        ChannelFuture cf = connectToServer(connections.eventLoop, CurrentPassport.create(), serverAddr);
+        cf.addListener(future -> {
+            connections.warmingUp--;
+            connCreationsInProgress.decrementAndGet();
+            if (cf.isSuccess()) {
+                createConnSucceededCounter.increment();
+                server.incrementOpenConnectionsCount();
+                addWarmedConnection(cf.channel(), connections);
+            } else {
+                // Don't count this against the server's health; no request was relying on it.
+                createConnFailedCounter.increment();
+                LOG.debug(
+                        "Failed to pre-warm connection. origin={}, host={}",
+                        config.getOriginName(),
+                        server.getServerId(),
+                        cf.cause());
+            }
+        });
+    }
+
+    /**
+     * Puts a connection opened by {@link #warmUp(EventLoop)} in the pool, as though it had been released after use.
+     */
+    protected void addWarmedConnection(Channel ch, EventLoopPool connections) {
+        PooledConnection conn = pooledConnectionFactory.create(ch);
+        if (draining || shutdown) {
+            conn.close();
+            return;
+        }
+        DefaultClientChannelManager.addIdleStateHandler(conn, config.getIdleTimeout());
+        connections.offer(conn);
+        conn.setInPool(true);
+    }
+
     @Override
     public boolean release(PooledConnection conn) {
         if (conn == null) {
@@ -366,29 +735,47 @@ public class PerServerConnectionPool implements IConnectionPool {
 
         // Get the eventloop for this channel.
         EventLoop eventLoop = conn.getChannel().eventLoop();
-        Deque<PooledConnection> connections = getPoolForEventLoop(eventLoop);
+        EventLoopPool connections = getPoolForEventLoop(eventLoop);
 
         CurrentPassport passport = CurrentPassport.fromChannel(conn.getChannel());
 
         // Discard conn if already at least above waterline in the pool already for this server.
-        if (isOverPerServerWaterline(connections.size())) {
+        if (isOverWaterline(connections)) {
             closeAboveHighWaterMarkCounter.increment();
             conn.close();
             conn.setInPool(false);
             return false;
         }
         // Attempt to return connection to the pool.
-        else if (connections.offer(conn)) {
-            conn.setInPool(true);
-            connsInPool.incrementAndGet();
-            passport.add(PassportState.ORIGIN_CH_POOL_RETURNED);
-            return true;
-        } else {
-            // If the pool is full, then close the conn and discard.
-            conn.close();
-            conn.setInPool(false);
-            return false;
+        connections.offer(conn);
+        conn.setInPool(true);
+        passport.add(PassportState.ORIGIN_CH_POOL_RETURNED);
+        return true;
+    }
+
+    @Override
+    public void onRelease(PooledConnection conn) {
+        getPoolForEventLoop(conn.getChannel().eventLoop()).decrementInUse();
+    }
+
+    protected boolean isOverWaterline(EventLoopPool connections) {
+        if (config.isAdaptiveWaterline()) {
+            return connections.size() >= getAdaptiveWaterline(connections);
         }
+        return isOverPerServerWaterline(connections.size());
+    }
+
+    /**
+     * The number of idle connections worth keeping for a server on one event loop: enough to serve the recent peak
+     * in concurrent requests without connecting, and never fewer than the min idle count.
+     */
+    protected int getAdaptiveWaterline(EventLoopPool connections) {
+        int demand = connections.demand(System.nanoTime(), getDemandWindowNanos());
+        return Math.max(Math.max(demand, 1), config.minIdlePerServerPerEventLoop());
+    }
+
+    private long getDemandWindowNanos() {
+        return TimeUnit.MILLISECONDS.toNanos(Math.max(1, config.getAdaptiveWaterlineWindowMs()));
     }
 
     protected boolean isOverPerServerWaterline(int connectionsInPool) {
@@ -409,10 +796,9 @@ public class PerServerConnectionPool implements IConnectionPool {
         EventLoop eventLoop = conn.getChannel().eventLoop();
 
         // Attempt to remove connection from the pool.
-        Deque<PooledConnection> connections = getPoolForEventLoop(eventLoop);
+        EventLoopPool connections = getPoolForEventLoop(eventLoop);
         if (connections.remove(conn)) {
             conn.setInPool(false);
-            connsInPool.decrementAndGet();
             return true;
         } else {
             return false;
@@ -421,10 +807,15 @@ public class PerServerConnectionPool implements IConnectionPool {
 
     @Override
     public void shutdown() {
-        for (Deque<PooledConnection> connections : connectionsPerEventLoop.values()) {
-            for (PooledConnection conn : connections) {
-                conn.close();
-            }
+        shutdown = true;
+        for (EventLoopPool connections : getEventLoopPools()) {
+            // The pools are not thread safe, so close from the owning event loop.
+            connections.eventLoop.execute(() -> {
+                PooledConnection conn;
+                while ((conn = connections.poll()) != null) {
+                    conn.close();
+                }
+            });
         }
     }
 
@@ -435,17 +826,65 @@ public class PerServerConnectionPool implements IConnectionPool {
         }
 
         draining = true;
-        connectionsPerEventLoop.forEach((eventLoop, v) -> drainIdleConnectionsOnEventLoop(eventLoop));
+        getEventLoopPools().forEach(connections -> drainIdleConnectionsOnEventLoop(connections.eventLoop));
     }
 
+    /**
+     * Sums the per event loop counts.  The result is only approximate if read while connections are being acquired
+     * or released on other event loops, which is fine for metrics.
+     */
     @Override
     public int getConnsInPool() {
-        return connsInPool.get();
+        int total = 0;
+        for (EventLoopPool connections : getEventLoopPools()) {
+            total += connections.size();
+        }
+        return total;
     }
 
     @Override
     public int getConnsInUse() {
-        return connsInUse.get();
+        int total = 0;
+        for (EventLoopPool connections : getEventLoopPools()) {
+            total += connections.inUse();
+        }
+        return total;
+    }
+
+    @Override
+    public CompletableFuture<List<ConnectionPoolSnapshot.EventLoopSnapshot>> snapshot() {
+        List<CompletableFuture<ConnectionPoolSnapshot.EventLoopSnapshot>> futures = new ArrayList<>();
+        for (EventLoopPool connections : getEventLoopPools()) {
+            CompletableFuture<ConnectionPoolSnapshot.EventLoopSnapshot> future = new CompletableFuture<>();
+            try {
+                connections.eventLoop().execute(() -> future.complete(connections.snapshot(getWaterline(connections))));
+            } catch (RejectedExecutionException e) {
+                future.completeExceptionally(e);
+            }
+            futures.add(future);
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
+                .thenApply(ignored -> futures.stream().map(CompletableFuture::join).toList());
+    }
+
+    /**
+     * The waterline currently applied to the given pool, or -1 if unlimited.  Must be called on the pool's event loop.
+     */
+    private int getWaterline(EventLoopPool connections) {
+        return config.isAdaptiveWaterline() ? getAdaptiveWaterline(connections) : config.perServerWaterline();
+    }
+
+    /**
+     * The address a connected channel is connected to.  This is usually just the server's, but host names are resolved
+     * per connection (see {@link ConnectionPoolConfig#isAsyncDnsResolution()}), so then the channel is asked.
+     */
+    @Nullable protected InetAddress getConnectedHost(Channel ch) {
+        SocketAddress addr = serverAddr;
+        if (addr instanceof InetSocketAddress inetAddr && inetAddr.isUnresolved()) {
+            SocketAddress remoteAddr = ch.remoteAddress();
+            addr = remoteAddr != null ? remoteAddr : addr;
+        }
+        return getSelectedHostString(addr);
     }
 
     @Nullable protected InetAddress getSelectedHostString(SocketAddress addr) {
@@ -465,18 +904,129 @@ public class PerServerConnectionPool implements IConnectionPool {
      */
     void drainIdleConnectionsOnEventLoop(EventLoop eventLoop) {
         eventLoop.execute(() -> {
-            Deque<PooledConnection> connections = connectionsPerEventLoop.get(eventLoop);
-            if (connections == null) {
-                return;
-            }
+            EventLoopPool connections = getPoolForEventLoop(eventLoop);
 
-            for (PooledConnection connection : connections) {
-                // any connections in the Deque are idle since they are removed in tryGettingFromConnectionPool()
+            PooledConnection connection;
+            while ((connection = connections.poll()) != null) {
+                // any connections in the pool are idle since they are removed in tryGettingFromConnectionPool()
                 connection.setInPool(false);
                 LOG.debug("Closing connection {}", connection);
                 connection.close();
-                connsInPool.decrementAndGet();
             }
         });
     }
+
+    /**
+     * The idle connections and in-use count of a single server, on a single event loop.  Only ever mutated from that
+     * event loop, so it needs no synchronization: {@code size()} is O(1) and the counters never bounce between cores.
+     * The counts are volatile so that metrics can read them from other threads.
+     */
+    protected static final class EventLoopPool {
+        private static final double DEMAND_EWMA_ALPHA = 0.2;
+
+        private final EventLoop eventLoop;
+        private final ArrayDeque<PooledConnection> connections = new ArrayDeque<>();
+        private int inUseCount;
+        private int warmingUp;
+
+        // Peak concurrent demand: that of the current window, and a moving average of that of past windows.
+        private int windowPeak;
+        private long windowStartNanos;
+        private double demandEwma;
+
+        // Published copies of the counts, for reads from other threads.
+        private volatile int inPool;
+        private volatile int inUse;
+
+        EventLoopPool(EventLoop eventLoop) {
+            this.eventLoop = eventLoop;
+        }
+
+        public EventLoop eventLoop() {
+            return eventLoop;
+        }
+
+        @Nullable public PooledConnection poll() {
+            PooledConnection conn = connections.pollFirst();
+            if (conn != null) {
+                inPool = connections.size();
+            }
+            return conn;
+        }
+
+        public void offer(PooledConnection conn) {
+            connections.addLast(conn);
+            inPool = connections.size();
+        }
+
+        public boolean remove(PooledConnection conn) {
+            boolean removed = connections.remove(conn);
+            if (removed) {
+                inPool = connections.size();
+            }
+            return removed;
+        }
+
+        public int size() {
+            return inPool;
+        }
+
+        public int inUse() {
+            return inUse;
+        }
+
+        void incrementInUse() {
+            inUse = ++inUseCount;
+        }
+
+        void decrementInUse() {
+            inUse = --inUseCount;
+        }
+
+        /**
+         * Records a request for a connection, on top of those already in use.
+         */
+        void recordDemand(long nowNanos, long windowNanos) {
+            rollDemandWindow(nowNanos, windowNanos);
+            windowPeak = Math.max(windowPeak, inUseCount + 1);
+        }
+
+        /**
+         * The number of connections recently needed at once: the larger of the current window's peak, and the moving
+         * average of past windows' peaks.  The average decays through windows with no requests, so that a server that
+         * has gone quiet is left with few idle connections.
+         */
+        int demand(long nowNanos, long windowNanos) {
+            rollDemandWindow(nowNanos, windowNanos);
+            return (int) Math.ceil(Math.max(windowPeak, demandEwma));
+        }
+
+        private void rollDemandWindow(long nowNanos, long windowNanos) {
+            long elapsed = nowNanos - windowStartNanos;
+            if (elapsed < windowNanos) {
+                return;
+            }
+            long windows = elapsed / windowNanos;
+            demandEwma += DEMAND_EWMA_ALPHA * (windowPeak - demandEwma);
+            if (windows > 1) {
+                // The windows since then had no requests, so a peak of whatever was still in use.
+                double decay = Math.pow(1 - DEMAND_EWMA_ALPHA, Math.min(windows - 1, 64));
+                demandEwma = inUseCount + (demandEwma - inUseCount) * decay;
+            }
+            windowPeak = inUseCount;
+            windowStartNanos = windows > 1 ? nowNanos : windowStartNanos + windowNanos;
+        }
+
+        /**
+         * Must be called on the event loop.
+         */
+        ConnectionPoolSnapshot.EventLoopSnapshot snapshot(int waterline) {
+            List<ConnectionPoolSnapshot.ConnectionSnapshot> idle = new ArrayList<>(connections.size());
+            for (PooledConnection conn : connections) {
+                idle.add(ConnectionPoolSnapshot.ConnectionSnapshot.of(conn));
+            }
+            return new ConnectionPoolSnapshot.EventLoopSnapshot(
+                    Thread.currentThread().getName(), connections.size(), inUseCount, warmingUp, waterline, idle);
+        }
+    }
 }
@@ -18,19 +18,25 @@ package com.netflix.zuul.netty.connectionpool;
 
 import com.netflix.spectator.api.Counter;
 import com.netflix.zuul.discovery.DiscoveryResult;
+import com.netflix.zuul.netty.server.OriginResponseReceiverBinding;
 import com.netflix.zuul.passport.CurrentPassport;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelPipeline;
+import io.netty.handler.codec.http2.Http2StreamChannel;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.util.AttributeKey;
 import java.time.Duration;
 import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Created by saroskar on 3/15/16.
+ *
+ * For HTTP/2 origins, a PooledConnection is a lease on a single stream of a shared connection: its channel is the
+ * stream channel, closing it only ends the stream, and it is never returned to the pool.
  */
 public class PooledConnection {
 
@@ -67,6 +73,12 @@ public class PooledConnection {
     private boolean shouldClose = false;
     protected boolean released = false;
 
+    @Nullable private OriginTimeoutHandler timeoutHandler;
+
+    @Nullable private OriginResponseReceiverBinding responseReceiverBinding;
+
+    private boolean permanentHandlersLookedUp = false;
+
     public PooledConnection(
             Channel channel,
             DiscoveryResult server,
@@ -127,6 +139,18 @@ public class PooledConnection {
         return System.currentTimeMillis() - creationTS;
     }
 
+    /**
+     * Whether this connection has outlived {@code maxLifetimeMs}.  Each connection expires up to 10% early, based on
+     * its channel id, so that connections opened together (e.g. by a warm up) aren't all recycled together.
+     */
+    public boolean isPastLifetime(long maxLifetimeMs) {
+        if (maxLifetimeMs <= 0) {
+            return false;
+        }
+        long jitter = (channel.id().hashCode() & Integer.MAX_VALUE) % Math.max(1, maxLifetimeMs / 10);
+        return getAgeInMillis() >= maxLifetimeMs - jitter;
+    }
+
     public void startRequestTimer() {
         reqStartTime = System.nanoTime();
     }
@@ -137,6 +161,13 @@ public class PooledConnection {
         return responseTime;
     }
 
+    /**
+     * Whether this is a stream on a multiplexed HTTP/2 origin connection, rather than a connection of its own.
+     */
+    public boolean isStream() {
+        return channel instanceof Http2StreamChannel;
+    }
+
     public boolean isActive() {
         return (channel.isActive() && channel.isRegistered());
     }
@@ -158,13 +189,19 @@ public class PooledConnection {
     }
 
     public ChannelFuture close() {
+        if (isStream()) {
+            // The connection the stream belongs to is accounted for by the pool.
+            return channel.close();
+        }
         server.decrementOpenConnectionsCount();
         closeConnCounter.increment();
         return channel.close();
     }
 
     public void updateServerStats() {
-        server.decrementOpenConnectionsCount();
+        if (!isStream()) {
+            server.decrementOpenConnectionsCount();
+        }
         server.stopPublishingStats();
     }
 
@@ -200,8 +237,13 @@ public class PooledConnection {
     }
 
     public void removeReadTimeoutHandler() {
-        // Remove (and therefore destroy) the readTimeoutHandler when we release the
-        // channel back to the pool. As don't want it timing-out when it's not in use.
+        // Stop the read timeout when we release the channel back to the pool, as we don't want it timing-out when
+        // it's not in use.
+        OriginTimeoutHandler timeouts = getTimeoutHandler();
+        if (timeouts != null) {
+            timeouts.stopReadTimeout();
+            return;
+        }
         ChannelPipeline pipeline = getChannel().pipeline();
         removeHandlerFromPipeline(READ_TIMEOUT_HANDLER_NAME, pipeline);
     }
@@ -213,6 +255,11 @@ public class PooledConnection {
     }
 
     public void startReadTimeoutHandler(Duration readTimeout) {
+        OriginTimeoutHandler timeouts = getTimeoutHandler();
+        if (timeouts != null) {
+            timeouts.startReadTimeout(readTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            return;
+        }
         getChannel()
                 .pipeline()
                 .addBefore(
@@ -221,6 +268,33 @@ public class PooledConnection {
                         new ReadTimeoutHandler(readTimeout.toMillis(), TimeUnit.MILLISECONDS));
     }
 
+    /**
+     * Returns the channel's permanent timeout handler, or null if its pipeline was set up without one (in which case
+     * timeout handlers are added and removed as the connection is used).
+     */
+    @Nullable OriginTimeoutHandler getTimeoutHandler() {
+        lookUpPermanentHandlers();
+        return timeoutHandler;
+    }
+
+    /**
+     * Returns the channel's permanent slot for the origin response receiver, or null if its pipeline was set up
+     * without one (in which case the receiver is added to and removed from the pipeline for each request).
+     */
+    @Nullable public OriginResponseReceiverBinding getResponseReceiverBinding() {
+        lookUpPermanentHandlers();
+        return responseReceiverBinding;
+    }
+
+    private void lookUpPermanentHandlers() {
+        if (!permanentHandlersLookedUp) {
+            ChannelPipeline pipeline = channel.pipeline();
+            timeoutHandler = pipeline.get(OriginTimeoutHandler.class);
+            responseReceiverBinding = pipeline.get(OriginResponseReceiverBinding.class);
+            permanentHandlersLookedUp = true;
+        }
+    }
+
     ConnectionState getConnectionState() {
         return connectionState;
     }
@@ -191,7 +191,7 @@ public abstract class BaseZuulFilterRunner<I extends ZuulMessage, O extends Zuul
 
     protected final O filter(ZuulFilter<I, O> filter, I inMesg) {
         long startTime = System.nanoTime();
-        ZuulMessage snapshot = inMesg.getContext().debugRouting() ? inMesg.clone() : null;
+        int journalMark = inMesg.getContext().debugRouting() ? Debug.markContextState(inMesg.getContext()) : -1;
         FilterChainResumer resumer = null;
 
         try (TaskCloseable ignored = PerfMark.traceTask(filter, f -> f.filterName() + ".filter")) {
@@ -213,7 +213,7 @@ public abstract class BaseZuulFilterRunner<I extends ZuulMessage, O extends Zuul
             }
 
             if (filterRunStatus != null) {
-                recordFilterCompletion(filterRunStatus, filter, startTime, inMesg, snapshot);
+                recordFilterCompletion(filterRunStatus, filter, startTime, inMesg, journalMark);
                 return filter.getDefaultOutput(inMesg);
             }
 
@@ -227,7 +227,7 @@ public abstract class BaseZuulFilterRunner<I extends ZuulMessage, O extends Zuul
             }
             setFilterAwaitingBody(inMesg, false);
 
-            if (snapshot != null) {
+            if (journalMark >= 0) {
                 Debug.addRoutingDebug(
                         inMesg.getContext(),
                         "Filter " + filter.filterType().toString() + " " + filter.filterOrder() + " "
@@ -244,7 +244,7 @@ public abstract class BaseZuulFilterRunner<I extends ZuulMessage, O extends Zuul
                     addPerfMarkTags(inMesg);
                     outMesg = syncFilter.apply(inMesg);
                 }
-                recordFilterCompletion(ExecutionStatus.SUCCESS, filter, startTime, inMesg, snapshot);
+                recordFilterCompletion(ExecutionStatus.SUCCESS, filter, startTime, inMesg, journalMark);
                 return (outMesg != null) ? outMesg : filter.getDefaultOutput(inMesg);
             }
 
@@ -252,7 +252,7 @@ public abstract class BaseZuulFilterRunner<I extends ZuulMessage, O extends Zuul
             try (TaskCloseable ignored2 = PerfMark.traceTask(filter, f -> f.filterName() + ".applyAsync")) {
                 Link nettyToSchedulerLink = PerfMark.linkOut();
                 filter.incrementConcurrency();
-                resumer = new FilterChainResumer(inMesg, filter, snapshot, startTime);
+                resumer = new FilterChainResumer(inMesg, filter, journalMark, startTime);
                 filter.applyAsync(inMesg)
                         .doOnSubscribe(() -> {
                             try (TaskCloseable ignored3 =
@@ -276,7 +276,7 @@ public abstract class BaseZuulFilterRunner<I extends ZuulMessage, O extends Zuul
             }
             O outMesg = handleFilterException(inMesg, filter, t);
             outMesg.finishBufferedBodyIfIncomplete();
-            recordFilterCompletion(ExecutionStatus.FAILED, filter, startTime, inMesg, snapshot);
+            recordFilterCompletion(ExecutionStatus.FAILED, filter, startTime, inMesg, journalMark);
             return outMesg;
         }
     }
@@ -339,11 +339,7 @@ public abstract class BaseZuulFilterRunner<I extends ZuulMessage, O extends Zuul
     }
 
     protected void recordFilterCompletion(
-            ExecutionStatus status,
-            ZuulFilter<I, O> filter,
-            long startTime,
-            ZuulMessage zuulMesg,
-            ZuulMessage startSnapshot) {
+            ExecutionStatus status, ZuulFilter<I, O> filter, long startTime, ZuulMessage zuulMesg, int journalMark) {
 
         SessionContext zuulCtx = zuulMesg.getContext();
         long execTimeNs = System.nanoTime() - startTime;
@@ -366,14 +362,14 @@ public abstract class BaseZuulFilterRunner<I extends ZuulMessage, O extends Zuul
                 if (logger.isDebugEnabled()) {
                     zuulCtx.addFilterExecutionSummary(filter.filterName(), ExecutionStatus.SUCCESS.name(), execTimeMs);
                 }
-                if (startSnapshot != null) {
+                if (journalMark >= 0) {
                     // debugRouting == true
                     Debug.addRoutingDebug(
                             zuulCtx,
                             "Filter {" + filter.filterName() + " TYPE:"
                                     + filter.filterType().toString() + " ORDER:" + filter.filterOrder()
                                     + "} Execution time = " + execTimeMs + "ms");
-                    Debug.compareContextState(filter.filterName(), zuulCtx, startSnapshot.getContext());
+                    Debug.compareContextState(filter.filterName(), zuulCtx, journalMark);
                 }
                 break;
             default:
@@ -421,7 +417,7 @@ public abstract class BaseZuulFilterRunner<I extends ZuulMessage, O extends Zuul
         private final I inMesg;
         private final ZuulFilter<I, O> filter;
         private final long startTime;
-        private final ZuulMessage snapshot;
+        private final int journalMark;
         private final AtomicBoolean concurrencyDecremented;
 
         private final AtomicReference<Link> onNextLinkOut = new AtomicReference<>();
@@ -431,10 +427,10 @@ public abstract class BaseZuulFilterRunner<I extends ZuulMessage, O extends Zuul
         // no synchronization needed since onNext and onCompleted are always called on the same thread
         private O outMesg;
 
-        public FilterChainResumer(I inMesg, ZuulFilter<I, O> filter, ZuulMessage snapshot, long startTime) {
+        public FilterChainResumer(I inMesg, ZuulFilter<I, O> filter, int journalMark, long startTime) {
             this.inMesg = Preconditions.checkNotNull(inMesg, "input message");
             this.filter = Preconditions.checkNotNull(filter, "filter");
-            this.snapshot = snapshot;
+            this.journalMark = journalMark;
             this.startTime = startTime;
             this.concurrencyDecremented = new AtomicBoolean(false);
         }
@@ -462,7 +458,7 @@ public abstract class BaseZuulFilterRunner<I extends ZuulMessage, O extends Zuul
             try (TaskCloseable ignored = PerfMark.traceTask(filter, f -> f.filterName() + ".onErrorAsync")) {
                 PerfMark.linkIn(onErrorLinkOut.get());
                 decrementConcurrency();
-                recordFilterCompletion(ExecutionStatus.FAILED, filter, startTime, inMesg, snapshot);
+                recordFilterCompletion(ExecutionStatus.FAILED, filter, startTime, inMesg, journalMark);
                 O outMesg = handleFilterException(inMesg, filter, ex);
                 resumeInBindingContext(outMesg, filter.filterName());
             } catch (Exception e) {
@@ -478,7 +474,7 @@ public abstract class BaseZuulFilterRunner<I extends ZuulMessage, O extends Zuul
                 if (outMesg == null) {
                     outMesg = filter.getDefaultOutput(inMesg);
                 }
-                recordFilterCompletion(ExecutionStatus.SUCCESS, filter, startTime, inMesg, snapshot);
+                recordFilterCompletion(ExecutionStatus.SUCCESS, filter, startTime, inMesg, journalMark);
                 resumeInBindingContext(outMesg, filter.filterName());
             } catch (Exception e) {
                 handleException(inMesg, filter.filterName(), e);
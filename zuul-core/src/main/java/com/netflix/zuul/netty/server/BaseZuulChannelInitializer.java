@@ -66,6 +66,7 @@ import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelPipeline;
 import io.netty.channel.group.ChannelGroup;
 import io.netty.handler.codec.http.HttpServerCodec;
+import io.netty.handler.flush.FlushConsolidationHandler;
 import io.netty.handler.logging.LogLevel;
 import io.netty.handler.logging.LoggingHandler;
 import io.netty.handler.timeout.IdleStateHandler;
@@ -80,6 +81,7 @@ import java.util.concurrent.TimeUnit;
  */
 public abstract class BaseZuulChannelInitializer extends ChannelInitializer<Channel> {
     public static final String HTTP_CODEC_HANDLER_NAME = "codec";
+    public static final String FLUSH_CONSOLIDATION_HANDLER_NAME = "flushConsolidation";
     public static final AttributeKey<ChannelConfig> ATTR_CHANNEL_CONFIG = AttributeKey.newInstance("channel_config");
 
     protected static final LoggingHandler nettyLogger = new LoggingHandler("zuul.server.nettylog", LogLevel.INFO);
@@ -119,6 +121,7 @@ public abstract class BaseZuulChannelInitializer extends ChannelInitializer<Chan
     protected final int maxRequestsPerConnection;
     protected final int maxRequestsPerConnectionInBrownout;
     protected final int connectionExpiry;
+    protected final int flushConsolidationMaxFlushes;
     protected final int maxConnections;
 
     protected final Registry registry;
@@ -198,6 +201,7 @@ public abstract class BaseZuulChannelInitializer extends ChannelInitializer<Chan
         this.maxRequestsPerConnectionInBrownout =
                 channelConfig.get(CommonChannelConfigKeys.maxRequestsPerConnectionInBrownout);
         this.connectionExpiry = channelConfig.get(CommonChannelConfigKeys.connectionExpiry);
+        this.flushConsolidationMaxFlushes = channelConfig.get(CommonChannelConfigKeys.flushConsolidationMaxFlushes);
 
         StripUntrustedProxyHeadersHandler.AllowWhen allowProxyHeadersWhen =
                 channelConfig.get(CommonChannelConfigKeys.allowProxyHeadersWhen);
@@ -248,6 +252,12 @@ public abstract class BaseZuulChannelInitializer extends ChannelInitializer<Chan
     }
 
     protected void addHttp1Handlers(ChannelPipeline pipeline) {
+        if (flushConsolidationMaxFlushes > 0) {
+            // Ahead of the codec, but behind any SslHandler, so that coalesced writes are also encrypted together.
+            pipeline.addLast(
+                    FLUSH_CONSOLIDATION_HANDLER_NAME,
+                    new FlushConsolidationHandler(flushConsolidationMaxFlushes, true));
+        }
         pipeline.addLast(HTTP_CODEC_HANDLER_NAME, createHttpServerCodec());
 
         pipeline.addLast(new Http1ConnectionCloseHandler());
@@ -28,6 +28,7 @@ import com.netflix.zuul.context.SessionContext;
 import com.netflix.zuul.context.SessionContextDecorator;
 import com.netflix.zuul.exception.ZuulException;
 import com.netflix.zuul.message.Headers;
+import com.netflix.zuul.message.RequestBufferArena;
 import com.netflix.zuul.message.http.HttpQueryParams;
 import com.netflix.zuul.message.http.HttpRequestMessage;
 import com.netflix.zuul.message.http.HttpRequestMessageImpl;
@@ -220,6 +221,10 @@ public class ClientRequestReceiver extends ChannelDuplexHandler {
             if (zuulRequest != null) {
                 zuulRequest.getContext().cancel();
                 zuulRequest.disposeBufferedBody();
+                RequestBufferArena arena = zuulRequest.getContext().get(CommonContextKeys.BUFFER_ARENA);
+                if (arena != null) {
+                    arena.release();
+                }
                 CurrentPassport passport = CurrentPassport.fromSessionContext(zuulRequest.getContext());
                 if ((passport != null) && (passport.findState(PassportState.OUT_RESP_LAST_CONTENT_SENT) == null)) {
                     // Only log this state if the response does not seem to have completed normally.
@@ -321,6 +326,9 @@ public class ClientRequestReceiver extends ChannelDuplexHandler {
             context = new SessionContext();
         }
 
+        // Body buffers built by filters for this request are drawn from the client channel's allocator.
+        RequestBufferArena.install(context, clientCtx.alloc(), clientCtx.executor());
+
         // Get the client IP (ignore XFF headers at this point, as that can be app specific).
         Channel channel = clientCtx.channel();
         String clientIp = getClientIp(channel);
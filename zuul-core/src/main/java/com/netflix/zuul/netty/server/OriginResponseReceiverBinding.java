@@ -0,0 +1,242 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.zuul.netty.server;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import java.net.SocketAddress;
+import javax.annotation.Nullable;
+
+/**
+ * Permanent slot in an origin channel's pipeline for the {@link OriginResponseReceiver} of the request currently using
+ * the connection.
+ *
+ * <p>Rather than adding a receiver to the pipeline for each request and removing it again on release, the receiver is
+ * bound to this slot, which passes it every event using its own context.  While nothing is bound, events just pass
+ * through.
+ *
+ * NOTE: Not threadsafe, must only be used from the channel's event loop.
+ */
+public final class OriginResponseReceiverBinding extends ChannelDuplexHandler {
+
+    public static final String NAME = "originResponseReceiverBinding";
+
+    @Nullable private ChannelHandlerContext ctx;
+
+    @Nullable private OriginResponseReceiver receiver;
+
+    @Nullable public static OriginResponseReceiverBinding fromChannel(Channel ch) {
+        return ch.pipeline().get(OriginResponseReceiverBinding.class);
+    }
+
+    public void bindReceiver(OriginResponseReceiver receiver) {
+        if (ctx == null) {
+            throw new IllegalStateException(NAME + " is not in a pipeline");
+        }
+        unbindReceiver();
+        this.receiver = receiver;
+        try {
+            receiver.handlerAdded(ctx);
+        } catch (Exception e) {
+            ctx.fireExceptionCaught(e);
+        }
+    }
+
+    public void unbindReceiver() {
+        OriginResponseReceiver bound = receiver;
+        if (bound != null) {
+            receiver = null;
+            try {
+                bound.handlerRemoved(ctx);
+            } catch (Exception e) {
+                ctx.fireExceptionCaught(e);
+            }
+        }
+    }
+
+    @Nullable public OriginResponseReceiver getReceiver() {
+        return receiver;
+    }
+
+    @Override
+    public void handlerAdded(ChannelHandlerContext ctx) {
+        this.ctx = ctx;
+    }
+
+    @Override
+    public void handlerRemoved(ChannelHandlerContext ctx) {
+        unbindReceiver();
+        this.ctx = null;
+    }
+
+    @Override
+    public void channelRegistered(ChannelHandlerContext ctx) throws Exception {
+        if (receiver != null) {
+            receiver.channelRegistered(ctx);
+        } else {
+            ctx.fireChannelRegistered();
+        }
+    }
+
+    @Override
+    public void channelUnregistered(ChannelHandlerContext ctx) throws Exception {
+        if (receiver != null) {
+            receiver.channelUnregistered(ctx);
+        } else {
+            ctx.fireChannelUnregistered();
+        }
+    }
+
+    @Override
+    public void channelActive(ChannelHandlerContext ctx) throws Exception {
+        if (receiver != null) {
+            receiver.channelActive(ctx);
+        } else {
+            ctx.fireChannelActive();
+        }
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        if (receiver != null) {
+            receiver.channelInactive(ctx);
+        } else {
+            ctx.fireChannelInactive();
+        }
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+        if (receiver != null) {
+            receiver.channelRead(ctx, msg);
+        } else {
+            ctx.fireChannelRead(msg);
+        }
+    }
+
+    @Override
+    public void channelReadComplete(ChannelHandlerContext ctx) throws Exception {
+        if (receiver != null) {
+            receiver.channelReadComplete(ctx);
+        } else {
+            ctx.fireChannelReadComplete();
+        }
+    }
+
+    @Override
+    public void userEventTriggered(ChannelHandlerContext ctx, Object evt) throws Exception {
+        if (receiver != null) {
+            receiver.userEventTriggered(ctx, evt);
+        } else {
+            ctx.fireUserEventTriggered(evt);
+        }
+    }
+
+    @Override
+    public void channelWritabilityChanged(ChannelHandlerContext ctx) throws Exception {
+        if (receiver != null) {
+            receiver.channelWritabilityChanged(ctx);
+        } else {
+            ctx.fireChannelWritabilityChanged();
+        }
+    }
+
+    @Override
+    public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) throws Exception {
+        if (receiver != null) {
+            receiver.exceptionCaught(ctx, cause);
+        } else {
+            ctx.fireExceptionCaught(cause);
+        }
+    }
+
+    @Override
+    public void bind(ChannelHandlerContext ctx, SocketAddress localAddress, ChannelPromise promise) throws Exception {
+        if (receiver != null) {
+            receiver.bind(ctx, localAddress, promise);
+        } else {
+            ctx.bind(localAddress, promise);
+        }
+    }
+
+    @Override
+    public void connect(
+            ChannelHandlerContext ctx, SocketAddress remoteAddress, SocketAddress localAddress, ChannelPromise promise)
+            throws Exception {
+        if (receiver != null) {
+            receiver.connect(ctx, remoteAddress, localAddress, promise);
+        } else {
+            ctx.connect(remoteAddress, localAddress, promise);
+        }
+    }
+
+    @Override
+    public void disconnect(ChannelHandlerContext ctx, ChannelPromise promise) throws Exception {
+        if (receiver != null) {
+            receiver.disconnect(ctx, promise);
+        } else {
+            ctx.disconnect(promise);
+        }
+    }
+
+    @Override
+    public void close(ChannelHandlerContext ctx, ChannelPromise promise) throws Exception {
+        if (receiver != null) {
+            receiver.close(ctx, promise);
+        } else {
+            ctx.close(promise);
+        }
+    }
+
+    @Override
+    public void deregister(ChannelHandlerContext ctx, ChannelPromise promise) throws Exception {
+        if (receiver != null) {
+            receiver.deregister(ctx, promise);
+        } else {
+            ctx.deregister(promise);
+        }
+    }
+
+    @Override
+    public void read(ChannelHandlerContext ctx) throws Exception {
+        if (receiver != null) {
+            receiver.read(ctx);
+        } else {
+            ctx.read();
+        }
+    }
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+        if (receiver != null) {
+            receiver.write(ctx, msg, promise);
+        } else {
+            ctx.write(msg, promise);
+        }
+    }
+
+    @Override
+    public void flush(ChannelHandlerContext ctx) throws Exception {
+        if (receiver != null) {
+            receiver.flush(ctx);
+        } else {
+            ctx.flush();
+        }
+    }
+}
@@ -22,6 +22,7 @@ import com.netflix.appinfo.InstanceInfo;
 import com.netflix.config.DynamicBooleanProperty;
 import com.netflix.netty.common.CategorizedThreadFactory;
 import com.netflix.netty.common.LeastConnsEventLoopChooserFactory;
+import com.netflix.netty.common.P2CEventLoopChooserFactory;
 import com.netflix.netty.common.metrics.EventLoopGroupMetrics;
 import com.netflix.netty.common.status.ServerStatusManager;
 import com.netflix.spectator.api.Registry;
@@ -41,21 +42,28 @@ import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.DefaultSelectStrategyFactory;
+import io.netty.channel.EventLoop;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.ServerChannel;
 import io.netty.channel.epoll.Epoll;
 import io.netty.channel.epoll.EpollChannelOption;
+import io.netty.channel.epoll.EpollDatagramChannel;
 import io.netty.channel.epoll.EpollEventLoopGroup;
 import io.netty.channel.epoll.EpollServerSocketChannel;
 import io.netty.channel.epoll.EpollSocketChannel;
 import io.netty.channel.kqueue.KQueue;
+import io.netty.channel.kqueue.KQueueDatagramChannel;
 import io.netty.channel.kqueue.KQueueEventLoopGroup;
 import io.netty.channel.kqueue.KQueueServerSocketChannel;
 import io.netty.channel.kqueue.KQueueSocketChannel;
 import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.DatagramChannel;
+import io.netty.channel.socket.nio.NioDatagramChannel;
 import io.netty.channel.socket.nio.NioServerSocketChannel;
 import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.channel.unix.UnixChannelOption;
 import io.netty.incubator.channel.uring.IOUring;
+import io.netty.incubator.channel.uring.IOUringDatagramChannel;
 import io.netty.incubator.channel.uring.IOUringEventLoopGroup;
 import io.netty.incubator.channel.uring.IOUringServerSocketChannel;
 import io.netty.incubator.channel.uring.IOUringSocketChannel;
@@ -65,6 +73,7 @@ import io.netty.util.concurrent.EventExecutor;
 import io.netty.util.concurrent.EventExecutorChooserFactory;
 import io.netty.util.concurrent.ThreadPerTaskExecutor;
 import java.net.InetSocketAddress;
+import java.net.SocketAddress;
 import java.nio.channels.spi.SelectorProvider;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -113,9 +122,17 @@ public class Server {
     private static final DynamicBooleanProperty USE_LEASTCONNS_FOR_EVENTLOOPS =
             new DynamicBooleanProperty("zuul.server.eventloops.use_leastconns", false);
 
+    /**
+     * Takes precedence over {@link #USE_LEASTCONNS_FOR_EVENTLOOPS}, see {@link P2CEventLoopChooserFactory}.
+     */
+    private static final DynamicBooleanProperty USE_P2C_FOR_EVENTLOOPS =
+            new DynamicBooleanProperty("zuul.server.eventloops.use_p2c", false);
+
     private static final DynamicBooleanProperty MANUAL_DISCOVERY_STATUS =
             new DynamicBooleanProperty("zuul.server.netty.manual.discovery.status", true);
 
+    private static final int DEFAULT_BACKLOG = 128;
+
     private final EventLoopGroupMetrics eventLoopGroupMetrics;
 
     private final Thread jvmShutdownHook;
@@ -129,6 +146,11 @@ public class Server {
      */
     private final Map<NamedSocketAddress, Channel> addressesToChannels = new LinkedHashMap<>();
 
+    /**
+     * The listeners sharing a port through SO_REUSEPORT, other than the first of each, which is in the map above.
+     */
+    private final List<Channel> reusePortChannels = new ArrayList<>();
+
     private final EventLoopConfig eventLoopConfig;
 
     /**
@@ -138,6 +160,14 @@ public class Server {
     @Deprecated
     public static final AtomicReference<Class<? extends Channel>> defaultOutboundChannelType = new AtomicReference<>();
 
+    /**
+     * The datagram channel matching {@link #defaultOutboundChannelType}, for resolving origin host names.  Same caveats
+     * apply.
+     */
+    @Deprecated
+    public static final AtomicReference<Class<? extends DatagramChannel>> defaultOutboundDatagramChannelType =
+            new AtomicReference<>();
+
     /**
      * Use {@link #Server(Registry, ServerStatusManager, Map, ClientConnectionsShutdown, EventLoopGroupMetrics,
      * EventLoopConfig)}
@@ -236,10 +266,13 @@ public class Server {
         for (Map.Entry<NamedSocketAddress, ? extends ChannelInitializer<?>> entry :
                 addressesToInitializers.entrySet()) {
             NamedSocketAddress requestedNamedAddr = entry.getKey();
-            ChannelFuture nettyServerFuture = setupServerBootstrap(requestedNamedAddr, entry.getValue());
-            Channel chan = nettyServerFuture.channel();
+            List<ChannelFuture> nettyServerFutures = setupServerBootstraps(requestedNamedAddr, entry.getValue());
+            Channel chan = nettyServerFutures.get(0).channel();
             addressesToChannels.put(requestedNamedAddr.withNewSocket(chan.localAddress()), chan);
-            allBindFutures.add(nettyServerFuture);
+            for (int i = 1; i < nettyServerFutures.size(); i++) {
+                reusePortChannels.add(nettyServerFutures.get(i).channel());
+            }
+            allBindFutures.add(nettyServerFutures.get(0));
         }
 
         // All channels should share a single ByteBufAllocator instance.
@@ -262,6 +295,9 @@ public class Server {
         for (Channel chan : addressesToChannels.values()) {
             chan.closeFuture().sync();
         }
+        for (Channel chan : reusePortChannels) {
+            chan.closeFuture().sync();
+        }
     }
 
     public final List<NamedSocketAddress> getListeningAddresses() {
@@ -281,15 +317,74 @@ public class Server {
         }
     }
 
-    private ChannelFuture setupServerBootstrap(
+    /**
+     * Binds the listener for the given address, which by default is a single socket whose connections are accepted on
+     * the acceptor pool, and handed to the worker pool.
+     *
+     * <p>With {@code server.${addrName}.socket.reusePort} (or {@code server.socket.reusePort}), and the epoll or
+     * io_uring transport, one socket is bound per worker event loop instead, all sharing the port through SO_REUSEPORT.
+     * The kernel then spreads incoming connections across them, and each is accepted on, and stays on, the event loop
+     * that owns its socket, so a reconnect storm isn't funneled through the acceptor threads.  The per event loop
+     * chooser (see {@code zuul.server.eventloops.use_p2c}) is bypassed for such listeners.
+     *
+     * <p>The accept backlog is {@code server.${addrName}.socket.backlog} (or {@code server.socket.backlog}), 128 by
+     * default.  The kernel caps it at {@code net.core.somaxconn}.  With SO_REUSEPORT, each socket has a backlog this
+     * size.
+     */
+    private List<ChannelFuture> setupServerBootstraps(
             NamedSocketAddress listenAddress, ChannelInitializer<?> channelInitializer) {
-        ServerBootstrap serverBootstrap =
-                new ServerBootstrap().group(serverGroup.clientToProxyBossPool, serverGroup.clientToProxyWorkerPool);
+        String name = listenAddress.name();
+        int backlog = BaseServerStartup.chooseIntChannelProperty(name, "socket.backlog", DEFAULT_BACKLOG);
+        boolean reusePort = BaseServerStartup.chooseBooleanChannelProperty(name, "socket.reusePort", false);
+        if (reusePort && !(serverGroup.reusePortSupported && listenAddress.unwrap() instanceof InetSocketAddress)) {
+            LOG.warn(
+                    "SO_REUSEPORT is not supported with {} on {}, using a single listener",
+                    serverGroup.channelType,
+                    listenAddress);
+            reusePort = false;
+        }
+        if (!reusePort) {
+            return List.of(setupServerBootstrap(
+                    listenAddress,
+                    listenAddress.unwrap(),
+                    channelInitializer,
+                    serverGroup.clientToProxyBossPool,
+                    serverGroup.clientToProxyWorkerPool,
+                    backlog,
+                    false));
+        }
+
+        List<ChannelFuture> bindFutures = new ArrayList<>();
+        SocketAddress bindAddress = listenAddress.unwrap();
+        for (EventExecutor executor : serverGroup.clientToProxyWorkerPool) {
+            EventLoop eventLoop = (EventLoop) executor;
+            ChannelFuture bindFuture = setupServerBootstrap(
+                    listenAddress, bindAddress, channelInitializer, eventLoop, eventLoop, backlog, true);
+            // The other sockets must bind the port the first one got, in case an ephemeral port was asked for.
+            bindAddress = bindFuture.channel().localAddress();
+            bindFutures.add(bindFuture);
+        }
+        LOG.info("Bound {} listeners with SO_REUSEPORT to {}", bindFutures.size(), bindAddress);
+        return bindFutures;
+    }
+
+    private ChannelFuture setupServerBootstrap(
+            NamedSocketAddress listenAddress,
+            SocketAddress bindAddress,
+            ChannelInitializer<?> channelInitializer,
+            EventLoopGroup acceptorGroup,
+            EventLoopGroup workerGroup,
+            int backlog,
+            boolean reusePort) {
+        ServerBootstrap serverBootstrap = new ServerBootstrap().group(acceptorGroup, workerGroup);
 
         LOG.info("Proxy listening with {}", serverGroup.channelType);
         serverBootstrap.channel(serverGroup.channelType);
 
-        serverBootstrap.option(ChannelOption.SO_BACKLOG, 128);
+        serverBootstrap.option(ChannelOption.SO_BACKLOG, backlog);
+        if (reusePort) {
+            serverBootstrap.option(UnixChannelOption.SO_REUSEPORT, true);
+        }
         serverBootstrap.childOption(ChannelOption.SO_LINGER, -1);
         serverBootstrap.childOption(ChannelOption.TCP_NODELAY, true);
         serverBootstrap.childOption(ChannelOption.SO_KEEPALIVE, true);
@@ -311,7 +406,7 @@ public class Server {
         }
 
         // Bind and start to accept incoming connections.
-        ChannelFuture bindFuture = serverBootstrap.bind(listenAddress.unwrap());
+        ChannelFuture bindFuture = serverBootstrap.bind(bindAddress);
 
         try {
             return bindFuture.sync();
@@ -343,6 +438,7 @@ public class Server {
         private EventLoopGroup clientToProxyWorkerPool;
         private Class<? extends ServerChannel> channelType;
         private Map<ChannelOption<?>, ?> transportChannelOptions;
+        private boolean reusePortSupported;
 
         private volatile boolean stopped = false;
 
@@ -362,9 +458,10 @@ public class Server {
         }
 
         private void initializeTransport() {
-            // TODO - try our own impl of ChooserFactory that load-balances across the eventloops using leastconns algo?
             EventExecutorChooserFactory chooserFactory;
-            if (USE_LEASTCONNS_FOR_EVENTLOOPS.get()) {
+            if (USE_P2C_FOR_EVENTLOOPS.get()) {
+                chooserFactory = new P2CEventLoopChooserFactory(eventLoopGroupMetrics);
+            } else if (USE_LEASTCONNS_FOR_EVENTLOOPS.get()) {
                 chooserFactory = new LeastConnsEventLoopChooserFactory(eventLoopGroupMetrics);
             } else {
                 chooserFactory = DefaultEventExecutorChooserFactory.INSTANCE;
@@ -378,13 +475,17 @@ public class Server {
             boolean useIoUring = FORCE_IO_URING.get();
             if (useIoUring && ioUringIsAvailable()) {
                 channelType = IOUringServerSocketChannel.class;
+                reusePortSupported = true;
                 defaultOutboundChannelType.set(IOUringSocketChannel.class);
+                defaultOutboundDatagramChannelType.set(IOUringDatagramChannel.class);
                 clientToProxyBossPool = new IOUringEventLoopGroup(
                         acceptorThreads, new CategorizedThreadFactory(name + "-ClientToZuulAcceptor"));
                 clientToProxyWorkerPool = new IOUringEventLoopGroup(workerThreads, workerExecutor);
             } else if (!useNio && epollIsAvailable()) {
                 channelType = EpollServerSocketChannel.class;
+                reusePortSupported = true;
                 defaultOutboundChannelType.set(EpollSocketChannel.class);
+                defaultOutboundDatagramChannelType.set(EpollDatagramChannel.class);
                 extraOptions.put(EpollChannelOption.TCP_DEFER_ACCEPT, -1);
                 clientToProxyBossPool = new EpollEventLoopGroup(
                         acceptorThreads, new CategorizedThreadFactory(name + "-ClientToZuulAcceptor"));
@@ -393,6 +494,7 @@ public class Server {
             } else if (!useNio && kqueueIsAvailable()) {
                 channelType = KQueueServerSocketChannel.class;
                 defaultOutboundChannelType.set(KQueueSocketChannel.class);
+                defaultOutboundDatagramChannelType.set(KQueueDatagramChannel.class);
                 clientToProxyBossPool = new KQueueEventLoopGroup(
                         acceptorThreads, new CategorizedThreadFactory(name + "-ClientToZuulAcceptor"));
                 clientToProxyWorkerPool = new KQueueEventLoopGroup(
@@ -400,6 +502,7 @@ public class Server {
             } else {
                 channelType = NioServerSocketChannel.class;
                 defaultOutboundChannelType.set(NioSocketChannel.class);
+                defaultOutboundDatagramChannelType.set(NioDatagramChannel.class);
                 NioEventLoopGroup elg = new NioEventLoopGroup(
                         workerThreads,
                         workerExecutor,
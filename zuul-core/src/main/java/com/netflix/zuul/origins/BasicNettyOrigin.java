@@ -25,6 +25,7 @@ import com.netflix.spectator.api.Counter;
 import com.netflix.spectator.api.Registry;
 import com.netflix.zuul.context.CommonContextKeys;
 import com.netflix.zuul.context.SessionContext;
+import com.netflix.zuul.discovery.ConsistentHashServerResolver;
 import com.netflix.zuul.discovery.DiscoveryResult;
 import com.netflix.zuul.exception.ErrorType;
 import com.netflix.zuul.message.http.HttpRequestMessage;
@@ -32,6 +33,7 @@ import com.netflix.zuul.message.http.HttpResponseMessage;
 import com.netflix.zuul.netty.NettyRequestAttemptFactory;
 import com.netflix.zuul.netty.SpectatorUtils;
 import com.netflix.zuul.netty.connectionpool.ClientChannelManager;
+import com.netflix.zuul.netty.connectionpool.ConnectionPoolSnapshot;
 import com.netflix.zuul.netty.connectionpool.DefaultClientChannelManager;
 import com.netflix.zuul.netty.connectionpool.PooledConnection;
 import com.netflix.zuul.niws.RequestAttempt;
@@ -44,8 +46,10 @@ import io.netty.util.concurrent.Promise;
 import java.net.InetAddress;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import javax.annotation.Nullable;
 
 /**
  * Netty Origin basic implementation that can be used for most apps, with the more complex methods having no-op
@@ -62,6 +66,8 @@ public class BasicNettyOrigin implements NettyOrigin {
     private final ClientChannelManager clientChannelManager;
     private final NettyRequestAttemptFactory requestAttemptFactory;
 
+    @Nullable private final HashKeyExtractor hashKeyExtractor;
+
     private final AtomicInteger concurrentRequests;
     private final Counter rejectedRequests;
     private final CachedDynamicIntProperty concurrencyMax;
@@ -74,6 +80,7 @@ public class BasicNettyOrigin implements NettyOrigin {
         this.clientChannelManager = new DefaultClientChannelManager(originName, config, registry);
         this.clientChannelManager.init();
         this.requestAttemptFactory = new NettyRequestAttemptFactory();
+        this.hashKeyExtractor = HashKeyExtractor.parse(config.get(ConsistentHashServerResolver.HASH_KEY, null));
 
         String niwsClientName = getName().getNiwsClientName();
         this.concurrentRequests =
@@ -109,6 +116,16 @@ public class BasicNettyOrigin implements NettyOrigin {
         return clientChannelManager.isCold();
     }
 
+    @Override
+    public CompletableFuture<ConnectionPoolSnapshot> getConnectionPoolSnapshot() {
+        return clientChannelManager.snapshot();
+    }
+
+    @Override
+    public void recordOriginResponse(DiscoveryResult server, int statusCode, long durationMs) {
+        clientChannelManager.recordResponse(server, statusCode, durationMs);
+    }
+
     @Override
     public Promise<PooledConnection> connectToOrigin(
             HttpRequestMessage zuulReq,
@@ -117,7 +134,15 @@ public class BasicNettyOrigin implements NettyOrigin {
             CurrentPassport passport,
             AtomicReference<DiscoveryResult> chosenServer,
             AtomicReference<? super InetAddress> chosenHostAddr) {
-        return clientChannelManager.acquire(eventLoop, null, passport, chosenServer, chosenHostAddr);
+        return clientChannelManager.acquire(
+                eventLoop, getLoadBalancerKey(zuulReq), passport, chosenServer, chosenHostAddr);
+    }
+
+    /**
+     * The key passed to the resolver, which {@link ConsistentHashServerResolver} keeps on the same server.
+     */
+    @Nullable protected Object getLoadBalancerKey(HttpRequestMessage zuulReq) {
+        return hashKeyExtractor != null ? hashKeyExtractor.extract(zuulReq) : null;
     }
 
     @Override
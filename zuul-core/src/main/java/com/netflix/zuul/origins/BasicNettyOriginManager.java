@@ -20,6 +20,8 @@ import com.netflix.spectator.api.Registry;
 import com.netflix.zuul.context.SessionContext;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -50,4 +52,9 @@ public class BasicNettyOriginManager implements OriginManager<BasicNettyOrigin>
     public BasicNettyOrigin createOrigin(OriginName originName, String uri, SessionContext ctx) {
         return new BasicNettyOrigin(originName, registry);
     }
+
+    @Override
+    public Collection<BasicNettyOrigin> getOrigins() {
+        return Collections.unmodifiableCollection(originMappings.values());
+    }
 }
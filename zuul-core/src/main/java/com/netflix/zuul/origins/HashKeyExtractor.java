@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.zuul.origins;
+
+import com.netflix.zuul.discovery.ConsistentHashServerResolver;
+import com.netflix.zuul.message.http.HttpRequestMessage;
+import java.util.Locale;
+import javax.annotation.Nullable;
+
+/**
+ * Picks the part of a request that {@link ConsistentHashServerResolver} hashes, as configured by
+ * {@link ConsistentHashServerResolver#HASH_KEY}: {@code header:<name>}, {@code cookie:<name>}, or
+ * {@code path:<segments>} for that many leading path segments.
+ */
+public final class HashKeyExtractor {
+
+    private enum Source {
+        HEADER,
+        COOKIE,
+        PATH
+    }
+
+    private final Source source;
+    @Nullable private final String name;
+    private final int segments;
+
+    private HashKeyExtractor(Source source, @Nullable String name, int segments) {
+        this.source = source;
+        this.name = name;
+        this.segments = segments;
+    }
+
+    /**
+     * Returns null if {@code spec} is empty, so that requests aren't keyed.
+     *
+     * @throws IllegalArgumentException if {@code spec} isn't one of the supported forms.
+     */
+    @Nullable public static HashKeyExtractor parse(@Nullable String spec) {
+        if (spec == null || spec.isEmpty()) {
+            return null;
+        }
+        int colon = spec.indexOf(':');
+        if (colon <= 0 || colon == spec.length() - 1) {
+            throw new IllegalArgumentException("Invalid consistent hash key: " + spec);
+        }
+        String value = spec.substring(colon + 1);
+        switch (spec.substring(0, colon).toLowerCase(Locale.ROOT)) {
+            case "header":
+                return new HashKeyExtractor(Source.HEADER, value, 0);
+            case "cookie":
+                return new HashKeyExtractor(Source.COOKIE, value, 0);
+            case "path":
+                try {
+                    int segments = Integer.parseInt(value);
+                    if (segments > 0) {
+                        return new HashKeyExtractor(Source.PATH, null, segments);
+                    }
+                } catch (NumberFormatException e) {
+                    // Reported below.
+                }
+                throw new IllegalArgumentException("Invalid path segment count in consistent hash key: " + spec);
+            default:
+                throw new IllegalArgumentException("Invalid consistent hash key: " + spec);
+        }
+    }
+
+    /**
+     * Returns null if the request doesn't have the configured part, in which case it isn't keyed.
+     */
+    @Nullable public String extract(HttpRequestMessage request) {
+        return switch (source) {
+            case HEADER -> request.getHeaders().getFirst(name);
+            case COOKIE -> request.parseCookies().getFirstValue(name);
+            case PATH -> pathPrefix(request.getPath(), segments);
+        };
+    }
+
+    private static String pathPrefix(String path, int segments) {
+        int end = 0;
+        for (int i = 0; i < segments; i++) {
+            int next = path.indexOf('/', end + 1);
+            if (next < 0) {
+                return path;
+            }
+            end = next;
+        }
+        return path.substring(0, end);
+    }
+}
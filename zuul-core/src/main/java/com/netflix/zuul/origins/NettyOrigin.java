@@ -22,6 +22,7 @@ import com.netflix.zuul.context.SessionContext;
 import com.netflix.zuul.discovery.DiscoveryResult;
 import com.netflix.zuul.message.http.HttpRequestMessage;
 import com.netflix.zuul.message.http.HttpResponseMessage;
+import com.netflix.zuul.netty.connectionpool.ConnectionPoolSnapshot;
 import com.netflix.zuul.netty.connectionpool.PooledConnection;
 import com.netflix.zuul.niws.RequestAttempt;
 import com.netflix.zuul.passport.CurrentPassport;
@@ -29,6 +30,7 @@ import io.netty.channel.EventLoop;
 import io.netty.handler.codec.http.HttpResponse;
 import io.netty.util.concurrent.Promise;
 import java.net.InetAddress;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicReference;
 
 /**
@@ -76,4 +78,17 @@ public interface NettyOrigin extends InstrumentedOrigin {
     Registry getSpectatorRegistry();
 
     default void originRetryPolicyAdjustmentIfNeeded(HttpRequestMessage zuulReq, HttpResponse nettyResponse) {}
+
+    /**
+     * See {@link com.netflix.zuul.netty.connectionpool.ClientChannelManager#recordResponse}.
+     */
+    default void recordOriginResponse(DiscoveryResult server, int statusCode, long durationMs) {}
+
+    /**
+     * See {@link com.netflix.zuul.netty.connectionpool.ClientChannelManager#snapshot()}.
+     */
+    default CompletableFuture<ConnectionPoolSnapshot> getConnectionPoolSnapshot() {
+        return CompletableFuture.failedFuture(
+                new UnsupportedOperationException(getClass().getName() + " does not support snapshots"));
+    }
 }
@@ -16,6 +16,8 @@
 package com.netflix.zuul.origins;
 
 import com.netflix.zuul.context.SessionContext;
+import java.util.Collection;
+import java.util.List;
 
 /**
  * User: michaels@netflix.com
@@ -27,4 +29,11 @@ public interface OriginManager<T extends Origin> {
     T getOrigin(OriginName originName, String uri, SessionContext ctx);
 
     T createOrigin(OriginName originName, String uri, SessionContext ctx);
+
+    /**
+     * Returns the origins created so far, for introspection.
+     */
+    default Collection<T> getOrigins() {
+        return List.of();
+    }
 }
@@ -0,0 +1,360 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.zuul.origins;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Splitter;
+import com.google.common.net.HostAndPort;
+import com.google.common.net.InetAddresses;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.netflix.appinfo.InstanceInfo;
+import com.netflix.client.config.CommonClientConfigKey;
+import com.netflix.client.config.IClientConfig;
+import com.netflix.client.config.IClientConfigKey;
+import com.netflix.loadbalancer.LoadBalancerStats;
+import com.netflix.niws.loadbalancer.DiscoveryEnabledServer;
+import com.netflix.zuul.discovery.DiscoveryResult;
+import com.netflix.zuul.resolver.Resolver;
+import com.netflix.zuul.resolver.ResolverListener;
+import com.netflix.zuul.resolver.ServerSetDiff;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Resolves an origin's servers from a fixed list or from a local JSON file, for origins that aren't registered in
+ * Eureka.  Unlike {@link com.netflix.zuul.discovery.DynamicServerResolver}, no Ribbon load balancer or Eureka client is
+ * created, so nothing is fetched from the network at startup.
+ *
+ * <p>The file is an array of servers such as {@code [{"host": "10.0.0.1", "port": 7001, "zone": "us-east-1a"}]}, where
+ * {@code zone} is optional.  It is checked for changes every {@link #REFRESH_INTERVAL_MS}, and a file that can't be
+ * read or parsed leaves the current servers in place, so that a half written file can't empty the origin.  Write it to
+ * a temporary file and move it into place to avoid that altogether.
+ *
+ * <p>Each server keeps the same {@link DiscoveryResult} across reloads, unless its zone changes, and the listener gets
+ * each reload's {@link ServerSetDiff}, as it does for Eureka backed origins.  Servers are used in turn, skipping those
+ * whose circuit breaker tripped or that were ejected as outliers.
+ */
+public class StaticServerResolver implements Resolver<DiscoveryResult> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(StaticServerResolver.class);
+
+    /**
+     * Comma separated {@code host:port} pairs.
+     */
+    public static final IClientConfigKey<String> SERVER_LIST = new CommonClientConfigKey<>("StaticServerList") {};
+
+    public static final IClientConfigKey<String> SERVER_LIST_FILE =
+            new CommonClientConfigKey<>("StaticServerListFile") {};
+
+    public static final IClientConfigKey<Integer> REFRESH_INTERVAL_MS =
+            new CommonClientConfigKey<>("StaticServerListRefreshIntervalMs") {};
+
+    private static final int DEFAULT_REFRESH_INTERVAL_MS = 5_000;
+
+    private static final ObjectMapper JACKSON_MAPPER =
+            new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private static final DiscoveryResult[] NO_SERVERS = new DiscoveryResult[0];
+
+    /**
+     * A server as listed in the file.
+     */
+    public record ServerEntry(String host, int port, @Nullable String zone) {
+        public ServerEntry {
+            Objects.requireNonNull(host, "host");
+            if (port <= 0 || port > 0xFFFF) {
+                throw new IllegalArgumentException("port out of range: " + port);
+            }
+        }
+    }
+
+    private final String name;
+    private final Callable<List<ServerEntry>> source;
+    private final LoadBalancerStats loadBalancerStats;
+    private final AtomicInteger next = new AtomicInteger();
+
+    @Nullable private final ScheduledExecutorService refresher;
+
+    // Only replaced while holding the lock, so that updates and their notifications are applied in order.
+    private volatile Map<String, DiscoveryResult> byId = Map.of();
+    private volatile DiscoveryResult[] servers = NO_SERVERS;
+
+    private volatile ResolverListener<DiscoveryResult> listener;
+
+    // Guarded by this.
+    private Map<String, ServerEntry> entriesById = Map.of();
+    private long version;
+
+    /**
+     * A resolver for a fixed list of servers.
+     */
+    public StaticServerResolver(String name, List<ServerEntry> servers) {
+        this(name, () -> servers, null);
+    }
+
+    /**
+     * A resolver for the servers in {@code file}, which is checked for changes every {@code refreshInterval}.
+     */
+    public StaticServerResolver(String name, Path file, Duration refreshInterval) {
+        this(name, new FileSource(file), refreshInterval);
+    }
+
+    private StaticServerResolver(String name, Callable<List<ServerEntry>> source, @Nullable Duration refreshInterval) {
+        this.name = Objects.requireNonNull(name, "name");
+        this.source = source;
+        this.loadBalancerStats = new LoadBalancerStats(name);
+        reload();
+        if (refreshInterval != null) {
+            refresher = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+                    .setDaemon(true)
+                    .setNameFormat("static-resolver-" + name + "-%d")
+                    .build());
+            long intervalMs = Math.max(1, refreshInterval.toMillis());
+            refresher.scheduleWithFixedDelay(this::reload, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+        } else {
+            refresher = null;
+        }
+    }
+
+    /**
+     * Whether the given origin's servers are configured with {@link #SERVER_LIST} or {@link #SERVER_LIST_FILE}, rather
+     * than discovered.
+     */
+    public static boolean isEnabled(IClientConfig clientConfig) {
+        return !isNullOrEmpty(clientConfig.get(SERVER_LIST_FILE, null))
+                || !isNullOrEmpty(clientConfig.get(SERVER_LIST, null));
+    }
+
+    public static StaticServerResolver create(IClientConfig clientConfig) {
+        String name = clientConfig.getClientName();
+        String file = clientConfig.get(SERVER_LIST_FILE, null);
+        if (!isNullOrEmpty(file)) {
+            Duration refreshInterval =
+                    Duration.ofMillis(clientConfig.get(REFRESH_INTERVAL_MS, DEFAULT_REFRESH_INTERVAL_MS));
+            return new StaticServerResolver(name, Paths.get(file), refreshInterval);
+        }
+        return new StaticServerResolver(name, parseServerList(clientConfig.get(SERVER_LIST, "")));
+    }
+
+    /**
+     * Parses comma separated {@code host:port} pairs.
+     */
+    @VisibleForTesting
+    static List<ServerEntry> parseServerList(String serverList) {
+        List<ServerEntry> entries = new ArrayList<>();
+        for (String server : Splitter.on(',').trimResults().omitEmptyStrings().split(serverList)) {
+            HostAndPort hostAndPort = HostAndPort.fromString(server);
+            if (!hostAndPort.hasPort()) {
+                throw new IllegalArgumentException("Missing port in static server: " + server);
+            }
+            entries.add(new ServerEntry(hostAndPort.getHost(), hostAndPort.getPort(), null));
+        }
+        return entries;
+    }
+
+    @Override
+    public void setListener(ResolverListener<DiscoveryResult> listener) {
+        if (this.listener != null) {
+            LOG.warn("Ignoring call to setListener, because a listener was already set");
+            return;
+        }
+
+        this.listener = Objects.requireNonNull(listener);
+    }
+
+    @Override
+    public DiscoveryResult resolve(@Nullable Object key) {
+        DiscoveryResult[] servers = this.servers;
+        int count = servers.length;
+        if (count == 0) {
+            return DiscoveryResult.EMPTY;
+        }
+        int start = next.getAndIncrement() & Integer.MAX_VALUE;
+        for (int i = 0; i < count; i++) {
+            DiscoveryResult server = servers[(start + i) % count];
+            if (!server.isCircuitBreakerTripped() && !server.isEjected()) {
+                return server;
+            }
+        }
+        // Better to try one than to fail the request outright.
+        return servers[start % count];
+    }
+
+    @Override
+    public boolean hasServers() {
+        return servers.length > 0;
+    }
+
+    @Override
+    public List<DiscoveryResult> getServers() {
+        return List.of(servers);
+    }
+
+    @Override
+    public void shutdown() {
+        if (refresher != null) {
+            refresher.shutdownNow();
+        }
+    }
+
+    /**
+     * Reads the servers from the source, and applies them if they could be read.
+     */
+    @VisibleForTesting
+    void reload() {
+        List<ServerEntry> entries;
+        try {
+            entries = source.call();
+        } catch (Exception e) {
+            LOG.warn("Could not load servers for {}, keeping the current {} servers", name, servers.length, e);
+            return;
+        }
+        if (entries != null) {
+            update(entries);
+        }
+    }
+
+    private synchronized void update(List<ServerEntry> entries) {
+        Map<String, DiscoveryResult> previous = byId;
+        Map<String, DiscoveryResult> current = new LinkedHashMap<>();
+        Map<String, ServerEntry> currentEntries = new LinkedHashMap<>();
+        List<DiscoveryResult> added = new ArrayList<>();
+        List<DiscoveryResult> removed = new ArrayList<>();
+        List<DiscoveryResult> changed = new ArrayList<>();
+        for (ServerEntry entry : entries) {
+            String id = entry.host() + ":" + entry.port();
+            if (current.containsKey(id)) {
+                continue;
+            }
+            DiscoveryResult result = previous.get(id);
+            if (result == null) {
+                result = newResult(entry);
+                added.add(result);
+            } else if (!Objects.equals(entriesById.get(id).zone(), entry.zone())) {
+                removed.add(result);
+                result = newResult(entry);
+                added.add(result);
+                changed.add(result);
+            }
+            current.put(id, result);
+            currentEntries.put(id, entry);
+        }
+        for (Map.Entry<String, DiscoveryResult> entry : previous.entrySet()) {
+            if (!current.containsKey(entry.getKey())) {
+                removed.add(entry.getValue());
+            }
+        }
+        if (added.isEmpty() && removed.isEmpty()) {
+            return;
+        }
+
+        version++;
+        byId = current;
+        entriesById = currentEntries;
+        servers = current.values().toArray(NO_SERVERS);
+        LOG.info(
+                "Updated servers for {}: {} added, {} removed, {} in total",
+                name,
+                added.size(),
+                removed.size(),
+                current.size());
+
+        ResolverListener<DiscoveryResult> listener = this.listener;
+        if (listener != null) {
+            listener.onUpdate(new ServerSetDiff<>(version, added, removed, changed));
+        }
+    }
+
+    private DiscoveryResult newResult(ServerEntry entry) {
+        InstanceInfo.Builder builder = InstanceInfo.Builder.newBuilder()
+                .setAppName(name)
+                .setHostName(entry.host())
+                .setPort(entry.port())
+                .setSecurePort(entry.port());
+        if (InetAddresses.isInetAddress(entry.host())) {
+            builder.setIPAddr(entry.host());
+        }
+        DiscoveryEnabledServer server = new DiscoveryEnabledServer(builder.build(), false);
+        if (entry.zone() != null) {
+            server.setZone(entry.zone());
+        }
+        return new DiscoveryResult(server, loadBalancerStats);
+    }
+
+    private static boolean isNullOrEmpty(@Nullable String value) {
+        return value == null || value.isEmpty();
+    }
+
+    /**
+     * Reads the file again only when its modification time or size changed, and returns null otherwise.
+     */
+    private static final class FileSource implements Callable<List<ServerEntry>> {
+
+        private static final TypeReference<List<ServerEntry>> SERVER_ENTRIES = new TypeReference<>() {};
+
+        private final Path file;
+
+        @Nullable private FileTime lastModified;
+        private long lastSize = -1;
+
+        FileSource(Path file) {
+            this.file = Objects.requireNonNull(file, "file");
+        }
+
+        @Override
+        @Nullable
+        public synchronized List<ServerEntry> call() throws IOException {
+            FileTime modified;
+            long size;
+            try {
+                modified = Files.getLastModifiedTime(file);
+                size = Files.size(file);
+            } catch (NoSuchFileException e) {
+                throw new IOException("Server list file " + file + " does not exist", e);
+            }
+            if (modified.equals(lastModified) && size == lastSize) {
+                return null;
+            }
+            List<ServerEntry> entries = JACKSON_MAPPER.readValue(file.toFile(), SERVER_ENTRIES);
+            // Only remember the file once it parsed, so that a broken file is retried.
+            lastModified = modified;
+            lastSize = size;
+            return entries;
+        }
+    }
+}
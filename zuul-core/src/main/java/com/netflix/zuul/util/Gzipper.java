@@ -16,8 +16,11 @@
 
 package com.netflix.zuul.util;
 
+import com.netflix.zuul.context.SessionContext;
 import com.netflix.zuul.exception.ZuulException;
+import com.netflix.zuul.message.RequestBufferArena;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufOutputStream;
 import io.netty.buffer.Unpooled;
 import io.netty.handler.codec.http.HttpContent;
 import java.io.ByteArrayOutputStream;
@@ -86,4 +89,20 @@ public class Gzipper {
         baos.reset();
         return copy;
     }
+
+    /**
+     * Same as {@link #getByteBuf()}, but copies the compressed bytes straight into a buffer from the request's
+     * {@link RequestBufferArena}.
+     */
+    public ByteBuf getByteBuf(SessionContext context) {
+        ByteBuf buf = RequestBufferArena.fixedCapacityBuffer(context, baos.size());
+        try {
+            baos.writeTo(new ByteBufOutputStream(buf));
+        } catch (IOException ioEx) {
+            buf.release();
+            throw new ZuulException(ioEx, "Error copying gzipped content", true);
+        }
+        baos.reset();
+        return buf;
+    }
 }
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.netty.common;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.netflix.netty.common.metrics.EventLoopGroupMetrics;
+import com.netflix.spectator.api.NoopRegistry;
+import io.netty.channel.DefaultEventLoopGroup;
+import io.netty.util.concurrent.EventExecutor;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class P2CEventLoopChooserFactoryTest {
+
+    private EventLoopGroupMetrics groupMetrics;
+    private DefaultEventLoopGroup group;
+
+    @BeforeEach
+    void setup() {
+        groupMetrics = new EventLoopGroupMetrics(new NoopRegistry());
+        group = new DefaultEventLoopGroup(2);
+    }
+
+    @AfterEach
+    void teardown() {
+        group.shutdownGracefully(0, 1, TimeUnit.SECONDS).syncUninterruptibly();
+    }
+
+    @Test
+    void singleLoopIsAlwaysChosen() {
+        EventExecutor loop = group.next();
+        P2CEventLoopChooserFactory.P2CEventExecutorChooser chooser =
+                new P2CEventLoopChooserFactory.P2CEventExecutorChooser(new EventExecutor[] {loop}, groupMetrics);
+
+        assertSame(loop, chooser.next());
+    }
+
+    @Test
+    void lessLoadedLoopIsChosen() throws Exception {
+        EventExecutor[] loops = {group.next(), group.next()};
+        P2CEventLoopChooserFactory.P2CEventExecutorChooser chooser =
+                new P2CEventLoopChooserFactory.P2CEventExecutorChooser(loops, groupMetrics);
+        chooser.next();
+        await().atMost(1, TimeUnit.SECONDS).until(() -> chooser.isProbed(0) && chooser.isProbed(1));
+
+        loops[0]
+                .submit(() -> {
+                    for (int i = 0; i < 100; i++) {
+                        groupMetrics.getForCurrentEventLoop().incrementCurrentConnections();
+                    }
+                    groupMetrics.getForCurrentEventLoop().incrementCurrentRequests();
+                })
+                .get();
+
+        assertTrue(chooser.load(0) > chooser.load(1));
+        // With two loops, both are always sampled.
+        for (int i = 0; i < 100; i++) {
+            assertSame(loops[1], chooser.next());
+        }
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.netty.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TimingWheelTest {
+
+    private EmbeddedChannel channel;
+    private TimingWheel wheel;
+
+    @BeforeEach
+    void setup() {
+        channel = new EmbeddedChannel();
+        wheel = new TimingWheel(channel.eventLoop(), TimeUnit.MILLISECONDS.toNanos(10), 8);
+    }
+
+    @AfterEach
+    void cleanup() {
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    void firesOnDeadline() {
+        AtomicInteger fired = new AtomicInteger();
+        TimingWheel.Timeout timeout = wheel.newTimeout(fired::incrementAndGet);
+
+        timeout.arm(50, TimeUnit.MILLISECONDS);
+        assertTrue(timeout.isArmed());
+
+        advance(40);
+        assertEquals(0, fired.get());
+
+        advance(10);
+        assertEquals(1, fired.get());
+        assertFalse(timeout.isArmed());
+        assertEquals(0, wheel.armedCount());
+    }
+
+    @Test
+    void firesAfterSeveralRotations() {
+        AtomicInteger fired = new AtomicInteger();
+        TimingWheel.Timeout timeout = wheel.newTimeout(fired::incrementAndGet);
+
+        // 8 buckets of 10ms, so this goes round the wheel more than twice.
+        timeout.arm(250, TimeUnit.MILLISECONDS);
+
+        advance(240);
+        assertEquals(0, fired.get());
+
+        advance(10);
+        assertEquals(1, fired.get());
+    }
+
+    @Test
+    void disarmedTimeoutDoesNotFire() {
+        AtomicInteger fired = new AtomicInteger();
+        TimingWheel.Timeout timeout = wheel.newTimeout(fired::incrementAndGet);
+
+        timeout.arm(50, TimeUnit.MILLISECONDS);
+        timeout.disarm();
+        assertFalse(timeout.isArmed());
+
+        advance(100);
+        assertEquals(0, fired.get());
+    }
+
+    @Test
+    void rearmingReplacesDeadline() {
+        AtomicInteger fired = new AtomicInteger();
+        TimingWheel.Timeout timeout = wheel.newTimeout(fired::incrementAndGet);
+
+        timeout.arm(50, TimeUnit.MILLISECONDS);
+        advance(30);
+        timeout.arm(50, TimeUnit.MILLISECONDS);
+        assertEquals(1, wheel.armedCount());
+
+        advance(40);
+        assertEquals(0, fired.get());
+
+        advance(10);
+        assertEquals(1, fired.get());
+    }
+
+    @Test
+    void taskCanDisarmAnotherDueTimeout() {
+        AtomicInteger fired = new AtomicInteger();
+        TimingWheel.Timeout second = wheel.newTimeout(fired::incrementAndGet);
+        TimingWheel.Timeout first = wheel.newTimeout(() -> {
+            fired.incrementAndGet();
+            second.disarm();
+        });
+
+        // Armed last, the first timeout is at the head of the bucket, so it runs first.
+        second.arm(20, TimeUnit.MILLISECONDS);
+        first.arm(20, TimeUnit.MILLISECONDS);
+
+        advance(20);
+        assertEquals(1, fired.get());
+    }
+
+    @Test
+    void stopsTickingOnceEmpty() {
+        TimingWheel.Timeout timeout = wheel.newTimeout(() -> {});
+
+        timeout.arm(10, TimeUnit.MILLISECONDS);
+        assertTrue(wheel.isTicking());
+
+        advance(10);
+        advance(70);
+        assertTrue(wheel.isTicking());
+
+        advance(10);
+        assertFalse(wheel.isTicking());
+    }
+
+    @Test
+    void wheelIsSharedPerEventLoop() {
+        assertSame(TimingWheel.forExecutor(channel.eventLoop()), TimingWheel.forExecutor(channel.eventLoop()));
+    }
+
+    private void advance(long millis) {
+        channel.advanceTimeBy(millis, TimeUnit.MILLISECONDS);
+        channel.runScheduledPendingTasks();
+    }
+}
@@ -23,6 +23,7 @@ import static com.netflix.zuul.context.Debug.getRequestDebug;
 import static com.netflix.zuul.context.Debug.getRoutingDebug;
 import static com.netflix.zuul.context.Debug.setDebugRequest;
 import static com.netflix.zuul.context.Debug.setDebugRouting;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -174,10 +175,71 @@ class DebugTest {
     @Test
     void testNoCMEWhenComparingContexts() {
         SessionContext context = new SessionContext();
-        SessionContext copy = new SessionContext();
+        int mark = Debug.markContextState(context);
 
         context.set("foo", "bar");
 
-        Debug.compareContextState("testfilter", context, copy);
+        Debug.compareContextState("testfilter", context, mark);
+    }
+
+    @Test
+    void compareContextStateReportsAddedChangedAndRemovedKeys() {
+        SessionContext context = new SessionContext();
+        context.set("changed", "before");
+        context.set("removed", "value");
+        context.set("untouched", "same");
+
+        int mark = Debug.markContextState(context);
+
+        context.set("changed", "intermediate");
+        context.set("changed", "after");
+        context.remove("removed");
+        context.set("added", "new");
+        context.set("untouched", "same");
+
+        Debug.compareContextState("testfilter", context, mark);
+
+        Truth.assertThat(getRoutingDebug(context))
+                .containsExactly(
+                        "{testfilter} changed changed=after",
+                        "{testfilter} added added=new",
+                        "{testfilter} removed removed");
+    }
+
+    @Test
+    void compareContextStateOnlyReportsChangesSinceMark() {
+        SessionContext context = new SessionContext();
+
+        int mark = Debug.markContextState(context);
+        context.set("first", "value");
+        Debug.compareContextState("first", context, mark);
+
+        mark = Debug.markContextState(context);
+        Truth.assertThat(mark).isEqualTo(1);
+        context.set("second", "value");
+        Debug.compareContextState("second", context, mark);
+
+        Truth.assertThat(getRoutingDebug(context))
+                .containsExactly("{first} added first=value", "{second} added second=value");
+        Truth.assertThat(context.getMutationJournal()).hasSize(2);
+    }
+
+    @Test
+    void debugRingEvictsOldestLines() {
+        DebugEventRing ring = new DebugEventRing(3);
+        ring.add("a");
+        ring.add("b");
+        ring.add("c");
+        ring.add("d");
+        ring.add("e");
+
+        Truth.assertThat(ring).containsExactly("c", "d", "e").inOrder();
+        assertEquals(2, ring.dropped());
+        assertEquals(3, ring.capacity());
+
+        ring.clear();
+        Truth.assertThat(ring).isEmpty();
+        ring.add("f");
+        Truth.assertThat(ring).containsExactly("f");
     }
 }
@@ -141,4 +141,66 @@ class SessionContextTest {
 
         Truth.assertThat(context.containsKey(key)).isFalse();
     }
+
+    @Test
+    void mutationJournalDisabledByDefault() {
+        SessionContext context = new SessionContext();
+        context.set("foo", "bar");
+
+        Truth.assertThat(context.isMutationJournalEnabled()).isFalse();
+        Truth.assertThat(context.getMutationJournal()).isEmpty();
+    }
+
+    @Test
+    void mutationJournalRecordsWrites() {
+        SessionContext context = new SessionContext();
+        SessionContext.Key<String> key = SessionContext.newKey("typed");
+        context.set("foo", "bar");
+        context.enableMutationJournal();
+
+        context.set("foo", "baz");
+        context.remove("foo");
+        context.put(key, "value");
+        context.remove(key);
+
+        Truth.assertThat(context.getMutationJournal())
+                .containsExactly(
+                        new SessionContext.Mutation("foo", "bar", "baz"),
+                        new SessionContext.Mutation("foo", "baz", null),
+                        new SessionContext.Mutation(key, null, "value"),
+                        new SessionContext.Mutation(key, "value", null))
+                .inOrder();
+    }
+
+    @Test
+    void mutationJournalRecordsComputeMergeAndReplace() {
+        SessionContext context = new SessionContext();
+        context.set("foo", "bar");
+        context.enableMutationJournal();
+
+        context.compute("foo", (k, v) -> v + "1");
+        context.computeIfAbsent("new", k -> "value");
+        context.merge("new", "2", (a, b) -> (String) a + b);
+        context.replace("foo", "baz");
+
+        Truth.assertThat(context.getMutationJournal())
+                .containsExactly(
+                        new SessionContext.Mutation("foo", "bar", "bar1"),
+                        new SessionContext.Mutation("new", null, "value"),
+                        new SessionContext.Mutation("new", "value", "value2"),
+                        new SessionContext.Mutation("foo", "bar1", "baz"))
+                .inOrder();
+    }
+
+    @Test
+    void cloneDoesNotShareMutationJournal() {
+        SessionContext context = new SessionContext();
+        context.enableMutationJournal();
+
+        SessionContext copy = context.clone();
+        copy.set("foo", "bar");
+
+        Truth.assertThat(copy.isMutationJournalEnabled()).isFalse();
+        Truth.assertThat(context.getMutationJournal()).isEmpty();
+    }
 }
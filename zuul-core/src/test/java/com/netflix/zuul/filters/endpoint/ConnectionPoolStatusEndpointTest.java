@@ -0,0 +1,152 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.zuul.filters.endpoint;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.truth.Truth;
+import com.netflix.appinfo.InstanceInfo;
+import com.netflix.client.config.DefaultClientConfigImpl;
+import com.netflix.spectator.api.DefaultRegistry;
+import com.netflix.zuul.context.CommonContextKeys;
+import com.netflix.zuul.context.SessionContext;
+import com.netflix.zuul.discovery.DiscoveryResult;
+import com.netflix.zuul.discovery.DynamicServerResolver;
+import com.netflix.zuul.message.http.HttpRequestMessageImpl;
+import com.netflix.zuul.message.http.HttpResponseMessage;
+import com.netflix.zuul.netty.connectionpool.DefaultClientChannelManager;
+import com.netflix.zuul.netty.connectionpool.PooledConnection;
+import com.netflix.zuul.netty.server.Server;
+import com.netflix.zuul.origins.NettyOrigin;
+import com.netflix.zuul.origins.OriginManager;
+import com.netflix.zuul.origins.OriginName;
+import io.netty.channel.Channel;
+import io.netty.channel.EventLoop;
+import io.netty.channel.local.LocalAddress;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ConnectionPoolStatusEndpointTest {
+
+    private ServerSocket serverSocket;
+    private NioEventLoopGroup eventLoopGroup;
+    private Class<? extends Channel> previousChannelType;
+
+    @BeforeEach
+    @SuppressWarnings("deprecation")
+    void setup() throws Exception {
+        serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        eventLoopGroup = new NioEventLoopGroup(2);
+        previousChannelType = Server.defaultOutboundChannelType.getAndSet(NioSocketChannel.class);
+    }
+
+    @AfterEach
+    @SuppressWarnings("deprecation")
+    void teardown() throws Exception {
+        Server.defaultOutboundChannelType.set(previousChannelType);
+        eventLoopGroup.shutdownGracefully();
+        serverSocket.close();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void rendersEachEventLoopOfEachServer() throws Exception {
+        String appName = "app-" + UUID.randomUUID();
+        OriginName originName = OriginName.fromVipAndApp("vip", appName);
+        DiscoveryResult server = DiscoveryResult.from(
+                InstanceInfo.Builder.newBuilder()
+                        .setAppName(appName)
+                        .setHostName("127.0.0.1")
+                        .setIPAddr("127.0.0.1")
+                        .setPort(serverSocket.getLocalPort())
+                        .build(),
+                true);
+        DynamicServerResolver resolver = mock(DynamicServerResolver.class);
+        when(resolver.resolve(any())).thenReturn(server);
+        when(resolver.hasServers()).thenReturn(true);
+
+        DefaultClientChannelManager channelManager = new DefaultClientChannelManager(
+                originName, new DefaultClientConfigImpl(), resolver, new DefaultRegistry());
+        channelManager.init();
+
+        EventLoop busyLoop = eventLoopGroup.next();
+        EventLoop idleLoop = eventLoopGroup.next();
+        PooledConnection busy = channelManager.acquire(busyLoop).get(5, TimeUnit.SECONDS);
+        PooledConnection idle = channelManager.acquire(idleLoop).get(5, TimeUnit.SECONDS);
+        Truth.assertThat(idleLoop.submit(() -> channelManager.release(idle)).get(5, TimeUnit.SECONDS)).isTrue();
+
+        NettyOrigin origin = mock(NettyOrigin.class);
+        doReturn(originName).when(origin).getName();
+        when(origin.getConnectionPoolSnapshot()).thenAnswer(invocation -> channelManager.snapshot());
+        OriginManager<NettyOrigin> originManager = mock(OriginManager.class);
+        doReturn(List.of(origin)).when(originManager).getOrigins();
+
+        SessionContext context = new SessionContext();
+        context.set(CommonContextKeys.ORIGIN_MANAGER, originManager);
+        HttpRequestMessageImpl request = new HttpRequestMessageImpl(
+                context,
+                "HTTP/1.1",
+                "GET",
+                "/admin/connectionpools",
+                null,
+                null,
+                "192.168.0.2",
+                "http",
+                7001,
+                "localhost",
+                new LocalAddress("777"),
+                false);
+
+        HttpResponseMessage response = new ConnectionPoolStatusEndpoint().applyAsync(request).toBlocking().single();
+
+        Truth.assertThat(response.getStatus()).isEqualTo(200);
+        JsonNode snapshots = new ObjectMapper().readTree(response.getBodyAsText());
+        Truth.assertThat(snapshots.size()).isEqualTo(1);
+        Truth.assertThat(snapshots.get(0).get("origin").asText()).isEqualTo(originName.getTarget());
+
+        JsonNode servers = snapshots.get(0).get("servers");
+        Truth.assertThat(servers.size()).isEqualTo(1);
+        Truth.assertThat(servers.get(0).get("serverId").asText()).isEqualTo(server.getServerId());
+
+        List<String> eventLoops = new ArrayList<>();
+        for (JsonNode eventLoop : servers.get(0).get("eventLoops")) {
+            eventLoops.add("idle=" + eventLoop.get("idle").asInt() + ",inUse=" + eventLoop.get("inUse").asInt());
+            if (eventLoop.get("idle").asInt() == 1) {
+                Truth.assertThat(eventLoop.get("idleConnections").get(0).get("channelId").asText())
+                        .isEqualTo(idle.getChannel().id().asShortText());
+            }
+        }
+        Truth.assertThat(eventLoops).containsExactly("idle=0,inUse=1", "idle=1,inUse=0");
+
+        busy.getChannel().close().sync();
+        channelManager.shutdown();
+    }
+}
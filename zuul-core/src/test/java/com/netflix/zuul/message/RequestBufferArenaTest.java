@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.zuul.message;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.netflix.zuul.context.CommonContextKeys;
+import com.netflix.zuul.context.SessionContext;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.util.concurrent.ImmediateEventExecutor;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+class RequestBufferArenaTest {
+
+    @Test
+    void smallBuffersShareSlab() {
+        RequestBufferArena arena =
+                new RequestBufferArena(PooledByteBufAllocator.DEFAULT, ImmediateEventExecutor.INSTANCE, 64);
+
+        ByteBuf first = arena.buffer(10);
+        ByteBuf second = arena.buffer(10);
+
+        assertEquals(10, first.capacity());
+        assertEquals(0, first.readableBytes());
+        assertSame(first.unwrap(), second.unwrap());
+
+        ByteBuf slab = first.unwrap();
+        // One reference for the arena, and one per slice.
+        assertEquals(3, slab.refCnt());
+
+        arena.release();
+        assertEquals(2, slab.refCnt());
+
+        first.release();
+        second.release();
+        assertEquals(0, slab.refCnt());
+    }
+
+    @Test
+    void largeBuffersBypassSlab() {
+        RequestBufferArena arena =
+                new RequestBufferArena(PooledByteBufAllocator.DEFAULT, ImmediateEventExecutor.INSTANCE, 64);
+
+        ByteBuf buf = arena.buffer(100);
+        assertEquals(100, buf.capacity());
+        assertEquals(1, buf.refCnt());
+
+        buf.release();
+        arena.release();
+    }
+
+    @Test
+    void contextBuffersHaveFixedCapacity() {
+        SessionContext withArena = new SessionContext();
+        RequestBufferArena arena =
+                new RequestBufferArena(PooledByteBufAllocator.DEFAULT, ImmediateEventExecutor.INSTANCE, 64);
+        withArena.put(CommonContextKeys.BUFFER_ARENA, arena);
+
+        for (SessionContext context : new SessionContext[] {withArena, new SessionContext()}) {
+            for (int size : new int[] {4, 100}) {
+                ByteBuf buf = RequestBufferArena.fixedCapacityBuffer(context, size);
+                assertEquals(size, buf.maxCapacity());
+                buf.writeZero(size);
+                assertThrows(IndexOutOfBoundsException.class, () -> buf.writeByte(0));
+                buf.release();
+            }
+        }
+        arena.release();
+    }
+
+    @Test
+    void messageBodyUsesArena() {
+        SessionContext context = new SessionContext();
+        RequestBufferArena arena =
+                new RequestBufferArena(PooledByteBufAllocator.DEFAULT, ImmediateEventExecutor.INSTANCE, 64);
+        context.put(CommonContextKeys.BUFFER_ARENA, arena);
+
+        ZuulMessage msg = new ZuulMessageImpl(context);
+        msg.setBodyAsText("héllo");
+
+        assertEquals("héllo", msg.getBodyAsText());
+        assertEquals(
+                "héllo".getBytes(StandardCharsets.UTF_8).length,
+                Integer.parseInt(msg.getHeaders().getFirst("Content-Length")));
+
+        msg.disposeBufferedBody();
+        arena.release();
+    }
+}
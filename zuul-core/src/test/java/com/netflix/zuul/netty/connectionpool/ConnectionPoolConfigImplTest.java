@@ -215,4 +215,94 @@ class ConnectionPoolConfigImplTest {
         clientConfig.set(ConnectionPoolConfigImpl.CLOSE_ON_CIRCUIT_BREAKER, false);
         assertFalse(connectionPoolConfig.isCloseOnCircuitBreakerEnabled());
     }
+
+    @Test
+    void testMinIdlePerServerPerEventLoop() {
+        assertEquals(0, connectionPoolConfig.minIdlePerServerPerEventLoop());
+    }
+
+    @Test
+    void testMinIdlePerServerPerEventLoopOverride() {
+        clientConfig.set(ConnectionPoolConfigImpl.MIN_IDLE_PER_SERVER_PER_EVENT_LOOP, 2);
+        assertEquals(2, connectionPoolConfig.minIdlePerServerPerEventLoop());
+    }
+
+    @Test
+    void testIsHttp2() {
+        assertFalse(connectionPoolConfig.isHttp2());
+    }
+
+    @Test
+    void testIsHttp2Override() {
+        clientConfig.set(ConnectionPoolConfigImpl.HTTP2, true);
+        assertTrue(connectionPoolConfig.isHttp2());
+    }
+
+    @Test
+    void testGetHttp2MaxConcurrentStreams() {
+        assertEquals(
+                ConnectionPoolConfigImpl.DEFAULT_HTTP2_MAX_CONCURRENT_STREAMS,
+                connectionPoolConfig.getHttp2MaxConcurrentStreams());
+    }
+
+    @Test
+    void testGetHttp2MaxConcurrentStreamsOverride() {
+        clientConfig.set(ConnectionPoolConfigImpl.HTTP2_MAX_CONCURRENT_STREAMS, 10);
+        assertEquals(10, connectionPoolConfig.getHttp2MaxConcurrentStreams());
+    }
+
+    @Test
+    void testIsAdaptiveWaterline() {
+        assertFalse(connectionPoolConfig.isAdaptiveWaterline());
+    }
+
+    @Test
+    void testIsAdaptiveWaterlineOverride() {
+        clientConfig.set(ConnectionPoolConfigImpl.ADAPTIVE_WATERLINE, true);
+        assertTrue(connectionPoolConfig.isAdaptiveWaterline());
+    }
+
+    @Test
+    void testGetMaxConnectionLifetimeMs() {
+        assertEquals(-1, connectionPoolConfig.getMaxConnectionLifetimeMs());
+    }
+
+    @Test
+    void testGetMaxConnectionLifetimeMsOverride() {
+        clientConfig.set(ConnectionPoolConfigImpl.MAX_CONNECTION_LIFETIME_MS, 60000);
+        assertEquals(60000, connectionPoolConfig.getMaxConnectionLifetimeMs());
+    }
+
+    @Test
+    void testIsBorrowAcrossEventLoops() {
+        assertFalse(connectionPoolConfig.isBorrowAcrossEventLoops());
+    }
+
+    @Test
+    void testIsBorrowAcrossEventLoopsOverride() {
+        clientConfig.set(ConnectionPoolConfigImpl.BORROW_ACROSS_EVENT_LOOPS, true);
+        assertTrue(connectionPoolConfig.isBorrowAcrossEventLoops());
+    }
+
+    @Test
+    void testGetConnectRaceDelayMs() {
+        assertEquals(-1, connectionPoolConfig.getConnectRaceDelayMs());
+    }
+
+    @Test
+    void testGetConnectRaceDelayMsOverride() {
+        clientConfig.set(ConnectionPoolConfigImpl.CONNECT_RACE_DELAY_MS, 50);
+        assertEquals(50, connectionPoolConfig.getConnectRaceDelayMs());
+    }
+
+    @Test
+    void testGetFlushConsolidationMaxFlushes() {
+        assertEquals(0, connectionPoolConfig.getFlushConsolidationMaxFlushes());
+    }
+
+    @Test
+    void testGetFlushConsolidationMaxFlushesOverride() {
+        clientConfig.set(ConnectionPoolConfigImpl.FLUSH_CONSOLIDATION_MAX_FLUSHES, 64);
+        assertEquals(64, connectionPoolConfig.getFlushConsolidationMaxFlushes());
+    }
 }
@@ -40,6 +40,7 @@ import com.netflix.zuul.discovery.NonDiscoveryServer;
 import com.netflix.zuul.netty.server.Server;
 import com.netflix.zuul.origins.OriginName;
 import com.netflix.zuul.passport.CurrentPassport;
+import com.netflix.zuul.resolver.ServerSetDiff;
 import io.netty.channel.DefaultEventLoop;
 import io.netty.channel.EventLoop;
 import io.netty.channel.embedded.EmbeddedChannel;
@@ -49,6 +50,7 @@ import io.netty.util.concurrent.Promise;
 import java.net.InetSocketAddress;
 import java.net.ServerSocket;
 import java.net.SocketAddress;
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
@@ -121,6 +123,38 @@ class DefaultClientChannelManagerTest {
         assertEquals(443, socketAddress.getPort());
     }
 
+    @Test
+    void pickAddress_leavesHostNameUnresolvedByDefault() {
+        DefaultClientConfigImpl clientConfig = new DefaultClientConfigImpl();
+        DefaultClientChannelManager clientChannelManager = new DefaultClientChannelManager(
+                OriginName.fromVip("vip", "test"),
+                clientConfig,
+                mock(DynamicServerResolver.class),
+                new DefaultRegistry());
+        DiscoveryResult named = DiscoveryResult.from(
+                InstanceInfo.Builder.newBuilder()
+                        .setAppName("app")
+                        .setHostName("origin.example.com")
+                        .setPort(443)
+                        .build(),
+                true);
+        DiscoveryResult literal = DiscoveryResult.from(
+                InstanceInfo.Builder.newBuilder()
+                        .setAppName("app")
+                        .setHostName("192.168.0.1")
+                        .setPort(443)
+                        .build(),
+                true);
+
+        InetSocketAddress namedAddr = (InetSocketAddress) clientChannelManager.pickAddress(named);
+        InetSocketAddress literalAddr = (InetSocketAddress) clientChannelManager.pickAddress(literal);
+
+        assertTrue(namedAddr.isUnresolved());
+        assertEquals("origin.example.com", namedAddr.getHostString());
+        assertEquals(443, namedAddr.getPort());
+        assertEquals(InetAddresses.forString("192.168.0.1"), literalAddr.getAddress());
+    }
+
     @Test
     void updateServerRefOnEmptyDiscoveryResult() {
         OriginName originName = OriginName.fromVip("vip", "test");
@@ -168,6 +202,59 @@ class DefaultClientChannelManagerTest {
         Truth.assertThat(serverRef.get()).isSameInstanceAs(discoveryResult);
     }
 
+    @Test
+    void poolIsAttachedToServerUntilItIsRemoved() {
+        OriginName originName = OriginName.fromVip("vip", "test");
+        DynamicServerResolver resolver = mock(DynamicServerResolver.class);
+        InstanceInfo instanceInfo = InstanceInfo.Builder.newBuilder()
+                .setAppName("server-attachment")
+                .setHostName("server-attachment")
+                .setPort(7777)
+                .build();
+        DiscoveryResult discoveryResult = DiscoveryResult.from(instanceInfo, false);
+        when(resolver.resolve(any())).thenReturn(discoveryResult);
+
+        DefaultClientChannelManager clientChannelManager = new DefaultClientChannelManager(
+                originName, new DefaultClientConfigImpl(), resolver, new DefaultRegistry());
+
+        var unusedFuture = clientChannelManager.acquire(new DefaultEventLoop());
+
+        IConnectionPool pool = clientChannelManager.getPerServerPools().get(discoveryResult);
+        Truth.assertThat(pool).isNotNull();
+        Truth.assertThat(discoveryResult.getAttachment()).isSameInstanceAs(pool);
+
+        clientChannelManager.new ServerPoolListener().onChange(List.of(discoveryResult));
+
+        Truth.assertThat(discoveryResult.getAttachment()).isNull();
+        Truth.assertThat(clientChannelManager.getPerServerPools()).isEmpty();
+    }
+
+    @Test
+    void removedServerPoolIsDrained() {
+        OriginName originName = OriginName.fromVip("vip", "test");
+        DynamicServerResolver resolver = mock(DynamicServerResolver.class);
+        InstanceInfo instanceInfo = InstanceInfo.Builder.newBuilder()
+                .setAppName("server-drain")
+                .setHostName("server-drain")
+                .setPort(7777)
+                .build();
+        DiscoveryResult discoveryResult = DiscoveryResult.from(instanceInfo, false);
+        when(resolver.resolve(any())).thenReturn(discoveryResult);
+
+        DefaultClientChannelManager clientChannelManager = new DefaultClientChannelManager(
+                originName, new DefaultClientConfigImpl(), resolver, new DefaultRegistry());
+        var unusedFuture = clientChannelManager.acquire(new DefaultEventLoop());
+        IConnectionPool pool = clientChannelManager.getPerServerPools().get(discoveryResult);
+
+        clientChannelManager
+                .new ServerPoolListener()
+                .onUpdate(new ServerSetDiff<>(1, List.of(), List.of(discoveryResult), List.of()));
+
+        Truth.assertThat(pool.isAvailable()).isFalse();
+        Truth.assertThat(discoveryResult.getAttachment()).isNull();
+        Truth.assertThat(clientChannelManager.getPerServerPools()).isEmpty();
+    }
+
     @Test
     void initializeAndShutdown() throws Exception {
         String appName = "app-" + UUID.randomUUID();
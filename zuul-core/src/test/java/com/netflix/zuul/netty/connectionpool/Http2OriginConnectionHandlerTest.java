@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.zuul.netty.connectionpool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http2.Http2CodecUtil;
+import io.netty.handler.codec.http2.Http2FrameCodecBuilder;
+import io.netty.handler.codec.http2.Http2FrameTypes;
+import io.netty.handler.timeout.IdleStateEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class Http2OriginConnectionHandlerTest {
+
+    private EmbeddedChannel channel;
+
+    @AfterEach
+    void tearDown() {
+        if (channel != null) {
+            channel.finishAndReleaseAll();
+        }
+    }
+
+    @Test
+    void streamLimitFollowsOriginSettings() {
+        Http2OriginConnectionHandler handler = newChannel(100, 1000);
+        assertEquals(100, handler.maxConcurrentStreams());
+
+        channel.writeInbound(settingsFrame(2));
+        assertEquals(2, handler.maxConcurrentStreams());
+
+        handler.streamLeased();
+        assertTrue(handler.canLeaseStream());
+        handler.streamLeased();
+        assertFalse(handler.canLeaseStream());
+
+        handler.streamReturned();
+        assertTrue(handler.canLeaseStream());
+    }
+
+    @Test
+    void configuredLimitCapsOriginSettings() {
+        Http2OriginConnectionHandler handler = newChannel(10, 1000);
+
+        channel.writeInbound(settingsFrame(500));
+        assertEquals(10, handler.maxConcurrentStreams());
+    }
+
+    @Test
+    void stopsAcceptingStreamsAfterMaxRequestsPerConnection() {
+        Http2OriginConnectionHandler handler = newChannel(100, 2);
+
+        handler.streamLeased();
+        handler.streamReturned();
+        assertTrue(handler.isAcceptingStreams());
+
+        handler.streamLeased();
+        handler.streamReturned();
+        assertFalse(handler.isAcceptingStreams());
+        assertFalse(handler.canLeaseStream());
+    }
+
+    @Test
+    void idleOnlyClosesWithoutLeasedStreams() {
+        Http2OriginConnectionHandler handler = newChannel(100, 1000);
+
+        handler.streamLeased();
+        channel.pipeline().fireUserEventTriggered(IdleStateEvent.ALL_IDLE_STATE_EVENT);
+        assertTrue(channel.isOpen());
+
+        handler.streamReturned();
+        channel.pipeline().fireUserEventTriggered(IdleStateEvent.ALL_IDLE_STATE_EVENT);
+        assertFalse(channel.isOpen());
+    }
+
+    private Http2OriginConnectionHandler newChannel(int maxConcurrentStreams, int maxStreamsPerConnection) {
+        Http2OriginConnectionHandler handler =
+                new Http2OriginConnectionHandler(maxConcurrentStreams, maxStreamsPerConnection);
+        channel = new EmbeddedChannel(Http2FrameCodecBuilder.forClient().build(), handler);
+        return handler;
+    }
+
+    private static ByteBuf settingsFrame(int maxConcurrentStreams) {
+        return Unpooled.buffer()
+                .writeMedium(Http2CodecUtil.SETTING_ENTRY_LENGTH)
+                .writeByte(Http2FrameTypes.SETTINGS)
+                .writeByte(0)
+                .writeInt(0)
+                .writeShort(Http2CodecUtil.SETTINGS_MAX_CONCURRENT_STREAMS)
+                .writeInt(maxConcurrentStreams);
+    }
+}
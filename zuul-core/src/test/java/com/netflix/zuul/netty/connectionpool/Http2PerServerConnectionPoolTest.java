@@ -0,0 +1,240 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.zuul.netty.connectionpool;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.netflix.appinfo.InstanceInfo;
+import com.netflix.client.config.DefaultClientConfigImpl;
+import com.netflix.netty.common.metrics.HttpMetricsChannelHandler;
+import com.netflix.spectator.api.DefaultRegistry;
+import com.netflix.spectator.api.Registry;
+import com.netflix.zuul.discovery.DiscoveryResult;
+import com.netflix.zuul.netty.server.Server;
+import com.netflix.zuul.origins.OriginName;
+import com.netflix.zuul.passport.CurrentPassport;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.DefaultEventLoopGroup;
+import io.netty.channel.EventLoop;
+import io.netty.channel.local.LocalAddress;
+import io.netty.channel.local.LocalChannel;
+import io.netty.channel.local.LocalServerChannel;
+import io.netty.handler.codec.http2.Http2FrameCodecBuilder;
+import io.netty.handler.codec.http2.Http2MultiplexHandler;
+import io.netty.handler.codec.http2.Http2Settings;
+import io.netty.handler.codec.http2.Http2StreamChannel;
+import io.netty.util.concurrent.Promise;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class Http2PerServerConnectionPoolTest {
+
+    /**
+     * Sent by the origin in its SETTINGS, and lower than the configured limit, so that it's the one that applies.
+     */
+    private static final int ORIGIN_MAX_CONCURRENT_STREAMS = 2;
+
+    private static LocalAddress LOCAL_ADDRESS;
+    private static DefaultEventLoopGroup ORIGIN_EVENT_LOOP_GROUP;
+    private static DefaultEventLoopGroup CLIENT_EVENT_LOOP_GROUP;
+    private static EventLoop CLIENT_EVENT_LOOP;
+    private static Class<? extends Channel> PREVIOUS_CHANNEL_TYPE;
+
+    private Registry registry;
+    private DiscoveryResult discoveryResult;
+    private Http2PerServerConnectionPool pool;
+
+    @BeforeAll
+    @SuppressWarnings("deprecation")
+    static void staticSetup() throws InterruptedException {
+        LOCAL_ADDRESS = new LocalAddress(UUID.randomUUID().toString());
+
+        CLIENT_EVENT_LOOP_GROUP = new DefaultEventLoopGroup(1);
+        CLIENT_EVENT_LOOP = CLIENT_EVENT_LOOP_GROUP.next();
+
+        ORIGIN_EVENT_LOOP_GROUP = new DefaultEventLoopGroup(1);
+        ServerBootstrap bootstrap = new ServerBootstrap()
+                .group(ORIGIN_EVENT_LOOP_GROUP)
+                .localAddress(LOCAL_ADDRESS)
+                .channel(LocalServerChannel.class)
+                .childHandler(new ChannelInitializer<LocalChannel>() {
+                    @Override
+                    protected void initChannel(LocalChannel ch) {
+                        ch.pipeline()
+                                .addLast(Http2FrameCodecBuilder.forServer()
+                                        .initialSettings(Http2Settings.defaultSettings()
+                                                .maxConcurrentStreams(ORIGIN_MAX_CONCURRENT_STREAMS))
+                                        .build())
+                                .addLast(new Http2MultiplexHandler(new ChannelInboundHandlerAdapter()));
+                    }
+                });
+
+        bootstrap.bind().sync();
+        PREVIOUS_CHANNEL_TYPE = Server.defaultOutboundChannelType.getAndSet(LocalChannel.class);
+    }
+
+    @AfterAll
+    @SuppressWarnings("deprecation")
+    static void staticCleanup() {
+        ORIGIN_EVENT_LOOP_GROUP.shutdownGracefully();
+        CLIENT_EVENT_LOOP_GROUP.shutdownGracefully();
+
+        if (PREVIOUS_CHANNEL_TYPE != null) {
+            Server.defaultOutboundChannelType.set(PREVIOUS_CHANNEL_TYPE);
+        }
+    }
+
+    @BeforeEach
+    void setup() {
+        registry = new DefaultRegistry();
+
+        OriginName originName = OriginName.fromVipAndApp("whatever", "whatever-secure");
+        discoveryResult = DiscoveryResult.from(
+                InstanceInfo.Builder.newBuilder()
+                        .setIPAddr("175.45.176.0")
+                        .setPort(7001)
+                        .setAppName("whatever")
+                        .build(),
+                true);
+
+        DefaultClientConfigImpl clientConfig = new DefaultClientConfigImpl();
+        clientConfig.set(ConnectionPoolConfigImpl.HTTP2, true);
+        ConnectionPoolConfig connectionPoolConfig = new ConnectionPoolConfigImpl(originName, clientConfig);
+
+        NettyClientConnectionFactory connectionFactory =
+                new NettyClientConnectionFactory(connectionPoolConfig, new OriginChannelInitializer() {
+                    @Override
+                    protected void initChannel(Channel ch) {
+                        ch.pipeline()
+                                .addLast(Http2FrameCodecBuilder.forClient().build())
+                                .addLast(new Http2MultiplexHandler(new ChannelInboundHandlerAdapter()))
+                                .addLast(
+                                        Http2OriginConnectionHandler.NAME,
+                                        new Http2OriginConnectionHandler(
+                                                connectionPoolConfig.getHttp2MaxConcurrentStreams(),
+                                                connectionPoolConfig.getMaxRequestsPerConnection()));
+                    }
+
+                    @Override
+                    public HttpMetricsChannelHandler getHttpMetricsHandler() {
+                        return null;
+                    }
+
+                    @Override
+                    public ChannelHandler getHttp2StreamInitializer() {
+                        return new ChannelInitializer<Http2StreamChannel>() {
+                            @Override
+                            protected void initChannel(Http2StreamChannel ch) {}
+                        };
+                    }
+                });
+
+        ClientChannelManager channelManager = Mockito.mock(ClientChannelManager.class);
+        int index = 0;
+        pool = new Http2PerServerConnectionPool(
+                discoveryResult,
+                LOCAL_ADDRESS,
+                connectionFactory,
+                ch -> new PooledConnection(
+                        ch,
+                        discoveryResult,
+                        channelManager,
+                        registry.counter("fake_close_counter"),
+                        registry.counter("fake_close_wrt_counter")),
+                connectionPoolConfig,
+                clientConfig,
+                registry.counter("fake_counter" + index++),
+                registry.counter("fake_counter" + index++),
+                registry.counter("fake_counter" + index++),
+                registry.counter("fake_counter" + index++),
+                registry.counter("fake_counter" + index++),
+                registry.counter("fake_counter" + index++),
+                registry.counter("fake_counter" + index++),
+                registry.counter("fake_counter" + index++),
+                registry.timer("fake_timer"));
+    }
+
+    @Test
+    void opensNewConnectionOnceOriginStreamLimitIsReached() throws Exception {
+        PooledConnection first = acquire();
+        Channel firstParent = parentOf(first);
+        Http2OriginConnectionHandler firstStreams = Http2OriginConnectionHandler.fromChannel(firstParent);
+        // Until the origin's SETTINGS arrive, only the configured limit applies.
+        await().atMost(5, TimeUnit.SECONDS)
+                .until(() -> onClientLoop(firstStreams::maxConcurrentStreams) == ORIGIN_MAX_CONCURRENT_STREAMS);
+
+        PooledConnection second = acquire();
+        assertSame(firstParent, parentOf(second));
+        assertEquals(2, (int) onClientLoop(firstStreams::leasedStreams));
+
+        PooledConnection third = acquire();
+        Channel secondParent = parentOf(third);
+        assertNotSame(firstParent, secondParent);
+        assertEquals(2, discoveryResult.getOpenConnectionsCount());
+
+        // The full connection is back in the pool after its first stream is done, and stays in it only once after
+        // the second.
+        onClientLoop(() -> pool.release(first));
+        await().atMost(5, TimeUnit.SECONDS).until(() -> onClientLoop(firstStreams::leasedStreams) == 1);
+        assertEquals(2, pool.getConnsInPool());
+
+        onClientLoop(() -> pool.release(second));
+        await().atMost(5, TimeUnit.SECONDS).until(() -> onClientLoop(firstStreams::leasedStreams) == 0);
+        assertEquals(2, pool.getConnsInPool());
+        assertTrue(firstParent.isActive());
+
+        // Both connections have room again, so no more are made.
+        PooledConnection fourth = acquire();
+        PooledConnection fifth = acquire();
+        assertTrue(parentOf(fourth) == firstParent || parentOf(fourth) == secondParent);
+        assertTrue(parentOf(fifth) == firstParent || parentOf(fifth) == secondParent);
+        assertEquals(2, discoveryResult.getOpenConnectionsCount());
+
+        pool.shutdown();
+    }
+
+    private PooledConnection acquire() throws Exception {
+        Promise<PooledConnection> promise =
+                onClientLoop(() -> pool.acquire(CLIENT_EVENT_LOOP, CurrentPassport.create(), new AtomicReference<>()));
+        PooledConnection conn = promise.get(5, TimeUnit.SECONDS);
+        assertTrue(conn.isStream());
+        return conn;
+    }
+
+    private static Channel parentOf(PooledConnection stream) {
+        return ((Http2StreamChannel) stream.getChannel()).parent();
+    }
+
+    private static <T> T onClientLoop(Callable<T> task) throws Exception {
+        return CLIENT_EVENT_LOOP.submit(task).get(5, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.zuul.netty.connectionpool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.timeout.IdleStateEvent;
+import io.netty.handler.timeout.ReadTimeoutException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class OriginTimeoutHandlerTest {
+
+    private final List<Object> events = new ArrayList<>();
+    private final List<Throwable> errors = new ArrayList<>();
+
+    private OriginTimeoutHandler handler;
+    private EmbeddedChannel channel;
+
+    @BeforeEach
+    void setup() {
+        handler = new OriginTimeoutHandler();
+        channel = new EmbeddedChannel(handler, new ChannelInboundHandlerAdapter() {
+            @Override
+            public void userEventTriggered(ChannelHandlerContext ctx, Object evt) {
+                events.add(evt);
+            }
+
+            @Override
+            public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+                errors.add(cause);
+            }
+        });
+    }
+
+    @Test
+    void idleTimeoutFiresIdleEvent() {
+        handler.startIdleTimeout(100, TimeUnit.MILLISECONDS);
+        assertTrue(handler.isIdleTimeoutActive());
+
+        advance(99);
+        assertTrue(events.isEmpty());
+
+        advance(1);
+        assertEquals(List.of(IdleStateEvent.FIRST_ALL_IDLE_STATE_EVENT), events);
+        assertFalse(handler.isIdleTimeoutActive());
+        assertTrue(channel.isOpen());
+    }
+
+    @Test
+    void readTimeoutClosesChannel() {
+        handler.startReadTimeout(100, TimeUnit.MILLISECONDS);
+
+        advance(100);
+
+        assertEquals(1, errors.size());
+        assertSame(ReadTimeoutException.INSTANCE, errors.get(0));
+        assertFalse(channel.isOpen());
+    }
+
+    @Test
+    void readsPushBackTheTimeout() {
+        handler.startReadTimeout(100, TimeUnit.MILLISECONDS);
+
+        advance(60);
+        channel.writeInbound("chunk");
+        advance(60);
+        assertTrue(errors.isEmpty());
+        assertTrue(channel.isOpen());
+
+        advance(40);
+        assertEquals(1, errors.size());
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    void stoppedTimeoutDoesNotFire() {
+        handler.startReadTimeout(100, TimeUnit.MILLISECONDS);
+        handler.stopIdleTimeout();
+        assertTrue(handler.isReadTimeoutActive());
+
+        handler.stopReadTimeout();
+        assertFalse(handler.isReadTimeoutActive());
+
+        advance(200);
+        assertTrue(errors.isEmpty());
+        assertTrue(events.isEmpty());
+        assertTrue(channel.isOpen());
+    }
+
+    @Test
+    void switchingModesKeepsTheLatestTimeout() {
+        handler.startReadTimeout(50, TimeUnit.MILLISECONDS);
+        handler.stopReadTimeout();
+        handler.startIdleTimeout(200, TimeUnit.MILLISECONDS);
+
+        // The read timeout's deadline no longer applies once it has been switched off.
+        advance(50);
+        assertTrue(events.isEmpty());
+
+        advance(150);
+        assertEquals(List.of(IdleStateEvent.FIRST_ALL_IDLE_STATE_EVENT), events);
+        assertTrue(errors.isEmpty());
+    }
+
+    private void advance(long millis) {
+        channel.advanceTimeBy(millis, TimeUnit.MILLISECONDS);
+        channel.runScheduledPendingTasks();
+    }
+}
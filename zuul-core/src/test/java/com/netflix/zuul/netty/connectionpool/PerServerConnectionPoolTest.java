@@ -24,8 +24,11 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.spy;
 
+import com.google.common.net.InetAddresses;
 import com.netflix.appinfo.InstanceInfo;
 import com.netflix.client.config.DefaultClientConfigImpl;
 import com.netflix.client.config.IClientConfigKey.Keys;
@@ -35,6 +38,7 @@ import com.netflix.spectator.api.Registry;
 import com.netflix.spectator.api.Timer;
 import com.netflix.zuul.discovery.DiscoveryResult;
 import com.netflix.zuul.netty.connectionpool.PooledConnection.ConnectionState;
+import com.netflix.zuul.netty.insights.PassportStateHttpClientHandler;
 import com.netflix.zuul.netty.server.Server;
 import com.netflix.zuul.origins.OriginName;
 import com.netflix.zuul.passport.CurrentPassport;
@@ -42,6 +46,7 @@ import com.netflix.zuul.passport.PassportState;
 import io.netty.bootstrap.ServerBootstrap;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelPromise;
 import io.netty.channel.DefaultEventLoopGroup;
 import io.netty.channel.EventLoop;
 import io.netty.channel.embedded.EmbeddedChannel;
@@ -50,11 +55,15 @@ import io.netty.channel.local.LocalChannel;
 import io.netty.channel.local.LocalServerChannel;
 import io.netty.handler.codec.DecoderException;
 import io.netty.util.concurrent.Promise;
-import java.util.Deque;
+import java.net.ConnectException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import javax.net.ssl.SSLHandshakeException;
 import org.junit.jupiter.api.AfterAll;
@@ -94,8 +103,6 @@ class PerServerConnectionPoolTest {
     private Counter closeAboveHighWaterMarkCounter;
     private Counter maxConnsPerHostExceededCounter;
     private Timer connEstablishTimer;
-    private AtomicInteger connsInPool;
-    private AtomicInteger connsInUse;
 
     @BeforeAll
     @SuppressWarnings("deprecation")
@@ -146,8 +153,6 @@ class PerServerConnectionPoolTest {
         closeAboveHighWaterMarkCounter = registry.counter("fake_counter" + index++);
         maxConnsPerHostExceededCounter = registry.counter("fake_counter" + index++);
         connEstablishTimer = registry.timer("fake_timer");
-        connsInPool = new AtomicInteger();
-        connsInUse = new AtomicInteger();
 
         OriginName originName = OriginName.fromVipAndApp("whatever", "whatever-secure");
 
@@ -164,7 +169,10 @@ class PerServerConnectionPoolTest {
         NettyClientConnectionFactory nettyConnectionFactory =
                 new NettyClientConnectionFactory(connectionPoolConfig, new ChannelInitializer<Channel>() {
                     @Override
-                    protected void initChannel(Channel ch) {}
+                    protected void initChannel(Channel ch) {
+                        // Pooled connections get their idle handler added after this one.
+                        ch.pipeline().addLast(new PassportStateHttpClientHandler.OutboundHandler());
+                    }
                 });
 
         PooledConnectionFactory pooledConnectionFactory = this::newPooledConnection;
@@ -184,9 +192,7 @@ class PerServerConnectionPoolTest {
                 connTakenFromPoolIsNotOpen,
                 closeAboveHighWaterMarkCounter,
                 maxConnsPerHostExceededCounter,
-                connEstablishTimer,
-                connsInPool,
-                connsInUse);
+                connEstablishTimer);
     }
 
     @Test
@@ -214,7 +220,7 @@ class PerServerConnectionPoolTest {
         assertNotNull(currentPassport.findState(PassportState.ORIGIN_CH_CONNECTING));
         assertNotNull(currentPassport.findState(PassportState.ORIGIN_CH_CONNECTED));
         assertEquals(1, createConnSucceededCounter.count());
-        assertEquals(1, connsInUse.get());
+        assertEquals(1, pool.getConnsInUse());
 
         // check state on PooledConnection - not all thread safe
         CLIENT_EVENT_LOOP
@@ -237,7 +243,7 @@ class PerServerConnectionPoolTest {
                 })
                 .sync();
 
-        assertEquals(1, connsInPool.get());
+        assertEquals(1, pool.getConnsInPool());
 
         CurrentPassport newPassport = CurrentPassport.create();
         Promise<PooledConnection> secondPromise = pool.acquire(CLIENT_EVENT_LOOP, newPassport, new AtomicReference<>());
@@ -245,7 +251,7 @@ class PerServerConnectionPoolTest {
         PooledConnection connection2 = secondPromise.sync().get();
         assertEquals(connection, connection2);
         assertEquals(2, requestConnCounter.count());
-        assertEquals(0, connsInPool.get());
+        assertEquals(0, pool.getConnsInPool());
 
         CLIENT_EVENT_LOOP
                 .submit(() -> {
@@ -254,6 +260,53 @@ class PerServerConnectionPoolTest {
                 .sync();
     }
 
+    @Test
+    void connectionsArePooledPerEventLoop() throws InterruptedException, ExecutionException {
+        DefaultEventLoopGroup otherGroup = new DefaultEventLoopGroup(1);
+        try {
+            EventLoop otherEventLoop = otherGroup.next();
+
+            PooledConnection connection1 = CLIENT_EVENT_LOOP
+                    .submit(() -> pool.acquire(CLIENT_EVENT_LOOP, CurrentPassport.create(), new AtomicReference<>()))
+                    .get()
+                    .sync()
+                    .get();
+            PooledConnection connection2 = otherEventLoop
+                    .submit(() -> pool.acquire(otherEventLoop, CurrentPassport.create(), new AtomicReference<>()))
+                    .get()
+                    .sync()
+                    .get();
+            assertEquals(2, pool.getConnsInUse());
+
+            CLIENT_EVENT_LOOP
+                    .submit(() -> {
+                        pool.onRelease(connection1);
+                        assertTrue(pool.release(connection1));
+                        assertEquals(1, pool.getPoolForEventLoop(CLIENT_EVENT_LOOP).size());
+                    })
+                    .sync();
+            otherEventLoop
+                    .submit(() -> {
+                        pool.onRelease(connection2);
+                        assertTrue(pool.release(connection2));
+                        assertEquals(1, pool.getPoolForEventLoop(otherEventLoop).size());
+                    })
+                    .sync();
+
+            assertEquals(2, pool.getConnsInPool());
+            assertEquals(0, pool.getConnsInUse());
+
+            // A connection pooled on one event loop is never handed out on another.
+            PooledConnection reused = otherEventLoop
+                    .submit(() -> pool.tryGettingFromConnectionPool(otherEventLoop))
+                    .get();
+            assertEquals(connection2, reused);
+            assertEquals(1, pool.getConnsInPool());
+        } finally {
+            otherGroup.shutdownGracefully();
+        }
+    }
+
     @Test
     void releaseFromPoolButAlreadyClosed() throws InterruptedException, ExecutionException {
         CurrentPassport currentPassport = CurrentPassport.create();
@@ -276,7 +329,7 @@ class PerServerConnectionPoolTest {
 
         assertNotEquals(connection, connection2);
         assertEquals(1, connTakenFromPoolIsNotOpen.count());
-        assertEquals(0, connsInPool.get());
+        assertEquals(0, pool.getConnsInPool());
         assertTrue(
                 connection.getChannel().closeFuture().await(5, TimeUnit.SECONDS),
                 "Channel should have been closed by pool");
@@ -340,27 +393,238 @@ class PerServerConnectionPoolTest {
         PooledConnection connection1 = newPooledConnection(channel1);
         PooledConnection connection2 = newPooledConnection(channel2);
 
-        Deque<PooledConnection> connections = pool.getPoolForEventLoop(channel1.eventLoop());
-        connections.add(connection1);
-        connections.add(connection2);
-        connsInPool.set(2);
+        PerServerConnectionPool.EventLoopPool connections = pool.getPoolForEventLoop(channel1.eventLoop());
+        connections.offer(connection1);
+        connections.offer(connection2);
 
-        assertEquals(2, connsInPool.get());
+        assertEquals(2, pool.getConnsInPool());
         pool.drainIdleConnectionsOnEventLoop(channel1.eventLoop());
         channel1.runPendingTasks();
 
-        assertEquals(0, connsInPool.get());
+        assertEquals(0, pool.getConnsInPool());
         assertTrue(connection1.getChannel().closeFuture().isSuccess());
         assertTrue(connection2.getChannel().closeFuture().isSuccess());
     }
 
+    @Test
+    void warmUpOpensMinIdleConnections() throws Exception {
+        clientConfig.set(ConnectionPoolConfigImpl.MIN_IDLE_PER_SERVER_PER_EVENT_LOOP, 2);
+
+        assertFalse(CLIENT_EVENT_LOOP.submit(() -> pool.warmUp(CLIENT_EVENT_LOOP)).get());
+        awaitConnsInPool(2);
+        assertEquals(2, createNewConnCounter.count());
+        assertEquals(2, createConnSucceededCounter.count());
+        assertEquals(2, discoveryResult.getOpenConnectionsCount());
+
+        // Already warm, so nothing more to do.
+        assertTrue(CLIENT_EVENT_LOOP.submit(() -> pool.warmUp(CLIENT_EVENT_LOOP)).get());
+        assertEquals(2, createNewConnCounter.count());
+
+        PooledConnection connection = pool.acquire(CLIENT_EVENT_LOOP, CurrentPassport.create(), new AtomicReference<>())
+                .sync()
+                .get();
+        assertEquals(1, reuseConnCounter.count());
+        assertNull(connection.getChannel().pipeline().get(DefaultClientChannelManager.IDLE_STATE_HANDLER_NAME));
+    }
+
+    @Test
+    void warmUpIsCappedByWaterline() throws Exception {
+        clientConfig.set(ConnectionPoolConfigImpl.MIN_IDLE_PER_SERVER_PER_EVENT_LOOP, 10);
+        clientConfig.set(ConnectionPoolConfigImpl.PER_SERVER_WATERLINE, 3);
+
+        CLIENT_EVENT_LOOP.submit(() -> pool.warmUp(CLIENT_EVENT_LOOP)).sync();
+        awaitConnsInPool(3);
+        assertEquals(3, createNewConnCounter.count());
+    }
+
+    @Test
+    void warmUpRespectsMaxConnectionsPerHost() throws Exception {
+        clientConfig.set(ConnectionPoolConfigImpl.MIN_IDLE_PER_SERVER_PER_EVENT_LOOP, 2);
+        clientConfig.set(Keys.MaxConnectionsPerHost, 1);
+
+        CLIENT_EVENT_LOOP.submit(() -> pool.warmUp(CLIENT_EVENT_LOOP)).sync();
+        awaitConnsInPool(1);
+        assertEquals(1, createNewConnCounter.count());
+        assertEquals(0, maxConnsPerHostExceededCounter.count());
+    }
+
+    @Test
+    void slowConnectIsRacedBySecondAttempt() throws Exception {
+        clientConfig.set(ConnectionPoolConfigImpl.CONNECT_RACE_DELAY_MS, 10);
+        PerServerConnectionPool racingPool = spy(pool);
+
+        // The first attempt never completes until we fail it, after the second has already won.
+        EmbeddedChannel stalledChannel = new EmbeddedChannel();
+        ChannelPromise stalled = stalledChannel.newPromise();
+        doReturn(stalled).doCallRealMethod().when(racingPool).connectToServer(any(), any(), any());
+
+        PooledConnection connection = CLIENT_EVENT_LOOP
+                .submit(() -> racingPool.acquire(CLIENT_EVENT_LOOP, CurrentPassport.create(), new AtomicReference<>()))
+                .get()
+                .sync()
+                .get();
+
+        assertNotEquals(stalledChannel, connection.getChannel());
+        assertEquals(2, createNewConnCounter.count());
+        assertEquals(1, createConnSucceededCounter.count());
+        assertEquals(1, racingPool.connCreationsInProgress.get());
+
+        CLIENT_EVENT_LOOP
+                .submit(() -> stalled.setFailure(new ConnectException("too late")))
+                .sync();
+        assertEquals(0, racingPool.connCreationsInProgress.get());
+        assertEquals(0, createConnFailedCounter.count());
+        assertEquals(1, discoveryResult.getOpenConnectionsCount());
+    }
+
+    @Test
+    void idleConnectionIsBorrowedFromAnotherEventLoop() throws InterruptedException, ExecutionException {
+        clientConfig.set(ConnectionPoolConfigImpl.BORROW_ACROSS_EVENT_LOOPS, true);
+        DefaultEventLoopGroup otherGroup = new DefaultEventLoopGroup(1);
+        try {
+            EventLoop otherEventLoop = otherGroup.next();
+
+            PooledConnection connection = otherEventLoop
+                    .submit(() -> pool.acquire(otherEventLoop, CurrentPassport.create(), new AtomicReference<>()))
+                    .get()
+                    .sync()
+                    .get();
+            otherEventLoop
+                    .submit(() -> {
+                        pool.onRelease(connection);
+                        assertTrue(pool.release(connection));
+                    })
+                    .sync();
+
+            PooledConnection borrowed = CLIENT_EVENT_LOOP
+                    .submit(() -> pool.acquire(CLIENT_EVENT_LOOP, CurrentPassport.create(), new AtomicReference<>()))
+                    .get()
+                    .sync()
+                    .get();
+
+            assertEquals(connection, borrowed);
+            assertEquals(CLIENT_EVENT_LOOP, borrowed.getChannel().eventLoop());
+            assertTrue(borrowed.getChannel().isActive());
+            assertEquals(1, createNewConnCounter.count());
+            assertEquals(1, reuseConnCounter.count());
+            assertEquals(0, pool.getConnsInPool());
+            assertEquals(1, pool.getConnsInUse());
+
+            // Once released, it belongs to its new event loop's pool.
+            CLIENT_EVENT_LOOP
+                    .submit(() -> {
+                        pool.onRelease(borrowed);
+                        assertTrue(pool.release(borrowed));
+                        assertEquals(1, pool.getPoolForEventLoop(CLIENT_EVENT_LOOP).size());
+                    })
+                    .sync();
+        } finally {
+            otherGroup.shutdownGracefully();
+        }
+    }
+
+    @Test
+    void nothingToBorrowMakesNewConnection() throws InterruptedException, ExecutionException {
+        clientConfig.set(ConnectionPoolConfigImpl.BORROW_ACROSS_EVENT_LOOPS, true);
+
+        PooledConnection connection = CLIENT_EVENT_LOOP
+                .submit(() -> pool.acquire(CLIENT_EVENT_LOOP, CurrentPassport.create(), new AtomicReference<>()))
+                .get()
+                .sync()
+                .get();
+
+        assertNotNull(connection);
+        assertEquals(1, createNewConnCounter.count());
+        assertEquals(0, reuseConnCounter.count());
+    }
+
+    @Test
+    void adaptiveWaterlineKeepsRecentPeakDemand() throws Exception {
+        clientConfig.set(ConnectionPoolConfigImpl.PER_SERVER_WATERLINE, 1);
+        clientConfig.set(ConnectionPoolConfigImpl.ADAPTIVE_WATERLINE, true);
+        clientConfig.set(ConnectionPoolConfigImpl.ADAPTIVE_WATERLINE_WINDOW_MS, 60000);
+
+        List<PooledConnection> connections = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            connections.add(CLIENT_EVENT_LOOP
+                    .submit(() -> pool.acquire(CLIENT_EVENT_LOOP, CurrentPassport.create(), new AtomicReference<>()))
+                    .get()
+                    .sync()
+                    .get());
+        }
+
+        CLIENT_EVENT_LOOP
+                .submit(() -> {
+                    for (PooledConnection connection : connections) {
+                        pool.onRelease(connection);
+                        assertTrue(pool.release(connection));
+                    }
+                })
+                .sync();
+
+        // A static waterline of 1 would have closed two of them.
+        assertEquals(3, pool.getConnsInPool());
+        assertEquals(0, closeAboveHighWaterMarkCounter.count());
+
+        List<ConnectionPoolSnapshot.EventLoopSnapshot> snapshot = pool.snapshot().get(5, TimeUnit.SECONDS);
+        assertEquals(3, snapshot.get(0).waterline());
+    }
+
+    @Test
+    void pooledConnectionPastLifetimeIsNotReused() throws Exception {
+        clientConfig.set(ConnectionPoolConfigImpl.MAX_CONNECTION_LIFETIME_MS, 1);
+
+        PooledConnection connection = pool.acquire(CLIENT_EVENT_LOOP, CurrentPassport.create(), new AtomicReference<>())
+                .sync()
+                .get();
+        CLIENT_EVENT_LOOP
+                .submit(() -> {
+                    pool.onRelease(connection);
+                    pool.release(connection);
+                })
+                .sync();
+        assertEquals(1, pool.getConnsInPool());
+
+        Thread.sleep(5);
+
+        PooledConnection connection2 = pool.acquire(
+                        CLIENT_EVENT_LOOP, CurrentPassport.create(), new AtomicReference<>())
+                .sync()
+                .get();
+        assertNotEquals(connection, connection2);
+        assertEquals(2, createNewConnCounter.count());
+        assertEquals(0, reuseConnCounter.count());
+    }
+
+    @Test
+    void snapshotIsTakenPerEventLoop() throws Exception {
+        clientConfig.set(ConnectionPoolConfigImpl.MIN_IDLE_PER_SERVER_PER_EVENT_LOOP, 2);
+        CLIENT_EVENT_LOOP.submit(() -> pool.warmUp(CLIENT_EVENT_LOOP)).sync();
+        awaitConnsInPool(2);
+
+        PooledConnection connection = pool.acquire(CLIENT_EVENT_LOOP, CurrentPassport.create(), new AtomicReference<>())
+                .sync()
+                .get();
+
+        List<ConnectionPoolSnapshot.EventLoopSnapshot> snapshot = pool.snapshot().get(5, TimeUnit.SECONDS);
+        assertEquals(1, snapshot.size());
+        ConnectionPoolSnapshot.EventLoopSnapshot eventLoop = snapshot.get(0);
+        assertEquals(1, eventLoop.idle());
+        assertEquals(1, eventLoop.inUse());
+        assertEquals(1, eventLoop.idleConnections().size());
+        assertNotEquals(connection.getChannel().id().asShortText(), eventLoop.idleConnections().get(0).channelId());
+    }
+
     @Test
     void handleConnectCompletionWithException() {
 
         EmbeddedChannel channel = new EmbeddedChannel();
         Promise<PooledConnection> promise = CLIENT_EVENT_LOOP.newPromise();
         pool.handleConnectCompletion(
-                channel.newFailedFuture(new RuntimeException("runtime failure")), promise, CurrentPassport.create());
+                channel.newFailedFuture(new RuntimeException("runtime failure")),
+                promise,
+                CurrentPassport.create(),
+                new AtomicReference<>());
 
         assertFalse(promise.isSuccess());
         assertNotNull(promise.cause());
@@ -376,7 +640,8 @@ class PerServerConnectionPoolTest {
         pool.handleConnectCompletion(
                 channel.newFailedFuture(new DecoderException(new SSLHandshakeException("Invalid tls cert"))),
                 promise,
-                CurrentPassport.create());
+                CurrentPassport.create(),
+                new AtomicReference<>());
 
         assertFalse(promise.isSuccess());
         assertNotNull(promise.cause());
@@ -385,6 +650,42 @@ class PerServerConnectionPoolTest {
                 SSLHandshakeException.class, promise.cause().getCause(), "expect decoder exception is unwrapped");
     }
 
+    @Test
+    void handleConnectCompletionReportsResolvedAddressOfHostName() {
+        PerServerConnectionPool namedPool = new PerServerConnectionPool(
+                discoveryResult,
+                InetSocketAddress.createUnresolved("origin.example.com", 7001),
+                pool.connectionFactory,
+                pool.pooledConnectionFactory,
+                connectionPoolConfig,
+                clientConfig,
+                createNewConnCounter,
+                createConnSucceededCounter,
+                createConnFailedCounter,
+                requestConnCounter,
+                reuseConnCounter,
+                connTakenFromPoolIsNotOpen,
+                closeAboveHighWaterMarkCounter,
+                maxConnsPerHostExceededCounter,
+                connEstablishTimer);
+        InetAddress resolved = InetAddresses.forString("10.0.0.1");
+        EmbeddedChannel channel = new EmbeddedChannel() {
+            @Override
+            protected SocketAddress remoteAddress0() {
+                return new InetSocketAddress(resolved, 7001);
+            }
+        };
+        Promise<PooledConnection> promise = channel.eventLoop().newPromise();
+        AtomicReference<InetAddress> selectedHostAddr = new AtomicReference<>();
+
+        namedPool.handleConnectCompletion(
+                channel.newSucceededFuture(), promise, CurrentPassport.create(), selectedHostAddr);
+
+        assertTrue(promise.isSuccess());
+        assertEquals(resolved, selectedHostAddr.get());
+        assertEquals(resolved, namedPool.getConnectedHost(channel));
+    }
+
     private void checkChannelState(PooledConnection connection, CurrentPassport passport, int expectedUsage) {
         Channel channel = connection.getChannel();
         assertEquals(expectedUsage, connection.getUsageCount());
@@ -394,6 +695,14 @@ class PerServerConnectionPoolTest {
         assertNull(channel.pipeline().get(DefaultClientChannelManager.IDLE_STATE_HANDLER_NAME));
     }
 
+    private void awaitConnsInPool(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (pool.getConnsInPool() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(expected, pool.getConnsInPool());
+    }
+
     private PooledConnection newPooledConnection(Channel ch) {
         return new PooledConnection(
                 ch,
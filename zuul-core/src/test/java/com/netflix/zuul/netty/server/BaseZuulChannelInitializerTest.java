@@ -16,7 +16,9 @@
 
 package com.netflix.zuul.netty.server;
 
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 import com.netflix.netty.common.SourceAddressChannelHandler;
 import com.netflix.netty.common.channel.config.ChannelConfig;
@@ -31,6 +33,7 @@ import io.netty.channel.Channel;
 import io.netty.channel.embedded.EmbeddedChannel;
 import io.netty.channel.group.ChannelGroup;
 import io.netty.channel.group.DefaultChannelGroup;
+import io.netty.handler.flush.FlushConsolidationHandler;
 import io.netty.util.concurrent.GlobalEventExecutor;
 import org.junit.jupiter.api.Test;
 
@@ -116,4 +119,54 @@ class BaseZuulChannelInitializerTest {
         assertNotNull(channel.pipeline().context(ServerStateHandler.InboundHandler.class));
         assertNotNull(channel.pipeline().context(ServerStateHandler.OutboundHandler.class));
     }
+
+    @Test
+    void flushConsolidationAddedAheadOfCodec() {
+        ChannelConfig channelConfig = new ChannelConfig();
+        channelConfig.set(CommonChannelConfigKeys.flushConsolidationMaxFlushes, 32);
+        ChannelConfig channelDependencies = new ChannelConfig();
+        channelDependencies.set(ZuulDependencyKeys.registry, new NoopRegistry());
+        channelDependencies.set(
+                ZuulDependencyKeys.rateLimitingChannelHandlerProvider, new NullChannelHandlerProvider());
+        channelDependencies.set(
+                ZuulDependencyKeys.sslClientCertCheckChannelHandlerProvider, new NullChannelHandlerProvider());
+
+        ChannelGroup channelGroup = new DefaultChannelGroup(GlobalEventExecutor.INSTANCE);
+        BaseZuulChannelInitializer init =
+                new BaseZuulChannelInitializer("1234", channelConfig, channelDependencies, channelGroup) {
+
+                    @Override
+                    protected void initChannel(Channel ch) {}
+                };
+        EmbeddedChannel channel = new EmbeddedChannel();
+
+        init.addHttp1Handlers(channel.pipeline());
+
+        assertInstanceOf(FlushConsolidationHandler.class, channel.pipeline().first());
+        assertNotNull(channel.pipeline().context(BaseZuulChannelInitializer.HTTP_CODEC_HANDLER_NAME));
+    }
+
+    @Test
+    void flushConsolidationOffByDefault() {
+        ChannelConfig channelConfig = new ChannelConfig();
+        ChannelConfig channelDependencies = new ChannelConfig();
+        channelDependencies.set(ZuulDependencyKeys.registry, new NoopRegistry());
+        channelDependencies.set(
+                ZuulDependencyKeys.rateLimitingChannelHandlerProvider, new NullChannelHandlerProvider());
+        channelDependencies.set(
+                ZuulDependencyKeys.sslClientCertCheckChannelHandlerProvider, new NullChannelHandlerProvider());
+
+        ChannelGroup channelGroup = new DefaultChannelGroup(GlobalEventExecutor.INSTANCE);
+        BaseZuulChannelInitializer init =
+                new BaseZuulChannelInitializer("1234", channelConfig, channelDependencies, channelGroup) {
+
+                    @Override
+                    protected void initChannel(Channel ch) {}
+                };
+        EmbeddedChannel channel = new EmbeddedChannel();
+
+        init.addHttp1Handlers(channel.pipeline());
+
+        assertNull(channel.pipeline().get(FlushConsolidationHandler.class));
+    }
 }
@@ -21,6 +21,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 import static org.mockito.Mockito.mock;
 
 import com.netflix.config.ConfigurationManager;
@@ -30,6 +31,7 @@ import com.netflix.spectator.api.NoopRegistry;
 import com.netflix.spectator.api.Spectator;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelInitializer;
+import io.netty.channel.epoll.Epoll;
 import io.netty.channel.group.DefaultChannelGroup;
 import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.util.concurrent.GlobalEventExecutor;
@@ -43,6 +45,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.commons.configuration.AbstractConfiguration;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -119,6 +122,52 @@ class ServerTest {
         }
     }
 
+    @Test
+    void reusePortListenerPerEventLoop() throws Exception {
+        assumeTrue(Epoll.isAvailable());
+        AbstractConfiguration config = ConfigurationManager.getConfigInstance();
+        config.setProperty("zuul.server.netty.socket.force_nio", "false");
+        config.setProperty("server.reuse.socket.reusePort", "true");
+        config.setProperty("server.reuse.socket.backlog", "1024");
+        try {
+            AtomicInteger accepted = new AtomicInteger();
+            ChannelInitializer<Channel> init = new ChannelInitializer<Channel>() {
+                @Override
+                protected void initChannel(Channel ch) {
+                    accepted.incrementAndGet();
+                }
+            };
+            Map<NamedSocketAddress, ChannelInitializer<?>> initializers =
+                    Map.of(new NamedSocketAddress("reuse", new InetSocketAddress(0)), init);
+            ClientConnectionsShutdown ccs = new ClientConnectionsShutdown(
+                    new DefaultChannelGroup(GlobalEventExecutor.INSTANCE),
+                    GlobalEventExecutor.INSTANCE,
+                    /* discoveryClient= */ null);
+            Server s = new Server(
+                    new NoopRegistry(),
+                    mock(ServerStatusManager.class),
+                    initializers,
+                    ccs,
+                    new EventLoopGroupMetrics(Spectator.globalRegistry()),
+                    new DefaultEventLoopConfig(4, 1));
+            s.start();
+
+            List<NamedSocketAddress> addrs = s.getListeningAddresses();
+            assertEquals(1, addrs.size());
+            int port = ((InetSocketAddress) addrs.get(0).unwrap()).getPort();
+            for (int i = 0; i < 32; i++) {
+                checkConnection(port);
+            }
+
+            // All four sockets share the port, and whichever the kernel picks accepts.
+            await().atMost(1, TimeUnit.SECONDS).until(() -> accepted.get() == 32);
+            s.stop();
+        } finally {
+            config.clearProperty("server.reuse.socket.reusePort");
+            config.clearProperty("server.reuse.socket.backlog");
+        }
+    }
+
     @SuppressWarnings("EmptyCatch")
     private static void checkConnection(int port) {
         Socket sock = null;
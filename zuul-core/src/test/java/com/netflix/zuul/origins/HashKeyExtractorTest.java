@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.zuul.origins;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.netflix.zuul.context.SessionContext;
+import com.netflix.zuul.message.Headers;
+import com.netflix.zuul.message.http.HttpQueryParams;
+import com.netflix.zuul.message.http.HttpRequestMessage;
+import com.netflix.zuul.message.http.HttpRequestMessageImpl;
+import org.junit.jupiter.api.Test;
+
+class HashKeyExtractorTest {
+
+    @Test
+    void notConfigured() {
+        assertThat(HashKeyExtractor.parse(null)).isNull();
+        assertThat(HashKeyExtractor.parse("")).isNull();
+    }
+
+    @Test
+    void invalidSpec() {
+        assertThrows(IllegalArgumentException.class, () -> HashKeyExtractor.parse("tenant"));
+        assertThrows(IllegalArgumentException.class, () -> HashKeyExtractor.parse("query:tenant"));
+        assertThrows(IllegalArgumentException.class, () -> HashKeyExtractor.parse("path:zero"));
+        assertThrows(IllegalArgumentException.class, () -> HashKeyExtractor.parse("path:0"));
+    }
+
+    @Test
+    void header() {
+        Headers headers = new Headers();
+        headers.add("X-Tenant", "acme");
+
+        assertThat(HashKeyExtractor.parse("header:X-Tenant").extract(request("/a", headers)))
+                .isEqualTo("acme");
+        assertThat(HashKeyExtractor.parse("header:X-Other").extract(request("/a", headers)))
+                .isNull();
+    }
+
+    @Test
+    void cookie() {
+        Headers headers = new Headers();
+        headers.add("Cookie", "session=abc123; other=1");
+
+        assertThat(HashKeyExtractor.parse("cookie:session").extract(request("/a", headers)))
+                .isEqualTo("abc123");
+    }
+
+    @Test
+    void pathPrefix() {
+        HashKeyExtractor extractor = HashKeyExtractor.parse("path:2");
+
+        assertThat(extractor.extract(request("/videos/123/thumbnail", new Headers())))
+                .isEqualTo("/videos/123");
+        assertThat(extractor.extract(request("/videos/123", new Headers()))).isEqualTo("/videos/123");
+        assertThat(extractor.extract(request("/videos", new Headers()))).isEqualTo("/videos");
+    }
+
+    private static HttpRequestMessage request(String path, Headers headers) {
+        return new HttpRequestMessageImpl(
+                new SessionContext(),
+                "HTTP/1.1",
+                "GET",
+                path,
+                new HttpQueryParams(),
+                headers,
+                "127.0.0.1",
+                "http",
+                7001,
+                "localhost");
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.zuul.origins;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.netflix.client.config.DefaultClientConfigImpl;
+import com.netflix.zuul.discovery.DiscoveryResult;
+import com.netflix.zuul.resolver.ResolverListener;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class StaticServerResolverTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void parsesServerList() {
+        List<StaticServerResolver.ServerEntry> entries =
+                StaticServerResolver.parseServerList("10.0.0.1:7001, origin.example.com:8080");
+
+        assertThat(entries)
+                .containsExactly(
+                        new StaticServerResolver.ServerEntry("10.0.0.1", 7001, null),
+                        new StaticServerResolver.ServerEntry("origin.example.com", 8080, null))
+                .inOrder();
+        assertThrows(IllegalArgumentException.class, () -> StaticServerResolver.parseServerList("10.0.0.1"));
+    }
+
+    @Test
+    void enabledByConfig() {
+        DefaultClientConfigImpl clientConfig = new DefaultClientConfigImpl();
+        assertThat(StaticServerResolver.isEnabled(clientConfig)).isFalse();
+
+        clientConfig.set(StaticServerResolver.SERVER_LIST, "10.0.0.1:7001");
+        assertThat(StaticServerResolver.isEnabled(clientConfig)).isTrue();
+    }
+
+    @Test
+    void resolvesServersInTurn() {
+        StaticServerResolver resolver = new StaticServerResolver(
+                "origin", StaticServerResolver.parseServerList("10.0.0.1:7001,10.0.0.2:7001"));
+
+        DiscoveryResult first = resolver.resolve(null);
+        DiscoveryResult second = resolver.resolve(null);
+
+        assertThat(resolver.hasServers()).isTrue();
+        assertThat(first).isNotEqualTo(second);
+        assertThat(resolver.resolve(null)).isSameInstanceAs(first);
+        assertThat(first.getIPAddr()).hasValue(first.getHost());
+    }
+
+    @Test
+    void fileChangesAreDiffed() throws IOException {
+        Path file = tempDir.resolve("servers.json");
+        write(file, "[{\"host\": \"10.0.0.1\", \"port\": 7001}, {\"host\": \"10.0.0.2\", \"port\": 7001}]", 1);
+        StaticServerResolver resolver = new StaticServerResolver("origin", file, Duration.ofHours(1));
+        RecordingListener listener = new RecordingListener();
+        resolver.setListener(listener);
+        DiscoveryResult kept = resolver.getServers().get(0);
+
+        write(
+                file,
+                "[{\"host\": \"10.0.0.1\", \"port\": 7001}, {\"host\": \"10.0.0.3\", \"port\": 7001, \"zone\": \"b\"}]",
+                2);
+        resolver.reload();
+
+        assertThat(resolver.getServers()).hasSize(2);
+        assertThat(resolver.getServers().get(0)).isSameInstanceAs(kept);
+        assertThat(listener.added).hasSize(1);
+        assertThat(listener.added.get(0).getHost()).isEqualTo("10.0.0.3");
+        assertThat(listener.added.get(0).getZone()).isEqualTo("b");
+        assertThat(listener.removed).hasSize(1);
+        assertThat(listener.removed.get(0).getHost()).isEqualTo("10.0.0.2");
+        resolver.shutdown();
+    }
+
+    @Test
+    void brokenFileKeepsServers() throws IOException {
+        Path file = tempDir.resolve("servers.json");
+        write(file, "[{\"host\": \"10.0.0.1\", \"port\": 7001}]", 1);
+        StaticServerResolver resolver = new StaticServerResolver("origin", file, Duration.ofHours(1));
+
+        write(file, "[{\"host\": \"10.0.0.2\", \"po", 2);
+        resolver.reload();
+
+        assertThat(resolver.getServers()).hasSize(1);
+        assertThat(resolver.getServers().get(0).getHost()).isEqualTo("10.0.0.1");
+        resolver.shutdown();
+    }
+
+    private static void write(Path file, String content, long modifiedSeconds) throws IOException {
+        Files.writeString(file, content);
+        // Don't rely on the file system's timestamp resolution to tell the versions apart.
+        Files.setLastModifiedTime(file, FileTime.fromMillis(modifiedSeconds * 1000));
+    }
+
+    private static final class RecordingListener implements ResolverListener<DiscoveryResult> {
+
+        private final List<DiscoveryResult> added = new ArrayList<>();
+        private final List<DiscoveryResult> removed = new ArrayList<>();
+
+        @Override
+        public void onServersAdded(List<DiscoveryResult> addedSet) {
+            added.addAll(addedSet);
+        }
+
+        @Override
+        public void onChange(List<DiscoveryResult> removedSet) {
+            removed.addAll(removedSet);
+        }
+    }
+}
@@ -0,0 +1,251 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.zuul.discovery;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import com.netflix.client.config.CommonClientConfigKey;
+import com.netflix.client.config.IClientConfig;
+import com.netflix.client.config.IClientConfigKey;
+import com.netflix.loadbalancer.DynamicServerListLoadBalancer;
+import com.netflix.loadbalancer.Server;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+
+/**
+ * Maps each key passed to {@link #resolve(Object)} to the same server for as long as that server is in discovery, so
+ * that origins with local caches see the same keys.  Servers are placed on a hash ring at {@link #VIRTUAL_NODES}
+ * points each, and a key goes to the first server clockwise from its hash.
+ *
+ * <p>Loads are bounded as in "Consistent Hashing with Bounded Loads" (Mirrokni et al.): a server with more requests in
+ * flight than {@link #LOAD_FACTOR_PERCENT} percent of the average is skipped, and so is one whose circuit breaker has
+ * tripped or that was ejected as an outlier, so that a hot key moves on to the next server rather than overloading
+ * its own.  The average is refreshed at most every 10ms, so the cost of looking at all servers isn't paid on every
+ * request.
+ *
+ * <p>When the server list changes, only the servers that joined are hashed, and merged into the existing ring.  While
+ * they slow start (see {@link #SLOW_START_WINDOW_MS}), their keys only move to them with a probability of their
+ * weight, and otherwise carry on to the next server.
+ * Requests without a key are spread at random.
+ */
+public class ConsistentHashServerResolver extends DynamicServerResolver {
+
+    public static final IClientConfigKey<Boolean> ENABLED = new CommonClientConfigKey<>("ConsistentHashEnabled") {};
+
+    /**
+     * What to hash requests by.  This is read by the origin, which passes the key to {@link #resolve(Object)}.
+     */
+    public static final IClientConfigKey<String> HASH_KEY = new CommonClientConfigKey<>("ConsistentHashKey") {};
+
+    public static final IClientConfigKey<Integer> VIRTUAL_NODES =
+            new CommonClientConfigKey<>("ConsistentHashVirtualNodes") {};
+
+    public static final IClientConfigKey<Integer> LOAD_FACTOR_PERCENT =
+            new CommonClientConfigKey<>("ConsistentHashLoadFactorPercent") {};
+
+    private static final int DEFAULT_VIRTUAL_NODES = 100;
+    private static final int DEFAULT_LOAD_FACTOR_PERCENT = 125;
+    private static final long CAPACITY_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private static final HashFunction HASH = Hashing.murmur3_128();
+    private static final Ring EMPTY_RING = new Ring(new long[0], new DiscoveryResult[0], new DiscoveryResult[0]);
+
+    private final int virtualNodes;
+    private final int loadFactorPercent;
+
+    private volatile Ring ring = EMPTY_RING;
+
+    private volatile long capacity = Long.MAX_VALUE;
+    private volatile long nextCapacityNanos;
+
+    public ConsistentHashServerResolver(IClientConfig clientConfig) {
+        this(
+                createLoadBalancer(clientConfig),
+                clientConfig.get(VIRTUAL_NODES, DEFAULT_VIRTUAL_NODES),
+                clientConfig.get(LOAD_FACTOR_PERCENT, DEFAULT_LOAD_FACTOR_PERCENT));
+        configureSlowStart(clientConfig);
+    }
+
+    public ConsistentHashServerResolver(
+            DynamicServerListLoadBalancer<?> loadBalancer, int virtualNodes, int loadFactorPercent) {
+        super(loadBalancer);
+        this.virtualNodes = Math.max(1, virtualNodes);
+        this.loadFactorPercent = Math.max(100, loadFactorPercent);
+        // As for P2CServerResolver, the new list is taken as is, since the load balancer hasn't applied it yet.
+        loadBalancer.addServerListChangeListener((oldList, newList) -> refreshServers(newList));
+        loadBalancer.addServerStatusChangeListener(changed -> refreshServers(loadBalancer.getReachableServers()));
+        refreshServers(loadBalancer.getReachableServers());
+    }
+
+    /**
+     * Whether the given origin is configured to use this rather than {@link DynamicServerResolver}.
+     */
+    public static boolean isEnabled(IClientConfig clientConfig) {
+        return clientConfig.get(ENABLED, false);
+    }
+
+    @Override
+    public DiscoveryResult resolve(@Nullable Object key) {
+        Ring ring = this.ring;
+        DiscoveryResult[] owners = ring.owners();
+        if (owners.length == 0) {
+            return DiscoveryResult.EMPTY;
+        }
+        if (key == null) {
+            return owners[ThreadLocalRandom.current().nextInt(owners.length)];
+        }
+
+        long now = System.nanoTime();
+        if (now - nextCapacityNanos >= 0) {
+            nextCapacityNanos = now + CAPACITY_INTERVAL_NANOS;
+            capacity = computeCapacity(ring);
+        }
+        long limit = capacity;
+
+        int start = Arrays.binarySearch(ring.points(), hash(key.toString()));
+        if (start < 0) {
+            start = -start - 1;
+        }
+        for (int i = 0; i < owners.length; i++) {
+            DiscoveryResult candidate = owners[(start + i) % owners.length];
+            if (!candidate.isCircuitBreakerTripped()
+                    && !candidate.isEjected()
+                    && candidate.getActiveRequestsCount() < limit
+                    && admitSlowStart(candidate)) {
+                return candidate;
+            }
+        }
+        // Everything is over capacity, which the load snapshot being stale can cause.
+        return owners[start % owners.length];
+    }
+
+    @Override
+    public boolean hasServers() {
+        return ring.servers().length > 0;
+    }
+
+    @Override
+    public List<DiscoveryResult> getServers() {
+        return List.of(ring.servers());
+    }
+
+    @VisibleForTesting
+    void updateCapacity() {
+        capacity = computeCapacity(ring);
+    }
+
+    /**
+     * The most requests a server may have in flight and still be given a new one: the load factor times the average,
+     * counting the request being placed, rounded up.
+     */
+    private long computeCapacity(Ring ring) {
+        DiscoveryResult[] servers = ring.servers();
+        if (servers.length == 0) {
+            return Long.MAX_VALUE;
+        }
+        long active = 1;
+        for (DiscoveryResult server : servers) {
+            active += server.getActiveRequestsCount();
+        }
+        long scaled = active * loadFactorPercent;
+        long divisor = 100L * servers.length;
+        return (scaled + divisor - 1) / divisor;
+    }
+
+    /**
+     * Synchronized so that concurrent list and status updates are merged one at a time.
+     */
+    @VisibleForTesting
+    synchronized void refreshServers(List<? extends Server> reachable) {
+        Ring old = ring;
+        Map<DiscoveryResult, DiscoveryResult> current = new HashMap<>();
+        for (Server server : reachable) {
+            DiscoveryResult result = resultFor(server);
+            current.put(result, result);
+        }
+
+        Set<DiscoveryResult> previous = new HashSet<>(Arrays.asList(old.servers()));
+        List<DiscoveryResult> added = new ArrayList<>();
+        for (DiscoveryResult server : current.keySet()) {
+            if (!previous.contains(server)) {
+                added.add(server);
+            }
+        }
+        int kept = current.size() - added.size();
+        if (added.isEmpty() && kept == previous.size()) {
+            return;
+        }
+
+        List<Point> addedPoints = new ArrayList<>(added.size() * virtualNodes);
+        for (DiscoveryResult server : added) {
+            String id = server.getServer().getId();
+            for (int i = 0; i < virtualNodes; i++) {
+                addedPoints.add(new Point(hash(id + "-" + i), server));
+            }
+        }
+        addedPoints.sort(Comparator.comparingLong(Point::hash));
+
+        // Merge the surviving points, which are already sorted, with those of the servers that joined.
+        long[] oldPoints = old.points();
+        DiscoveryResult[] oldOwners = old.owners();
+        int size = kept * virtualNodes + addedPoints.size();
+        long[] points = new long[size];
+        DiscoveryResult[] owners = new DiscoveryResult[size];
+        int i = 0;
+        int j = 0;
+        int n = 0;
+        while (n < size) {
+            DiscoveryResult survivor = null;
+            while (i < oldPoints.length && (survivor = current.get(oldOwners[i])) == null) {
+                i++;
+            }
+            if (survivor != null && (j == addedPoints.size() || oldPoints[i] <= addedPoints.get(j).hash())) {
+                points[n] = oldPoints[i++];
+                owners[n++] = survivor;
+            } else {
+                Point point = addedPoints.get(j++);
+                points[n] = point.hash();
+                owners[n++] = point.owner();
+            }
+        }
+
+        ring = new Ring(points, owners, current.values().toArray(new DiscoveryResult[0]));
+        capacity = computeCapacity(ring);
+    }
+
+    private static long hash(String value) {
+        return HASH.hashString(value, StandardCharsets.UTF_8).asLong();
+    }
+
+    /**
+     * {@code points} is sorted, and {@code owners} holds the server at each point.
+     */
+    private record Ring(long[] points, DiscoveryResult[] owners, DiscoveryResult[] servers) {}
+
+    private record Point(long hash, DiscoveryResult owner) {}
+}
@@ -38,6 +38,14 @@ public final class DiscoveryResult implements ResolverResult {
 
     private final DiscoveryEnabledServer server;
     private final ServerStats serverStats;
+
+    private final OutlierStats outlierStats = new OutlierStats();
+
+    @Nullable private volatile Object attachment;
+
+    // When the resolver first saw this server, if it is still being ramped in, otherwise 0.
+    private volatile long slowStartSinceNanos;
+
     /**
      * This exists to allow for a semblance of type safety, and encourages avoiding null checks on the underlying Server,
      * thus representing a sentinel value for an empty resolution result.
@@ -151,6 +159,19 @@ public final class DiscoveryResult implements ResolverResult {
         return server;
     }
 
+    /**
+     * State that the user of this result keeps per server, such as its connection pool.  Resolvers hand out the same
+     * instance for a server for as long as it stays in their server list, so this saves looking it up by server on
+     * every request.  Cleared by the user when the server goes away.
+     */
+    @Nullable public Object getAttachment() {
+        return attachment;
+    }
+
+    public void setAttachment(@Nullable Object attachment) {
+        this.attachment = attachment;
+    }
+
     @VisibleForTesting
     ServerStats getServerStats() {
         return this.serverStats;
@@ -168,10 +189,49 @@ public final class DiscoveryResult implements ResolverResult {
         serverStats.noteResponseTime(msecs);
     }
 
+    /**
+     * Mean response time in ms over the stats' most recent publishing interval, or 0 if there were no responses.
+     */
+    public double getRecentResponseTimeAvg() {
+        return serverStats.getResponseTimeAvgRecent();
+    }
+
     public boolean isCircuitBreakerTripped() {
         return serverStats.isCircuitBreakerTripped();
     }
 
+    public OutlierStats getOutlierStats() {
+        return outlierStats;
+    }
+
+    /**
+     * Whether an {@link OutlierDetector} has taken this server out of rotation for now.
+     */
+    public boolean isEjected() {
+        return outlierStats.isEjected();
+    }
+
+    /**
+     * Whether a resolver is still ramping traffic up to this server after it was added, see
+     * {@link DynamicServerResolver#SLOW_START_WINDOW_MS}.
+     */
+    public boolean isSlowStarting() {
+        return slowStartSinceNanos != 0;
+    }
+
+    long getSlowStartSinceNanos() {
+        return slowStartSinceNanos;
+    }
+
+    void startSlowStart(long nowNanos) {
+        // 0 means not slow starting, so avoid it in the unlikely case that the clock reads exactly 0.
+        slowStartSinceNanos = nowNanos != 0 ? nowNanos : 1;
+    }
+
+    void endSlowStart() {
+        slowStartSinceNanos = 0;
+    }
+
     public void incrementActiveRequestsCount() {
         serverStats.incrementActiveRequestsCount();
     }
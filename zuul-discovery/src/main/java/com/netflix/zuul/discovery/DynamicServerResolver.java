@@ -21,15 +21,21 @@ import com.google.common.base.Throwables;
 import com.google.common.collect.Sets;
 import com.netflix.client.config.CommonClientConfigKey;
 import com.netflix.client.config.IClientConfig;
+import com.netflix.client.config.IClientConfigKey;
 import com.netflix.loadbalancer.DynamicServerListLoadBalancer;
 import com.netflix.loadbalancer.Server;
 import com.netflix.niws.loadbalancer.DiscoveryEnabledServer;
 import com.netflix.zuul.resolver.Resolver;
 import com.netflix.zuul.resolver.ResolverListener;
+import com.netflix.zuul.resolver.ServerSetDiff;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 import org.slf4j.Logger;
@@ -45,22 +51,56 @@ public class DynamicServerResolver implements Resolver<DiscoveryResult> {
 
     private static final Logger LOG = LoggerFactory.getLogger(DynamicServerResolver.class);
 
+    /**
+     * How long, in ms, to ramp traffic up to a server that is added to the list, e.g. when the origin scales out, so
+     * that it isn't sent its full share while it is still cold.  Its weight grows linearly from
+     * {@link #SLOW_START_MIN_WEIGHT_PERCENT} to 1 over the window.  Connection pools for added servers are warmed up by
+     * the channel manager at the same time, so the ramp also covers opening those connections.  Servers that are
+     * already there when the resolver is created, or when the list was empty, are not ramped.  Off (0) by default.
+     */
+    public static final IClientConfigKey<Integer> SLOW_START_WINDOW_MS =
+            new CommonClientConfigKey<>("SlowStartWindowMs") {};
+
+    public static final IClientConfigKey<Integer> SLOW_START_MIN_WEIGHT_PERCENT =
+            new CommonClientConfigKey<>("SlowStartMinWeightPercent") {};
+
+    private static final int DEFAULT_SLOW_START_MIN_WEIGHT_PERCENT = 10;
+
+    private static final int MAX_CHOOSE_ATTEMPTS = 3;
+
     private final DynamicServerListLoadBalancer<?> loadBalancer;
-    private ResolverListener<DiscoveryResult> listener;
+    private volatile ResolverListener<DiscoveryResult> listener;
+
+    // Guarded by this, as are updates to the results.
+    private long version;
+
+    /**
+     * One result per server in the load balancer's list, so that callers can rely on getting the same instance for a
+     * server (see {@link DiscoveryResult#getAttachment()}), and so that resolving doesn't allocate.
+     */
+    private final ConcurrentHashMap<Server, DiscoveryResult> results = new ConcurrentHashMap<>();
+
+    // 0 when slow start is off.
+    private volatile long slowStartWindowNanos;
+    private volatile double slowStartMinWeight = DEFAULT_SLOW_START_MIN_WEIGHT_PERCENT / 100.0;
 
     @Deprecated
     public DynamicServerResolver(IClientConfig clientConfig, ResolverListener<DiscoveryResult> listener) {
-        this.loadBalancer = createLoadBalancer(clientConfig);
-        this.loadBalancer.addServerListChangeListener(this::onUpdate);
+        this(clientConfig);
         this.listener = listener;
     }
 
     public DynamicServerResolver(IClientConfig clientConfig) {
         this(createLoadBalancer(clientConfig));
+        configureSlowStart(clientConfig);
     }
 
     public DynamicServerResolver(DynamicServerListLoadBalancer<?> loadBalancer) {
         this.loadBalancer = Objects.requireNonNull(loadBalancer);
+        for (Server server : loadBalancer.getAllServers()) {
+            results.computeIfAbsent(server, this::newResult);
+        }
+        this.loadBalancer.addServerListChangeListener(this::onUpdate);
     }
 
     @Override
@@ -71,15 +111,24 @@ public class DynamicServerResolver implements Resolver<DiscoveryResult> {
         }
 
         this.listener = Objects.requireNonNull(listener);
-        this.loadBalancer.addServerListChangeListener(this::onUpdate);
     }
 
     @Override
     public DiscoveryResult resolve(@Nullable Object key) {
-        Server server = loadBalancer.chooseServer(key);
-        return server != null
-                ? new DiscoveryResult((DiscoveryEnabledServer) server, loadBalancer.getLoadBalancerStats())
-                : DiscoveryResult.EMPTY;
+        DiscoveryResult result = DiscoveryResult.EMPTY;
+        // The load balancer's rule doesn't know about outlier ejection or slow start, so ask again a few times if it
+        // picks an ejected server, or a ramping one that loses the draw, rather than take it out of the list.
+        for (int i = 0; i < MAX_CHOOSE_ATTEMPTS; i++) {
+            Server server = loadBalancer.chooseServer(key);
+            if (server == null) {
+                break;
+            }
+            result = resultFor(server);
+            if (!result.isEjected() && admitSlowStart(result)) {
+                break;
+            }
+        }
+        return result;
     }
 
     @Override
@@ -87,12 +136,80 @@ public class DynamicServerResolver implements Resolver<DiscoveryResult> {
         return !loadBalancer.getReachableServers().isEmpty();
     }
 
+    @Override
+    public List<DiscoveryResult> getServers() {
+        return loadBalancer.getReachableServers().stream()
+                .map(this::resultFor)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public void shutdown() {
         loadBalancer.shutdown();
     }
 
-    private static DynamicServerListLoadBalancer<?> createLoadBalancer(IClientConfig clientConfig) {
+    protected DynamicServerListLoadBalancer<?> getLoadBalancer() {
+        return loadBalancer;
+    }
+
+    /**
+     * Reads the slow start settings, see {@link #SLOW_START_WINDOW_MS}.
+     */
+    protected final void configureSlowStart(IClientConfig clientConfig) {
+        setSlowStart(
+                clientConfig.get(SLOW_START_WINDOW_MS, 0),
+                clientConfig.get(SLOW_START_MIN_WEIGHT_PERCENT, DEFAULT_SLOW_START_MIN_WEIGHT_PERCENT));
+    }
+
+    @VisibleForTesting
+    void setSlowStart(int windowMs, int minWeightPercent) {
+        slowStartMinWeight = Math.min(100, Math.max(1, minWeightPercent)) / 100.0;
+        slowStartWindowNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, windowMs));
+    }
+
+    /**
+     * How much of its full share of traffic the given server should get, between the minimum weight and 1.  Only
+     * servers that were added within the slow start window get less than 1.
+     */
+    protected double slowStartWeight(DiscoveryResult server) {
+        long since = server.getSlowStartSinceNanos();
+        if (since == 0) {
+            return 1;
+        }
+        long window = slowStartWindowNanos;
+        long elapsed = System.nanoTime() - since;
+        if (window == 0 || elapsed >= window) {
+            server.endSlowStart();
+            return 1;
+        }
+        return Math.max(slowStartMinWeight, elapsed / (double) window);
+    }
+
+    /**
+     * Whether to use a server the selection landed on, with a probability of its {@link #slowStartWeight}.
+     */
+    protected boolean admitSlowStart(DiscoveryResult server) {
+        if (!server.isSlowStarting()) {
+            return true;
+        }
+        double weight = slowStartWeight(server);
+        return weight >= 1 || ThreadLocalRandom.current().nextDouble() < weight;
+    }
+
+    /**
+     * Returns the cached result for the given server.  A server that has just left the list (e.g. chosen by a request
+     * racing with its removal) gets a new result, which isn't cached so that it can't outlive the server.
+     */
+    protected DiscoveryResult resultFor(Server server) {
+        DiscoveryResult result = results.get(server);
+        return result != null ? result : newResult(server);
+    }
+
+    private DiscoveryResult newResult(Server server) {
+        return new DiscoveryResult((DiscoveryEnabledServer) server, loadBalancer.getLoadBalancerStats());
+    }
+
+    static DynamicServerListLoadBalancer<?> createLoadBalancer(IClientConfig clientConfig) {
         // TODO(argha-c): Revisit this style of LB initialization post modularization. Ideally the LB should be
         // pluggable.
 
@@ -115,14 +232,84 @@ public class DynamicServerResolver implements Resolver<DiscoveryResult> {
         return lb;
     }
 
+    /**
+     * Publishes the difference between the load balancer's old and new lists as one update, in one pass over each.
+     * Servers in both lists are also compared with their cached results, to replace those whose metadata changed.
+     */
     @VisibleForTesting
-    void onUpdate(List<Server> oldList, List<Server> newList) {
+    synchronized void onUpdate(List<Server> oldList, List<Server> newList) {
         Set<Server> oldSet = new HashSet<>(oldList);
-        Set<Server> newSet = new HashSet<>(newList);
-        List<DiscoveryResult> discoveryResults = Sets.difference(oldSet, newSet).stream()
-                .map(server ->
-                        new DiscoveryResult((DiscoveryEnabledServer) server, loadBalancer.getLoadBalancerStats()))
-                .collect(Collectors.toList());
-        listener.onChange(discoveryResults);
+        // Ramping servers in only makes sense if there are others to take the rest of the traffic.
+        boolean slowStart = slowStartWindowNanos != 0 && !oldSet.isEmpty();
+        long now = slowStart ? System.nanoTime() : 0;
+
+        Set<Server> newSet = Sets.newHashSetWithExpectedSize(newList.size());
+        List<DiscoveryResult> added = new ArrayList<>();
+        List<DiscoveryResult> removed = new ArrayList<>();
+        List<DiscoveryResult> changed = new ArrayList<>();
+        for (Server server : newList) {
+            if (!newSet.add(server)) {
+                continue;
+            }
+            if (!oldSet.contains(server)) {
+                DiscoveryResult result = results.computeIfAbsent(server, this::newResult);
+                if (slowStart) {
+                    result.startSlowStart(now);
+                }
+                added.add(result);
+                continue;
+            }
+            DiscoveryResult previous = results.get(server);
+            if (previous != null && isChanged(previous.getServer(), server)) {
+                // Replace the key as well, so that the map doesn't hold on to the stale server.
+                DiscoveryResult result = newResult(server);
+                results.remove(server);
+                results.put(server, result);
+                removed.add(previous);
+                added.add(result);
+                changed.add(result);
+            }
+        }
+        for (Server server : oldSet) {
+            if (!newSet.contains(server)) {
+                DiscoveryResult result = results.remove(server);
+                removed.add(result != null ? result : newResult(server));
+            }
+        }
+        if (added.isEmpty() && removed.isEmpty()) {
+            return;
+        }
+
+        // Bumped even if a subclass narrows the diff down to nothing, so that versions follow the load balancer's list.
+        version++;
+        ServerSetDiff<DiscoveryResult> diff =
+                onServerListChanged(newList, new ServerSetDiff<>(version, added, removed, changed));
+        ResolverListener<DiscoveryResult> listener = this.listener;
+        if (listener != null && !diff.isEmpty()) {
+            listener.onUpdate(diff);
+        }
+    }
+
+    /**
+     * Called with the load balancer's new list once the cached results are up to date, but before the listener hears
+     * of the change, so that subclasses can refresh their own view of the servers first.  Returns the diff to publish,
+     * which subclasses that only use some of the servers may narrow down to those.
+     */
+    protected ServerSetDiff<DiscoveryResult> onServerListChanged(
+            List<Server> newList, ServerSetDiff<DiscoveryResult> diff) {
+        return diff;
+    }
+
+    /**
+     * Whether a server that is still in the list moved, in a way that connections or zone affinity care about.
+     */
+    private static boolean isChanged(DiscoveryEnabledServer previous, Server current) {
+        if (!Objects.equals(previous.getZone(), current.getZone())) {
+            return true;
+        }
+        return current instanceof DiscoveryEnabledServer discoveryServer
+                && !Objects.equals(
+                        previous.getInstanceInfo().getIPAddr(),
+                        discoveryServer.getInstanceInfo().getIPAddr());
     }
 }
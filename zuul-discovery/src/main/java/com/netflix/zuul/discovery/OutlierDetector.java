@@ -0,0 +1,269 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.zuul.discovery;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.netflix.client.config.CommonClientConfigKey;
+import com.netflix.client.config.IClientConfig;
+import com.netflix.client.config.IClientConfigKey;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Takes servers that fail while still passing health checks out of rotation, based on the responses Zuul gets from
+ * them rather than on connection failures alone.  A server is ejected when:
+ *
+ * <ul>
+ *   <li>it returns {@link #CONSECUTIVE_5XX} server errors in a row, or
+ *   <li>over an interval of {@link #INTERVAL_MS}, its success rate is more than {@link #SUCCESS_RATE_STDEV_PERCENT}
+ *       percent of a standard deviation below the mean of all servers, or its mean latency more than
+ *       {@link #LATENCY_STDEV_PERCENT} percent of one above.  Only servers with at least {@link #MIN_REQUESTS} requests
+ *       in the interval are compared, and only if there are at least 5 of them.
+ * </ul>
+ *
+ * <p>Each time a server is ejected, it is kept out for longer: {@link #BASE_EJECTION_MS}, doubled for each recent
+ * ejection, up to {@link #MAX_EJECTION_MS}.  Every interval a server isn't ejected works one ejection off.  No more
+ * than {@link #MAX_EJECTION_PERCENT} percent of servers are ejected at once.
+ *
+ * <p>Resolvers skip ejected servers when choosing (see {@link DiscoveryResult#isEjected()}), so an ejection ends on its
+ * own without the server lists being rebuilt.  The interval's statistics are computed by whichever request first
+ * finds the interval over, rather than on a timer.
+ */
+public class OutlierDetector {
+
+    private static final Logger LOG = LoggerFactory.getLogger(OutlierDetector.class);
+
+    public static final IClientConfigKey<Boolean> ENABLED = new CommonClientConfigKey<>("OutlierDetectionEnabled") {};
+
+    public static final IClientConfigKey<Integer> CONSECUTIVE_5XX =
+            new CommonClientConfigKey<>("OutlierConsecutive5xx") {};
+
+    public static final IClientConfigKey<Integer> INTERVAL_MS = new CommonClientConfigKey<>("OutlierIntervalMs") {};
+
+    public static final IClientConfigKey<Integer> BASE_EJECTION_MS =
+            new CommonClientConfigKey<>("OutlierBaseEjectionMs") {};
+
+    public static final IClientConfigKey<Integer> MAX_EJECTION_MS =
+            new CommonClientConfigKey<>("OutlierMaxEjectionMs") {};
+
+    public static final IClientConfigKey<Integer> MAX_EJECTION_PERCENT =
+            new CommonClientConfigKey<>("OutlierMaxEjectionPercent") {};
+
+    public static final IClientConfigKey<Integer> MIN_REQUESTS = new CommonClientConfigKey<>("OutlierMinRequests") {};
+
+    public static final IClientConfigKey<Integer> SUCCESS_RATE_STDEV_PERCENT =
+            new CommonClientConfigKey<>("OutlierSuccessRateStdevPercent") {};
+
+    public static final IClientConfigKey<Integer> LATENCY_STDEV_PERCENT =
+            new CommonClientConfigKey<>("OutlierLatencyStdevPercent") {};
+
+    private static final int MIN_SERVERS_COMPARED = 5;
+
+    public enum Reason {
+        CONSECUTIVE_5XX,
+        SUCCESS_RATE,
+        LATENCY
+    }
+
+    private final Supplier<List<DiscoveryResult>> servers;
+
+    private final int consecutive5xx;
+    private final long intervalNanos;
+    private final long baseEjectionNanos;
+    private final long maxEjectionNanos;
+    private final int maxEjectionMultiplier;
+    private final int maxEjectionPercent;
+    private final int minRequests;
+    private final double successRateStdevFactor;
+    private final double latencyStdevFactor;
+
+    private final Map<Reason, LongAdder> ejections = new EnumMap<>(Reason.class);
+    private final AtomicBoolean evaluating = new AtomicBoolean();
+    private volatile long nextEvaluationNanos;
+
+    /**
+     * @param servers the servers to compare against each other, usually those of the origin's resolver.
+     */
+    public OutlierDetector(IClientConfig clientConfig, Supplier<List<DiscoveryResult>> servers) {
+        this.servers = servers;
+        this.consecutive5xx = clientConfig.get(CONSECUTIVE_5XX, 5);
+        this.intervalNanos = TimeUnit.MILLISECONDS.toNanos(clientConfig.get(INTERVAL_MS, 10_000));
+        this.baseEjectionNanos = TimeUnit.MILLISECONDS.toNanos(clientConfig.get(BASE_EJECTION_MS, 30_000));
+        this.maxEjectionNanos = TimeUnit.MILLISECONDS.toNanos(clientConfig.get(MAX_EJECTION_MS, 300_000));
+        this.maxEjectionMultiplier = maxEjectionMultiplier(baseEjectionNanos, maxEjectionNanos);
+        this.maxEjectionPercent = clientConfig.get(MAX_EJECTION_PERCENT, 10);
+        this.minRequests = clientConfig.get(MIN_REQUESTS, 100);
+        this.successRateStdevFactor = clientConfig.get(SUCCESS_RATE_STDEV_PERCENT, 190) / 100.0;
+        this.latencyStdevFactor = clientConfig.get(LATENCY_STDEV_PERCENT, 300) / 100.0;
+        for (Reason reason : Reason.values()) {
+            ejections.put(reason, new LongAdder());
+        }
+        this.nextEvaluationNanos = System.nanoTime() + intervalNanos;
+    }
+
+    public static boolean isEnabled(IClientConfig clientConfig) {
+        return clientConfig.get(ENABLED, false);
+    }
+
+    /**
+     * Records a response from {@code server}.  Statuses of 500 and above count as failures.
+     */
+    public void onResponse(DiscoveryResult server, int statusCode, long durationMs) {
+        OutlierStats stats = server.getOutlierStats();
+        long now = System.nanoTime();
+        if (statusCode >= 500) {
+            if (stats.onServerError(durationMs) >= consecutive5xx && !stats.isEjected(now)) {
+                eject(server, Reason.CONSECUTIVE_5XX, now, servers.get());
+            }
+        } else {
+            stats.onSuccess(durationMs);
+        }
+
+        if (now - nextEvaluationNanos >= 0 && evaluating.compareAndSet(false, true)) {
+            try {
+                nextEvaluationNanos = now + intervalNanos;
+                evaluate(now);
+            } finally {
+                evaluating.set(false);
+            }
+        }
+    }
+
+    public long getEjections(Reason reason) {
+        return ejections.get(reason).sum();
+    }
+
+    /**
+     * Compares the servers' statistics for the interval that just ended, and starts the next one.
+     */
+    @VisibleForTesting
+    void evaluate(long now) {
+        List<DiscoveryResult> current = servers.get();
+        int count = current.size();
+        double[] successRates = new double[count];
+        double[] latencies = new double[count];
+        boolean[] compared = new boolean[count];
+        int comparedCount = 0;
+        for (int i = 0; i < count; i++) {
+            OutlierStats stats = current.get(i).getOutlierStats();
+            long requests = stats.sumThenResetRequests();
+            long errors = stats.sumThenResetServerErrors();
+            long latencyMs = stats.sumThenResetLatencyMs();
+            if (requests >= minRequests && requests > 0 && !stats.isEjected(now)) {
+                successRates[i] = (requests - errors) / (double) requests;
+                latencies[i] = latencyMs / (double) requests;
+                compared[i] = true;
+                comparedCount++;
+            }
+        }
+
+        boolean[] ejected = new boolean[count];
+        if (comparedCount >= MIN_SERVERS_COMPARED) {
+            double successThreshold = mean(successRates, compared, comparedCount)
+                    - successRateStdevFactor * stdev(successRates, compared, comparedCount);
+            double latencyThreshold = mean(latencies, compared, comparedCount)
+                    + latencyStdevFactor * stdev(latencies, compared, comparedCount);
+            for (int i = 0; i < count; i++) {
+                if (!compared[i]) {
+                    continue;
+                }
+                if (successRates[i] < successThreshold) {
+                    ejected[i] = eject(current.get(i), Reason.SUCCESS_RATE, now, current);
+                } else if (latencies[i] > latencyThreshold) {
+                    ejected[i] = eject(current.get(i), Reason.LATENCY, now, current);
+                }
+            }
+        }
+
+        synchronized (this) {
+            for (int i = 0; i < count; i++) {
+                OutlierStats stats = current.get(i).getOutlierStats();
+                if (!ejected[i] && !stats.isEjected(now)) {
+                    stats.decrementEjectionMultiplier();
+                }
+            }
+        }
+    }
+
+    @VisibleForTesting
+    synchronized boolean eject(DiscoveryResult server, Reason reason, long now, List<DiscoveryResult> current) {
+        OutlierStats stats = server.getOutlierStats();
+        if (stats.isEjected(now)) {
+            return false;
+        }
+        int alreadyEjected = 0;
+        for (DiscoveryResult other : current) {
+            if (other.getOutlierStats().isEjected(now)) {
+                alreadyEjected++;
+            }
+        }
+        if (alreadyEjected * 100 >= maxEjectionPercent * current.size()) {
+            LOG.debug("Not ejecting {} for {}, as {} servers are already ejected", server, reason, alreadyEjected);
+            return false;
+        }
+
+        int multiplier = stats.incrementEjectionMultiplier(maxEjectionMultiplier);
+        long duration = baseEjectionNanos << (multiplier - 1);
+        stats.eject(now + Math.min(duration, maxEjectionNanos));
+        ejections.get(reason).increment();
+        LOG.debug("Ejected {} for {}, {} times recently", server, reason, multiplier);
+        return true;
+    }
+
+    /**
+     * The multiplier at which the ejection time first reaches the max.  The multiplier stops growing there, as a longer
+     * ejection would only be capped anyway, and the shift would eventually overflow.
+     */
+    private static int maxEjectionMultiplier(long baseEjectionNanos, long maxEjectionNanos) {
+        int multiplier = 1;
+        long duration = baseEjectionNanos;
+        while (duration > 0 && duration < maxEjectionNanos && duration <= Long.MAX_VALUE >> 1) {
+            duration <<= 1;
+            multiplier++;
+        }
+        return multiplier;
+    }
+
+    private static double mean(double[] values, boolean[] included, int count) {
+        double sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (included[i]) {
+                sum += values[i];
+            }
+        }
+        return sum / count;
+    }
+
+    private static double stdev(double[] values, boolean[] included, int count) {
+        double mean = mean(values, included, count);
+        double sumOfSquares = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (included[i]) {
+                double delta = values[i] - mean;
+                sumOfSquares += delta * delta;
+            }
+        }
+        return Math.sqrt(sumOfSquares / count);
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.zuul.discovery;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per server counters for {@link OutlierDetector}.  They are updated on the request path without locking, and the
+ * window counters are read and reset by the detector once per interval.
+ */
+public final class OutlierStats {
+
+    private static final AtomicLongFieldUpdater<OutlierStats> EJECTED_UNTIL_NANOS =
+            AtomicLongFieldUpdater.newUpdater(OutlierStats.class, "ejectedUntilNanos");
+
+    private final AtomicInteger consecutiveServerErrors = new AtomicInteger();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder serverErrors = new LongAdder();
+    private final LongAdder latencyMs = new LongAdder();
+
+    // 0 when not ejected.
+    private volatile long ejectedUntilNanos;
+
+    // Only changed by the detector while holding its lock.
+    private int ejectionMultiplier;
+
+    /**
+     * Returns the number of server errors in a row, including this one.
+     */
+    int onServerError(long durationMs) {
+        requests.increment();
+        serverErrors.increment();
+        latencyMs.add(durationMs);
+        return consecutiveServerErrors.incrementAndGet();
+    }
+
+    void onSuccess(long durationMs) {
+        requests.increment();
+        latencyMs.add(durationMs);
+        // Avoid writing to the shared counter on every success.
+        if (consecutiveServerErrors.get() != 0) {
+            consecutiveServerErrors.set(0);
+        }
+    }
+
+    public boolean isEjected() {
+        // Only read the clock for servers that were ejected.
+        return ejectedUntilNanos != 0 && isEjected(System.nanoTime());
+    }
+
+    public boolean isEjected(long nowNanos) {
+        long until = ejectedUntilNanos;
+        if (until == 0) {
+            return false;
+        }
+        if (nowNanos - until < 0) {
+            return true;
+        }
+        // Only clear the ejection that expired, not one the detector may have just set.
+        EJECTED_UNTIL_NANOS.compareAndSet(this, until, 0);
+        return false;
+    }
+
+    public int getConsecutiveServerErrors() {
+        return consecutiveServerErrors.get();
+    }
+
+    void eject(long untilNanos) {
+        ejectedUntilNanos = untilNanos;
+        consecutiveServerErrors.set(0);
+    }
+
+    int incrementEjectionMultiplier(int max) {
+        if (ejectionMultiplier < max) {
+            ejectionMultiplier++;
+        }
+        return ejectionMultiplier;
+    }
+
+    void decrementEjectionMultiplier() {
+        if (ejectionMultiplier > 0) {
+            ejectionMultiplier--;
+        }
+    }
+
+    long sumThenResetRequests() {
+        return requests.sumThenReset();
+    }
+
+    long sumThenResetServerErrors() {
+        return serverErrors.sumThenReset();
+    }
+
+    long sumThenResetLatencyMs() {
+        return latencyMs.sumThenReset();
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.zuul.discovery;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.netflix.client.config.CommonClientConfigKey;
+import com.netflix.client.config.IClientConfig;
+import com.netflix.client.config.IClientConfigKey;
+import com.netflix.loadbalancer.DynamicServerListLoadBalancer;
+import com.netflix.loadbalancer.Server;
+import com.netflix.zuul.resolver.ServerSetDiff;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import javax.annotation.Nullable;
+
+/**
+ * Picks servers by power of two choices: two distinct servers are sampled at random, and the one with fewer requests
+ * in flight (as counted by Zuul itself, see {@link DiscoveryResult#getActiveRequestsCount()}) is used.  Optionally, the
+ * in flight count is weighted by each server's recent mean response time, so that a server that slows down is also
+ * sent less traffic before its requests start piling up.  Servers that were just added are made to look more loaded
+ * while they are slow starting (see {@link #SLOW_START_WINDOW_MS}).
+ *
+ * <p>Discovery and health checks are still left to the Ribbon load balancer, but its rule is not used.  Instead, each
+ * time its list of reachable servers changes, they are copied into an immutable array, which {@link #resolve(Object)}
+ * reads without locking or allocating.
+ *
+ * <p>For large origins, each Zuul node can be limited to its own {@link ServerSubset} of the servers, in which case the
+ * snapshot, {@link #getServers()} and the updates published to the listener only cover that subset, so that
+ * connection pools are only opened to it.  The subset is picked from the load balancer's whole list, and only changes
+ * along with it: a server that is marked down is left out of the snapshot until it is back, rather than replaced.
+ */
+public class P2CServerResolver extends DynamicServerResolver {
+
+    public static final IClientConfigKey<Boolean> ENABLED = new CommonClientConfigKey<>("P2CLoadBalancerEnabled") {};
+
+    public static final IClientConfigKey<Boolean> LATENCY_WEIGHTED =
+            new CommonClientConfigKey<>("P2CLatencyWeighted") {};
+
+    private static final DiscoveryResult[] NO_SERVERS = new DiscoveryResult[0];
+
+    private final boolean latencyWeighted;
+
+    @Nullable private final ServerSubset subset;
+
+    // The servers in the subset, and their results, when subset.  Guarded by this.
+    private Set<Server> members = Set.of();
+    private DiscoveryResult[] memberResults = NO_SERVERS;
+
+    private volatile DiscoveryResult[] servers = NO_SERVERS;
+
+    public P2CServerResolver(IClientConfig clientConfig) {
+        this(
+                createLoadBalancer(clientConfig),
+                clientConfig.get(LATENCY_WEIGHTED, false),
+                ServerSubset.from(clientConfig));
+        configureSlowStart(clientConfig);
+    }
+
+    public P2CServerResolver(DynamicServerListLoadBalancer<?> loadBalancer, boolean latencyWeighted) {
+        this(loadBalancer, latencyWeighted, null);
+    }
+
+    public P2CServerResolver(
+            DynamicServerListLoadBalancer<?> loadBalancer, boolean latencyWeighted, @Nullable ServerSubset subset) {
+        super(loadBalancer);
+        this.latencyWeighted = latencyWeighted;
+        this.subset = subset;
+        if (subset != null) {
+            updateMembers(loadBalancer.getAllServers());
+        }
+        loadBalancer.addServerStatusChangeListener(changed -> refreshServers(loadBalancer.getReachableServers()));
+        refreshServers(loadBalancer.getReachableServers());
+    }
+
+    /**
+     * Whether the given origin is configured to use this rather than {@link DynamicServerResolver}.  Subset origins
+     * always are, as the load balancer's rule can't be limited to a subset.
+     */
+    public static boolean isEnabled(IClientConfig clientConfig) {
+        return clientConfig.get(ENABLED, false) || ServerSubset.isEnabled(clientConfig);
+    }
+
+    @Override
+    public DiscoveryResult resolve(@Nullable Object key) {
+        return choose(servers);
+    }
+
+    /**
+     * Picks the less loaded of two distinct servers sampled from {@code candidates}.
+     */
+    protected DiscoveryResult choose(DiscoveryResult[] candidates) {
+        int count = candidates.length;
+        if (count == 0) {
+            return DiscoveryResult.EMPTY;
+        }
+        if (count == 1) {
+            return candidates[0];
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(count);
+        int second = random.nextInt(count - 1);
+        if (second >= first) {
+            second++;
+        }
+        DiscoveryResult a = candidates[first];
+        DiscoveryResult b = candidates[second];
+        return load(a) <= load(b) ? a : b;
+    }
+
+    @Override
+    public boolean hasServers() {
+        return servers.length > 0;
+    }
+
+    @Override
+    public List<DiscoveryResult> getServers() {
+        return List.of(servers);
+    }
+
+    @VisibleForTesting
+    double load(DiscoveryResult server) {
+        if (server.isCircuitBreakerTripped() || server.isEjected()) {
+            return Double.MAX_VALUE;
+        }
+        // Count the request being placed, so that idle servers can still be told apart by latency.
+        double load = server.getActiveRequestsCount() + 1;
+        if (latencyWeighted) {
+            load *= Math.max(1, server.getRecentResponseTimeAvg());
+        }
+        if (server.isSlowStarting()) {
+            // A server at a tenth of its weight looks ten times as loaded, so it mostly wins against idle servers.
+            load /= slowStartWeight(server);
+        }
+        return load;
+    }
+
+    /**
+     * Replaces the snapshot of servers to choose from with those of the given ones that are in the subset, if any.
+     * Synchronized so that concurrent list and status updates can't publish snapshots out of order.
+     */
+    @VisibleForTesting
+    synchronized void refreshServers(List<? extends Server> reachable) {
+        List<DiscoveryResult> snapshot = new ArrayList<>(subset != null ? members.size() : reachable.size());
+        for (Server server : reachable) {
+            if (subset == null || members.contains(server)) {
+                snapshot.add(resultFor(server));
+            }
+        }
+        servers = snapshot.toArray(NO_SERVERS);
+    }
+
+    @Nullable protected final ServerSubset getSubset() {
+        return subset;
+    }
+
+    /**
+     * Picks this node's subset of the load balancer's whole list.  Only called if the origin is subset.
+     */
+    protected List<? extends Server> subset(List<? extends Server> allServers) {
+        return subset.select(allServers);
+    }
+
+    private synchronized void updateMembers(List<? extends Server> allServers) {
+        List<? extends Server> selected = subset(allServers);
+        DiscoveryResult[] results = new DiscoveryResult[selected.size()];
+        for (int i = 0; i < results.length; i++) {
+            results[i] = resultFor(selected.get(i));
+        }
+        members = new HashSet<>(selected);
+        memberResults = results;
+    }
+
+    @Override
+    protected synchronized ServerSetDiff<DiscoveryResult> onServerListChanged(
+            List<Server> newList, ServerSetDiff<DiscoveryResult> diff) {
+        if (subset == null) {
+            // List changes are notified before the load balancer's own reachable list is updated, so take the new list
+            // as is.  Discovery based server lists only include servers that are up anyway.
+            refreshServers(newList);
+            return diff;
+        }
+        DiscoveryResult[] previous = memberResults;
+        updateMembers(newList);
+        refreshServers(newList);
+        return subsetDiff(previous, memberResults, diff);
+    }
+
+    /**
+     * Narrows a diff of the whole list down to the subset.  A server that takes the place of one that left is added,
+     * and one that is pushed out of the subset is removed, even though both were in the list all along.  Servers that
+     * left the list are removed whether or not they were in the subset, in case a racing request used them.
+     */
+    private static ServerSetDiff<DiscoveryResult> subsetDiff(
+            DiscoveryResult[] previous, DiscoveryResult[] current, ServerSetDiff<DiscoveryResult> diff) {
+        // By identity, as a server whose metadata changed has a new result that is equal to the old one.
+        Set<DiscoveryResult> before = Collections.newSetFromMap(new IdentityHashMap<>());
+        Collections.addAll(before, previous);
+        Set<DiscoveryResult> after = Collections.newSetFromMap(new IdentityHashMap<>());
+        Collections.addAll(after, current);
+
+        List<DiscoveryResult> added = new ArrayList<>();
+        for (DiscoveryResult server : current) {
+            if (!before.contains(server)) {
+                added.add(server);
+            }
+        }
+        Set<DiscoveryResult> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+        removed.addAll(diff.removed());
+        List<DiscoveryResult> removedList = new ArrayList<>(diff.removed());
+        for (DiscoveryResult server : previous) {
+            if (!after.contains(server) && removed.add(server)) {
+                removedList.add(server);
+            }
+        }
+        List<DiscoveryResult> changed = new ArrayList<>();
+        for (DiscoveryResult server : diff.changed()) {
+            if (after.contains(server)) {
+                changed.add(server);
+            }
+        }
+        return new ServerSetDiff<>(diff.version(), added, removedList, changed);
+    }
+}
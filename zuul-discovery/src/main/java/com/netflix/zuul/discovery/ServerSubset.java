@@ -0,0 +1,186 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.zuul.discovery;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import com.netflix.client.config.CommonClientConfigKey;
+import com.netflix.client.config.IClientConfig;
+import com.netflix.client.config.IClientConfigKey;
+import com.netflix.loadbalancer.Server;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import javax.annotation.Nullable;
+
+/**
+ * Picks a stable subset of a large origin's servers for this Zuul node to use, so that each node keeps connections to
+ * {@link #SIZE} servers rather than to all of them.
+ *
+ * <p>Servers are ranked by rendezvous hashing: each one is scored by hashing its id together with {@link #NODE_ID}, and
+ * the highest scores are kept.  Every node scores servers differently, so each server ends up in the subsets of about
+ * the same share of nodes.  When a server joins or leaves, the subsets it enters or leaves change by that one server,
+ * and all other nodes keep theirs.  The node id defaults to the host name, so that a node gets the same subset back
+ * after a restart.
+ *
+ * <p>Subsetting is done by {@link P2CServerResolver}, and per zone by {@link ZoneAwareServerResolver}.  It doesn't
+ * apply to {@link ConsistentHashServerResolver}, whose point is that all nodes send a key to the same server.
+ */
+public final class ServerSubset {
+
+    /**
+     * How many servers each node uses.  Subsetting is off when 0, or when the origin has no more servers than this.
+     */
+    public static final IClientConfigKey<Integer> SIZE = new CommonClientConfigKey<>("SubsetSize") {};
+
+    public static final IClientConfigKey<String> NODE_ID = new CommonClientConfigKey<>("SubsetNodeId") {};
+
+    private static final HashFunction HASH = Hashing.murmur3_128();
+
+    private final int size;
+    private final long seed;
+
+    public ServerSubset(String nodeId, int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Subset size must be positive: " + size);
+        }
+        this.size = size;
+        this.seed = HASH.hashString(nodeId, StandardCharsets.UTF_8).asLong();
+    }
+
+    public static boolean isEnabled(IClientConfig clientConfig) {
+        return clientConfig.get(SIZE, 0) > 0;
+    }
+
+    /**
+     * Returns the subset configured for the given origin, or null if it isn't subset.
+     */
+    @Nullable public static ServerSubset from(IClientConfig clientConfig) {
+        if (!isEnabled(clientConfig)) {
+            return null;
+        }
+        String nodeId = clientConfig.get(NODE_ID, null);
+        if (nodeId == null || nodeId.isEmpty()) {
+            nodeId = DefaultNodeId.VALUE;
+        }
+        return new ServerSubset(nodeId, clientConfig.get(SIZE));
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Returns this node's subset of {@code servers}, in their original order.
+     */
+    public <T extends Server> List<T> select(List<T> servers) {
+        return select(servers, size);
+    }
+
+    /**
+     * Returns this node's subset of {@code servers}, picked within each zone separately, in their original order.  Each
+     * zone gets its share of the subset in proportion to its share of the servers, rounded, but at least one server,
+     * so that no zone drops out of the subset.  The subset may therefore be slightly larger or smaller than
+     * {@link #getSize()}.
+     */
+    public <T extends Server> List<T> selectPerZone(List<T> servers) {
+        int count = servers.size();
+        if (count <= size) {
+            return servers;
+        }
+        Map<String, List<T>> byZone = new LinkedHashMap<>();
+        for (T server : servers) {
+            byZone.computeIfAbsent(server.getZone(), zone -> new ArrayList<>()).add(server);
+        }
+        if (byZone.size() == 1) {
+            return select(servers, size);
+        }
+
+        Set<T> selected = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (List<T> zone : byZone.values()) {
+            int zoneSize = Math.max(1, Math.round((float) size * zone.size() / count));
+            selected.addAll(select(zone, zoneSize));
+        }
+        List<T> subset = new ArrayList<>(selected.size());
+        for (T server : servers) {
+            if (selected.contains(server)) {
+                subset.add(server);
+            }
+        }
+        return subset;
+    }
+
+    private <T extends Server> List<T> select(List<T> servers, int size) {
+        int count = servers.size();
+        if (count <= size) {
+            return servers;
+        }
+
+        // Sort the scores along with the servers' positions, which fit in the low bits.  Ties between servers are
+        // vanishingly rare, and are broken by position.
+        long[] ranked = new long[count];
+        int positionBits = 32 - Integer.numberOfLeadingZeros(count);
+        long positionMask = (1L << positionBits) - 1;
+        for (int i = 0; i < count; i++) {
+            ranked[i] = (score(servers.get(i)) & ~positionMask) | i;
+        }
+        Arrays.sort(ranked);
+
+        int[] positions = new int[size];
+        for (int i = 0; i < size; i++) {
+            positions[i] = (int) (ranked[count - 1 - i] & positionMask);
+        }
+        Arrays.sort(positions);
+        List<T> subset = new ArrayList<>(size);
+        for (int position : positions) {
+            subset.add(servers.get(position));
+        }
+        return subset;
+    }
+
+    @VisibleForTesting
+    long score(Server server) {
+        return HASH.newHasher()
+                .putLong(seed)
+                .putString(server.getId(), StandardCharsets.UTF_8)
+                .hash()
+                .asLong();
+    }
+
+    private static final class DefaultNodeId {
+        static final String VALUE = lookUp();
+
+        private static String lookUp() {
+            try {
+                return InetAddress.getLocalHost().getHostName();
+            } catch (UnknownHostException e) {
+                // Still spreads servers across nodes, just not the same way after a restart.
+                return UUID.randomUUID().toString();
+            }
+        }
+    }
+}
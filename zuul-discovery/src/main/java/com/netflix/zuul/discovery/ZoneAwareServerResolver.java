@@ -0,0 +1,212 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.zuul.discovery;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.netflix.client.config.CommonClientConfigKey;
+import com.netflix.client.config.IClientConfig;
+import com.netflix.client.config.IClientConfigKey;
+import com.netflix.loadbalancer.DynamicServerListLoadBalancer;
+import com.netflix.loadbalancer.Server;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.Nullable;
+
+/**
+ * Sends requests to servers in the same zone as this instance for as long as they are healthy, to save the latency
+ * and the cost of crossing zones.  Within a zone, servers are picked as by {@link P2CServerResolver}.
+ *
+ * <p>When the local zone's servers have more requests in flight on average than
+ * {@link #MAX_ACTIVE_REQUESTS_PER_SERVER}, or too many of them have tripped their circuit breaker or been ejected as
+ * outliers, traffic spills over to the other zones in proportion to capacity: each healthy local server counts as one,
+ * and each remote server as {@link #SPILLOVER_CAPACITY_PERCENT} percent of one.  The local zone's health is checked at
+ * most every 100ms, so the cost of looking at all its servers isn't paid on every request.
+ *
+ * <p>Without a {@link #LOCAL_ZONE}, or if it has no servers, this behaves like {@link P2CServerResolver}.  With a
+ * {@link ServerSubset}, each zone's servers are subset separately, in proportion to the zone's size.
+ */
+public class ZoneAwareServerResolver extends P2CServerResolver {
+
+    public static final IClientConfigKey<Boolean> ENABLED = new CommonClientConfigKey<>("ZoneAffinityEnabled") {};
+
+    /**
+     * The zone this instance runs in, as reported by {@link DiscoveryResult#getZone()} for servers in the same zone.
+     */
+    public static final IClientConfigKey<String> LOCAL_ZONE = new CommonClientConfigKey<>("ZoneAffinityLocalZone") {};
+
+    public static final IClientConfigKey<Integer> MAX_ACTIVE_REQUESTS_PER_SERVER =
+            new CommonClientConfigKey<>("ZoneAffinityMaxActiveRequestsPerServer") {};
+
+    public static final IClientConfigKey<Integer> MAX_TRIPPED_PERCENT =
+            new CommonClientConfigKey<>("ZoneAffinityMaxTrippedPercent") {};
+
+    public static final IClientConfigKey<Integer> SPILLOVER_CAPACITY_PERCENT =
+            new CommonClientConfigKey<>("ZoneAffinitySpilloverCapacityPercent") {};
+
+    private static final int DEFAULT_MAX_ACTIVE_REQUESTS_PER_SERVER = 50;
+    private static final int DEFAULT_MAX_TRIPPED_PERCENT = 20;
+    private static final int DEFAULT_SPILLOVER_CAPACITY_PERCENT = 100;
+    private static final long EVALUATION_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    @Nullable private final String localZone;
+
+    private final int maxActiveRequestsPerServer;
+    private final int maxTrippedPercent;
+    private final int spilloverCapacityPercent;
+
+    private final LongAdder localZoneRequests = new LongAdder();
+    private final LongAdder crossZoneRequests = new LongAdder();
+
+    // Not initialized here, as the superclass constructor already refreshes the servers.
+    @Nullable private volatile Zones zones;
+
+    private volatile double localShare;
+    private volatile long nextEvaluationNanos;
+
+    public ZoneAwareServerResolver(IClientConfig clientConfig) {
+        this(createLoadBalancer(clientConfig), clientConfig);
+    }
+
+    public ZoneAwareServerResolver(DynamicServerListLoadBalancer<?> loadBalancer, IClientConfig clientConfig) {
+        super(loadBalancer, clientConfig.get(LATENCY_WEIGHTED, false), ServerSubset.from(clientConfig));
+        configureSlowStart(clientConfig);
+        String zone = clientConfig.get(LOCAL_ZONE, null);
+        this.localZone = zone == null || zone.isEmpty() ? null : zone;
+        this.maxActiveRequestsPerServer =
+                clientConfig.get(MAX_ACTIVE_REQUESTS_PER_SERVER, DEFAULT_MAX_ACTIVE_REQUESTS_PER_SERVER);
+        this.maxTrippedPercent = clientConfig.get(MAX_TRIPPED_PERCENT, DEFAULT_MAX_TRIPPED_PERCENT);
+        this.spilloverCapacityPercent =
+                clientConfig.get(SPILLOVER_CAPACITY_PERCENT, DEFAULT_SPILLOVER_CAPACITY_PERCENT);
+        refreshServers(loadBalancer.getReachableServers());
+    }
+
+    /**
+     * Whether the given origin is configured to use this rather than {@link DynamicServerResolver}.
+     */
+    public static boolean isEnabled(IClientConfig clientConfig) {
+        return clientConfig.get(ENABLED, false);
+    }
+
+    @Override
+    public DiscoveryResult resolve(@Nullable Object key) {
+        Zones zones = this.zones;
+        if (zones == null) {
+            DiscoveryResult server = super.resolve(key);
+            if (localZone != null && server != DiscoveryResult.EMPTY) {
+                crossZoneRequests.increment();
+            }
+            return server;
+        }
+
+        long now = System.nanoTime();
+        if (now - nextEvaluationNanos >= 0) {
+            nextEvaluationNanos = now + EVALUATION_INTERVAL_NANOS;
+            localShare = computeLocalShare(zones);
+        }
+
+        double share = localShare;
+        if (zones.remote().length == 0 || share >= 1 || ThreadLocalRandom.current().nextDouble() < share) {
+            localZoneRequests.increment();
+            return choose(zones.local());
+        }
+        crossZoneRequests.increment();
+        return choose(zones.remote());
+    }
+
+    /**
+     * The share of requests currently kept in the local zone, between 0 and 1.
+     */
+    public double getLocalShare() {
+        return zones != null ? localShare : 0;
+    }
+
+    public long getLocalZoneRequests() {
+        return localZoneRequests.sum();
+    }
+
+    public long getCrossZoneRequests() {
+        return crossZoneRequests.sum();
+    }
+
+    @Override
+    synchronized void refreshServers(List<? extends Server> reachable) {
+        super.refreshServers(reachable);
+        if (localZone == null) {
+            // Either not configured, or still in the superclass constructor.
+            return;
+        }
+
+        List<DiscoveryResult> local = new ArrayList<>();
+        List<DiscoveryResult> remote = new ArrayList<>();
+        for (DiscoveryResult result : getServers()) {
+            (localZone.equals(result.getZone()) ? local : remote).add(result);
+        }
+        if (local.isEmpty()) {
+            zones = null;
+            return;
+        }
+        Zones updated = new Zones(local.toArray(new DiscoveryResult[0]), remote.toArray(new DiscoveryResult[0]));
+        localShare = computeLocalShare(updated);
+        nextEvaluationNanos = System.nanoTime() + EVALUATION_INTERVAL_NANOS;
+        zones = updated;
+    }
+
+    /**
+     * Picks the subset within each zone, so that the local zone keeps its share of it.
+     */
+    @Override
+    protected List<? extends Server> subset(List<? extends Server> allServers) {
+        return getSubset().selectPerZone(allServers);
+    }
+
+    @VisibleForTesting
+    void updateLocalShare() {
+        Zones zones = this.zones;
+        if (zones != null) {
+            localShare = computeLocalShare(zones);
+        }
+    }
+
+    private double computeLocalShare(Zones zones) {
+        if (zones.remote().length == 0) {
+            return 1;
+        }
+        long active = 0;
+        int tripped = 0;
+        for (DiscoveryResult server : zones.local()) {
+            if (server.isCircuitBreakerTripped() || server.isEjected()) {
+                tripped++;
+            } else {
+                active += server.getActiveRequestsCount();
+            }
+        }
+        int healthy = zones.local().length - tripped;
+        boolean overloaded = active > (long) maxActiveRequestsPerServer * healthy;
+        boolean failing = tripped * 100 > maxTrippedPercent * zones.local().length;
+        if (!overloaded && !failing) {
+            return 1;
+        }
+        double remoteCapacity = zones.remote().length * spilloverCapacityPercent / 100.0;
+        double capacity = healthy + remoteCapacity;
+        return capacity > 0 ? healthy / capacity : 1;
+    }
+
+    private record Zones(DiscoveryResult[] local, DiscoveryResult[] remote) {}
+}
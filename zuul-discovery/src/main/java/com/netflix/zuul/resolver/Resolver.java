@@ -16,6 +16,9 @@
 
 package com.netflix.zuul.resolver;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * @author Argha C
  * @since 2/25/21
@@ -38,6 +41,14 @@ public interface Resolver<T> {
      */
     boolean hasServers();
 
+    /**
+     * @return the servers currently available from this resolver, or an empty list if the implementation can't
+     * enumerate them
+     */
+    default List<T> getServers() {
+        return Collections.emptyList();
+    }
+
     /**
      * hook to perform activities on shutdown
      */
@@ -31,4 +31,22 @@ public interface ResolverListener<T> {
      * @param removedSet the servers removed from the latest resolver update, but included in the previous update.
      */
     void onChange(List<T> removedSet);
+
+    /**
+     * Hook to respond to servers showing up in a resolver update, e.g. to connect to them ahead of their first request.
+     * Called before {@link #onChange(List)} for the same update.
+     * @param addedSet the servers included in the latest resolver update, but not in the previous update.
+     */
+    default void onServersAdded(List<T> addedSet) {}
+
+    /**
+     * Hook to respond to a resolver update as a whole, e.g. to apply it in one batch.  Resolvers that publish
+     * {@link ServerSetDiff}s call this rather than the other hooks, which it calls by default.
+     */
+    default void onUpdate(ServerSetDiff<T> diff) {
+        if (!diff.added().isEmpty()) {
+            onServersAdded(diff.added());
+        }
+        onChange(diff.removed());
+    }
 }
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.zuul.resolver;
+
+import java.util.List;
+
+/**
+ * The difference between two consecutive versions of a resolver's server set.  A server whose address or zone changed
+ * is replaced: its previous result is in {@code removed}, and its new one in both {@code added} and {@code changed}.
+ *
+ * @param version increases by one with each update the resolver publishes
+ * @param added the servers in this version that weren't in the previous one
+ * @param removed the servers in the previous version that aren't in this one
+ * @param changed the servers in both versions whose metadata changed, as also listed in {@code added}
+ */
+public record ServerSetDiff<T>(long version, List<T> added, List<T> removed, List<T> changed) {
+
+    public ServerSetDiff {
+        added = List.copyOf(added);
+        removed = List.copyOf(removed);
+        changed = List.copyOf(changed);
+    }
+
+    public boolean isEmpty() {
+        return added.isEmpty() && removed.isEmpty();
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.zuul.discovery;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.truth.Truth;
+import com.netflix.appinfo.InstanceInfo;
+import com.netflix.loadbalancer.DynamicServerListLoadBalancer;
+import com.netflix.loadbalancer.Server;
+import com.netflix.niws.loadbalancer.DiscoveryEnabledServer;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ConsistentHashServerResolverTest {
+
+    private DynamicServerListLoadBalancer<Server> loadBalancer;
+    private DiscoveryEnabledServer server1;
+    private DiscoveryEnabledServer server2;
+    private DiscoveryEnabledServer server3;
+
+    @BeforeEach
+    void setup() {
+        loadBalancer = new DynamicServerListLoadBalancer<>();
+        server1 = server("100.10.10.1");
+        server2 = server("100.10.10.2");
+        server3 = server("100.10.10.3");
+    }
+
+    @Test
+    void emptyWithoutServers() {
+        ConsistentHashServerResolver resolver = new ConsistentHashServerResolver(loadBalancer, 100, 125);
+
+        Truth.assertThat(resolver.hasServers()).isFalse();
+        Truth.assertThat(resolver.resolve("key")).isSameInstanceAs(DiscoveryResult.EMPTY);
+    }
+
+    @Test
+    void sameKeySameServer() {
+        loadBalancer.setServersList(ImmutableList.of(server1, server2, server3));
+        ConsistentHashServerResolver resolver = new ConsistentHashServerResolver(loadBalancer, 100, 125);
+
+        for (int i = 0; i < 100; i++) {
+            String key = "tenant-" + i;
+            Truth.assertThat(resolver.resolve(key)).isSameInstanceAs(resolver.resolve(key));
+        }
+    }
+
+    @Test
+    void addingServerOnlyMovesKeysToIt() {
+        loadBalancer.setServersList(ImmutableList.of(server1, server2));
+        ConsistentHashServerResolver resolver = new ConsistentHashServerResolver(loadBalancer, 100, 125);
+        Map<String, DiscoveryResult> before = new HashMap<>();
+        for (int i = 0; i < 1000; i++) {
+            before.put("tenant-" + i, resolver.resolve("tenant-" + i));
+        }
+
+        loadBalancer.setServersList(ImmutableList.of(server1, server2, server3));
+
+        int moved = 0;
+        for (Map.Entry<String, DiscoveryResult> entry : before.entrySet()) {
+            DiscoveryResult after = resolver.resolve(entry.getKey());
+            if (!after.equals(entry.getValue())) {
+                Truth.assertThat(after).isEqualTo(new DiscoveryResult(server3));
+                moved++;
+            }
+        }
+        Truth.assertThat(moved).isGreaterThan(0);
+        Truth.assertThat(moved).isLessThan(600);
+    }
+
+    @Test
+    void removingServerKeepsOtherKeys() {
+        loadBalancer.setServersList(ImmutableList.of(server1, server2, server3));
+        ConsistentHashServerResolver resolver = new ConsistentHashServerResolver(loadBalancer, 100, 125);
+        Map<String, DiscoveryResult> before = new HashMap<>();
+        for (int i = 0; i < 1000; i++) {
+            before.put("tenant-" + i, resolver.resolve("tenant-" + i));
+        }
+
+        loadBalancer.setServersList(ImmutableList.of(server1, server2));
+
+        DiscoveryResult removed = new DiscoveryResult(server3);
+        for (Map.Entry<String, DiscoveryResult> entry : before.entrySet()) {
+            DiscoveryResult after = resolver.resolve(entry.getKey());
+            Truth.assertThat(after).isNotEqualTo(removed);
+            if (!entry.getValue().equals(removed)) {
+                Truth.assertThat(after).isEqualTo(entry.getValue());
+            }
+        }
+    }
+
+    @Test
+    void overloadedServerPassesKeyOn() {
+        loadBalancer.setServersList(ImmutableList.of(server1, server2));
+        ConsistentHashServerResolver resolver = new ConsistentHashServerResolver(loadBalancer, 100, 125);
+        DiscoveryResult owner = resolver.resolve("hot-key");
+        for (int i = 0; i < 10; i++) {
+            owner.incrementActiveRequestsCount();
+        }
+
+        resolver.updateCapacity();
+
+        // 11 requests over 2 servers at 125% leaves room for servers with fewer than 7 in flight.
+        DiscoveryResult next = resolver.resolve("hot-key");
+        Truth.assertThat(next).isNotEqualTo(owner);
+    }
+
+    private static DiscoveryEnabledServer server(String ip) {
+        InstanceInfo instanceInfo = InstanceInfo.Builder.newBuilder()
+                .setAppName("zuul-discovery")
+                .setHostName(ip)
+                .setIPAddr(ip)
+                .setPort(443)
+                .build();
+        return new DiscoveryEnabledServer(instanceInfo, true);
+    }
+}
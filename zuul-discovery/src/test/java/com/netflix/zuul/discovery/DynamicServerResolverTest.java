@@ -21,8 +21,11 @@ import com.google.common.collect.Lists;
 import com.google.common.truth.Truth;
 import com.netflix.appinfo.InstanceInfo;
 import com.netflix.client.config.DefaultClientConfigImpl;
+import com.netflix.loadbalancer.DynamicServerListLoadBalancer;
+import com.netflix.loadbalancer.Server;
 import com.netflix.niws.loadbalancer.DiscoveryEnabledServer;
 import com.netflix.zuul.resolver.ResolverListener;
+import com.netflix.zuul.resolver.ServerSetDiff;
 import java.util.List;
 import org.junit.jupiter.api.Test;
 
@@ -70,6 +73,108 @@ class DynamicServerResolverTest {
                 .containsExactly(new DiscoveryResult(server1), new DiscoveryResult(server2));
     }
 
+    @Test
+    void verifyListenerAdditions() {
+        List<DiscoveryResult> added = Lists.newArrayList();
+        DynamicServerResolver resolver = new DynamicServerResolver(new DefaultClientConfigImpl());
+        resolver.setListener(new ResolverListener<>() {
+            @Override
+            public void onChange(List<DiscoveryResult> removedSet) {}
+
+            @Override
+            public void onServersAdded(List<DiscoveryResult> addedSet) {
+                added.addAll(addedSet);
+            }
+        });
+
+        InstanceInfo first = InstanceInfo.Builder.newBuilder()
+                .setAppName("zuul-discovery-1")
+                .setHostName("zuul-discovery-1")
+                .setIPAddr("100.10.10.1")
+                .setPort(443)
+                .build();
+        InstanceInfo second = InstanceInfo.Builder.newBuilder()
+                .setAppName("zuul-discovery-2")
+                .setHostName("zuul-discovery-2")
+                .setIPAddr("100.10.10.2")
+                .setPort(443)
+                .build();
+        DiscoveryEnabledServer server1 = new DiscoveryEnabledServer(first, true);
+        DiscoveryEnabledServer server2 = new DiscoveryEnabledServer(second, true);
+
+        resolver.onUpdate(ImmutableList.of(server1), ImmutableList.of(server1, server2));
+
+        Truth.assertThat(added).containsExactly(new DiscoveryResult(server2));
+    }
+
+    @Test
+    void sameResultForServerUntilItIsRemoved() {
+        List<DiscoveryResult> removed = Lists.newArrayList();
+        DynamicServerListLoadBalancer<Server> loadBalancer = new DynamicServerListLoadBalancer<>();
+        DynamicServerResolver resolver = new DynamicServerResolver(loadBalancer);
+        resolver.setListener(removed::addAll);
+
+        InstanceInfo first = InstanceInfo.Builder.newBuilder()
+                .setAppName("zuul-discovery-1")
+                .setHostName("zuul-discovery-1")
+                .setIPAddr("100.10.10.1")
+                .setPort(443)
+                .build();
+        DiscoveryEnabledServer server1 = new DiscoveryEnabledServer(first, true);
+
+        loadBalancer.setServersList(ImmutableList.of(server1));
+        DiscoveryResult result = resolver.resolve(null);
+
+        Truth.assertThat(result).isEqualTo(new DiscoveryResult(server1));
+        Truth.assertThat(resolver.resolve(null)).isSameInstanceAs(result);
+        Truth.assertThat(resolver.getServers().get(0)).isSameInstanceAs(result);
+
+        loadBalancer.setServersList(ImmutableList.of());
+        Truth.assertThat(removed).hasSize(1);
+        Truth.assertThat(removed.get(0)).isSameInstanceAs(result);
+        Truth.assertThat(resolver.resultFor(server1)).isNotSameInstanceAs(result);
+    }
+
+    @Test
+    void serverWithChangedZoneIsReplaced() {
+        List<ServerSetDiff<DiscoveryResult>> diffs = Lists.newArrayList();
+        DynamicServerListLoadBalancer<Server> loadBalancer = new DynamicServerListLoadBalancer<>();
+        DynamicServerResolver resolver = new DynamicServerResolver(loadBalancer);
+        resolver.setListener(new ResolverListener<>() {
+            @Override
+            public void onChange(List<DiscoveryResult> removedSet) {}
+
+            @Override
+            public void onUpdate(ServerSetDiff<DiscoveryResult> diff) {
+                diffs.add(diff);
+            }
+        });
+
+        InstanceInfo instanceInfo = InstanceInfo.Builder.newBuilder()
+                .setAppName("zuul-discovery-1")
+                .setHostName("zuul-discovery-1")
+                .setIPAddr("100.10.10.1")
+                .setPort(443)
+                .build();
+        DiscoveryEnabledServer before = new DiscoveryEnabledServer(instanceInfo, true);
+        before.setZone("us-east-1a");
+        DiscoveryEnabledServer after = new DiscoveryEnabledServer(instanceInfo, true);
+        after.setZone("us-east-1b");
+
+        loadBalancer.setServersList(ImmutableList.of(before));
+        DiscoveryResult previous = resolver.resolve(null);
+        loadBalancer.setServersList(ImmutableList.of(after));
+
+        Truth.assertThat(diffs).hasSize(2);
+        ServerSetDiff<DiscoveryResult> diff = diffs.get(1);
+        Truth.assertThat(diff.version()).isEqualTo(2);
+        Truth.assertThat(diff.removed()).containsExactly(previous);
+        Truth.assertThat(diff.changed()).hasSize(1);
+        Truth.assertThat(diff.changed().get(0).getZone()).isEqualTo("us-east-1b");
+        Truth.assertThat(diff.added()).containsExactlyElementsIn(diff.changed());
+        Truth.assertThat(resolver.resolve(null)).isSameInstanceAs(diff.changed().get(0));
+    }
+
     @Test
     void properSentinelValueWhenServersUnavailable() {
         DynamicServerResolver resolver = new DynamicServerResolver(new DefaultClientConfigImpl());
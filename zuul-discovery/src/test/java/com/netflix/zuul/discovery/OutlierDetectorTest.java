@@ -0,0 +1,171 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.zuul.discovery;
+
+import com.google.common.truth.Truth;
+import com.netflix.appinfo.InstanceInfo;
+import com.netflix.client.config.DefaultClientConfigImpl;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class OutlierDetectorTest {
+
+    private DefaultClientConfigImpl clientConfig;
+    private List<DiscoveryResult> servers;
+
+    @BeforeEach
+    void setup() {
+        clientConfig = new DefaultClientConfigImpl();
+        servers = new ArrayList<>();
+    }
+
+    @Test
+    void consecutiveServerErrorsEject() {
+        addServers(10);
+        OutlierDetector detector = new OutlierDetector(clientConfig, () -> servers);
+        DiscoveryResult server = servers.get(0);
+
+        for (int i = 0; i < 4; i++) {
+            detector.onResponse(server, 503, 10);
+        }
+        Truth.assertThat(server.isEjected()).isFalse();
+
+        detector.onResponse(server, 500, 10);
+        Truth.assertThat(server.isEjected()).isTrue();
+        Truth.assertThat(detector.getEjections(OutlierDetector.Reason.CONSECUTIVE_5XX)).isEqualTo(1);
+    }
+
+    @Test
+    void successResetsConsecutiveServerErrors() {
+        addServers(10);
+        OutlierDetector detector = new OutlierDetector(clientConfig, () -> servers);
+        DiscoveryResult server = servers.get(0);
+
+        for (int i = 0; i < 4; i++) {
+            detector.onResponse(server, 503, 10);
+        }
+        detector.onResponse(server, 200, 10);
+        detector.onResponse(server, 503, 10);
+
+        Truth.assertThat(server.getOutlierStats().getConsecutiveServerErrors()).isEqualTo(1);
+        Truth.assertThat(server.isEjected()).isFalse();
+    }
+
+    @Test
+    void ejectionsAreCapped() {
+        addServers(10);
+        OutlierDetector detector = new OutlierDetector(clientConfig, () -> servers);
+
+        for (int i = 0; i < 5; i++) {
+            detector.onResponse(servers.get(0), 503, 10);
+            detector.onResponse(servers.get(1), 503, 10);
+        }
+
+        // 10% of 10 servers.
+        Truth.assertThat(servers.get(0).isEjected()).isTrue();
+        Truth.assertThat(servers.get(1).isEjected()).isFalse();
+    }
+
+    @Test
+    void repeatedEjectionsNeverOverflow() {
+        addServers(10);
+        OutlierDetector detector = new OutlierDetector(clientConfig, () -> servers);
+        DiscoveryResult server = servers.get(0);
+        OutlierStats stats = server.getOutlierStats();
+        long maxEjectionNanos = TimeUnit.MILLISECONDS.toNanos(300_000);
+
+        long now = System.nanoTime();
+        for (int i = 0; i < 40; i++) {
+            // Fails again as soon as it's back, so its multiplier never comes down.
+            Truth.assertThat(detector.eject(server, OutlierDetector.Reason.CONSECUTIVE_5XX, now, servers)).isTrue();
+            Truth.assertThat(stats.isEjected(now)).isTrue();
+            now += maxEjectionNanos;
+            Truth.assertThat(stats.isEjected(now)).isFalse();
+        }
+    }
+
+    @Test
+    void lowSuccessRateEjects() {
+        addServers(6);
+        clientConfig.set(OutlierDetector.MIN_REQUESTS, 10);
+        OutlierDetector detector = new OutlierDetector(clientConfig, () -> servers);
+        for (DiscoveryResult server : servers) {
+            for (int i = 0; i < 100; i++) {
+                // Alternate for the last server, so that it fails half of the time but never 5 times in a row.
+                boolean fail = server == servers.get(5) && i % 2 == 0;
+                detector.onResponse(server, fail ? 500 : 200, 10);
+            }
+        }
+
+        detector.evaluate(System.nanoTime());
+
+        Truth.assertThat(servers.get(5).isEjected()).isTrue();
+        Truth.assertThat(servers.get(0).isEjected()).isFalse();
+        Truth.assertThat(detector.getEjections(OutlierDetector.Reason.SUCCESS_RATE)).isEqualTo(1);
+    }
+
+    @Test
+    void highLatencyEjects() {
+        addServers(6);
+        clientConfig.set(OutlierDetector.MIN_REQUESTS, 10);
+        clientConfig.set(OutlierDetector.LATENCY_STDEV_PERCENT, 200);
+        OutlierDetector detector = new OutlierDetector(clientConfig, () -> servers);
+        for (DiscoveryResult server : servers) {
+            for (int i = 0; i < 100; i++) {
+                detector.onResponse(server, 200, server == servers.get(5) ? 100 : 10);
+            }
+        }
+
+        detector.evaluate(System.nanoTime());
+
+        Truth.assertThat(servers.get(5).isEjected()).isTrue();
+        Truth.assertThat(detector.getEjections(OutlierDetector.Reason.LATENCY)).isEqualTo(1);
+    }
+
+    @Test
+    void tooFewServersAreNotCompared() {
+        addServers(4);
+        clientConfig.set(OutlierDetector.MIN_REQUESTS, 10);
+        OutlierDetector detector = new OutlierDetector(clientConfig, () -> servers);
+        for (DiscoveryResult server : servers) {
+            for (int i = 0; i < 100; i++) {
+                boolean fail = server == servers.get(3) && i % 2 == 0;
+                detector.onResponse(server, fail ? 500 : 200, 10);
+            }
+        }
+
+        detector.evaluate(System.nanoTime());
+
+        Truth.assertThat(servers.get(3).isEjected()).isFalse();
+    }
+
+    private void addServers(int count) {
+        for (int i = 0; i < count; i++) {
+            servers.add(DiscoveryResult.from(
+                    InstanceInfo.Builder.newBuilder()
+                            .setAppName("zuul-discovery")
+                            .setHostName("100.10.10." + i)
+                            .setIPAddr("100.10.10." + i)
+                            .setPort(443)
+                            .build(),
+                    true));
+        }
+    }
+}
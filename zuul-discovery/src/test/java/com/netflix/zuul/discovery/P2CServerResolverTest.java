@@ -0,0 +1,214 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.zuul.discovery;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.truth.Truth;
+import com.netflix.appinfo.InstanceInfo;
+import com.netflix.loadbalancer.DynamicServerListLoadBalancer;
+import com.netflix.loadbalancer.Server;
+import com.netflix.niws.loadbalancer.DiscoveryEnabledServer;
+import com.netflix.zuul.resolver.ResolverListener;
+import com.netflix.zuul.resolver.ServerSetDiff;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class P2CServerResolverTest {
+
+    private DynamicServerListLoadBalancer<Server> loadBalancer;
+    private DiscoveryEnabledServer server1;
+    private DiscoveryEnabledServer server2;
+
+    @BeforeEach
+    void setup() {
+        loadBalancer = new DynamicServerListLoadBalancer<>();
+        server1 = server("100.10.10.1");
+        server2 = server("100.10.10.2");
+    }
+
+    @Test
+    void emptyWithoutServers() {
+        P2CServerResolver resolver = new P2CServerResolver(loadBalancer, false);
+
+        Truth.assertThat(resolver.hasServers()).isFalse();
+        Truth.assertThat(resolver.resolve(null)).isSameInstanceAs(DiscoveryResult.EMPTY);
+    }
+
+    @Test
+    void picksServerWithFewerActiveRequests() {
+        P2CServerResolver resolver = new P2CServerResolver(loadBalancer, false);
+        resolver.refreshServers(ImmutableList.of(server1, server2));
+
+        DiscoveryResult busy = new DiscoveryResult(server1, loadBalancer.getLoadBalancerStats());
+        for (int i = 0; i < 5; i++) {
+            busy.incrementActiveRequestsCount();
+        }
+
+        // With two servers, both are always sampled.
+        for (int i = 0; i < 100; i++) {
+            Truth.assertThat(resolver.resolve(null))
+                    .isEqualTo(new DiscoveryResult(server2, loadBalancer.getLoadBalancerStats()));
+        }
+    }
+
+    @Test
+    void ejectedServerIsAvoided() {
+        P2CServerResolver resolver = new P2CServerResolver(loadBalancer, false);
+        loadBalancer.setServersList(ImmutableList.of(server1, server2));
+        resolver.resultFor(server1).getOutlierStats().eject(System.nanoTime() + TimeUnit.MINUTES.toNanos(1));
+
+        for (int i = 0; i < 100; i++) {
+            Truth.assertThat(resolver.resolve(null)).isEqualTo(new DiscoveryResult(server2));
+        }
+    }
+
+    @Test
+    void loadIsWeightedByLatency() {
+        P2CServerResolver resolver = new P2CServerResolver(loadBalancer, true);
+        DiscoveryResult result = new DiscoveryResult(server1, loadBalancer.getLoadBalancerStats());
+        result.incrementActiveRequestsCount();
+
+        // No responses recorded yet, so the latency weight is 1.
+        Truth.assertThat(resolver.load(result)).isEqualTo(2.0);
+    }
+
+    @Test
+    void serverListChangesReplaceSnapshot() {
+        P2CServerResolver resolver = new P2CServerResolver(loadBalancer, false);
+
+        loadBalancer.setServersList(ImmutableList.of(server1, server2));
+        Truth.assertThat(resolver.getServers())
+                .containsExactly(new DiscoveryResult(server1), new DiscoveryResult(server2));
+
+        loadBalancer.setServersList(ImmutableList.of(server2));
+        Truth.assertThat(resolver.getServers()).containsExactly(new DiscoveryResult(server2));
+        Truth.assertThat(resolver.resolve(null)).isEqualTo(new DiscoveryResult(server2));
+    }
+
+    @Test
+    void addedServerIsRampedIn() {
+        loadBalancer.setServersList(ImmutableList.of(server1));
+        P2CServerResolver resolver = new P2CServerResolver(loadBalancer, false);
+        resolver.setSlowStart(60_000, 10);
+        loadBalancer.setServersList(ImmutableList.of(server1, server2));
+
+        DiscoveryResult existing = resolver.resultFor(server1);
+        DiscoveryResult added = resolver.resultFor(server2);
+        Truth.assertThat(existing.isSlowStarting()).isFalse();
+        Truth.assertThat(added.isSlowStarting()).isTrue();
+
+        // Just added, so at the minimum weight of 10%.
+        Truth.assertThat(resolver.load(added)).isWithin(0.01).of(10.0);
+        for (int i = 0; i < 5; i++) {
+            existing.incrementActiveRequestsCount();
+        }
+        for (int i = 0; i < 100; i++) {
+            Truth.assertThat(resolver.resolve(null)).isSameInstanceAs(existing);
+        }
+    }
+
+    @Test
+    void serversAreNotRampedIntoEmptyList() {
+        P2CServerResolver resolver = new P2CServerResolver(loadBalancer, false);
+        resolver.setSlowStart(60_000, 10);
+        loadBalancer.setServersList(ImmutableList.of(server1, server2));
+
+        Truth.assertThat(resolver.resultFor(server1).isSlowStarting()).isFalse();
+        Truth.assertThat(resolver.resultFor(server2).isSlowStarting()).isFalse();
+    }
+
+    @Test
+    void slowStartEndsAfterWindow() throws InterruptedException {
+        loadBalancer.setServersList(ImmutableList.of(server1));
+        P2CServerResolver resolver = new P2CServerResolver(loadBalancer, false);
+        resolver.setSlowStart(1, 10);
+        loadBalancer.setServersList(ImmutableList.of(server1, server2));
+        DiscoveryResult added = resolver.resultFor(server2);
+
+        TimeUnit.MILLISECONDS.sleep(10);
+
+        Truth.assertThat(resolver.load(added)).isEqualTo(1.0);
+        Truth.assertThat(added.isSlowStarting()).isFalse();
+    }
+
+    @Test
+    void subsetOnlyPublishesItsOwnChanges() {
+        List<DiscoveryEnabledServer> all = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            all.add(server("100.10.11." + i));
+        }
+        loadBalancer.setServersList(all);
+        P2CServerResolver resolver = new P2CServerResolver(loadBalancer, false, new ServerSubset("node", 3));
+        List<ServerSetDiff<DiscoveryResult>> diffs = new ArrayList<>();
+        resolver.setListener(new ResolverListener<>() {
+            @Override
+            public void onUpdate(ServerSetDiff<DiscoveryResult> diff) {
+                diffs.add(diff);
+            }
+
+            @Override
+            public void onChange(List<DiscoveryResult> removedSet) {}
+        });
+        List<DiscoveryResult> subset = resolver.getServers();
+        Truth.assertThat(subset).hasSize(3);
+
+        List<DiscoveryEnabledServer> shrunk = new ArrayList<>(all);
+        shrunk.remove(subset.get(0).getServer());
+        loadBalancer.setServersList(shrunk);
+
+        Truth.assertThat(resolver.getServers()).hasSize(3);
+        Truth.assertThat(resolver.getServers()).containsAtLeast(subset.get(1), subset.get(2));
+        Truth.assertThat(diffs).hasSize(1);
+        Truth.assertThat(diffs.get(0).removed()).containsExactly(subset.get(0));
+        Truth.assertThat(diffs.get(0).added()).hasSize(1);
+        Truth.assertThat(resolver.getServers()).contains(diffs.get(0).added().get(0));
+    }
+
+    @Test
+    void statusChangesDontMoveSubset() {
+        List<DiscoveryEnabledServer> all = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            all.add(server("100.10.11." + i));
+        }
+        loadBalancer.setServersList(all);
+        P2CServerResolver resolver = new P2CServerResolver(loadBalancer, false, new ServerSubset("node", 3));
+        List<DiscoveryResult> subset = resolver.getServers();
+
+        List<DiscoveryEnabledServer> reachable = new ArrayList<>(all);
+        reachable.remove(subset.get(0).getServer());
+        resolver.refreshServers(reachable);
+
+        // The server that is down is left out, but not replaced.
+        Truth.assertThat(resolver.getServers()).containsExactly(subset.get(1), subset.get(2));
+
+        resolver.refreshServers(all);
+        Truth.assertThat(resolver.getServers()).containsExactlyElementsIn(subset);
+    }
+
+    private static DiscoveryEnabledServer server(String ip) {
+        InstanceInfo instanceInfo = InstanceInfo.Builder.newBuilder()
+                .setAppName("zuul-discovery")
+                .setHostName(ip)
+                .setIPAddr(ip)
+                .setPort(443)
+                .build();
+        return new DiscoveryEnabledServer(instanceInfo, true);
+    }
+}
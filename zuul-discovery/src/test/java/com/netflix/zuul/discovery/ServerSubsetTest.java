@@ -0,0 +1,129 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.zuul.discovery;
+
+import com.google.common.collect.Range;
+import com.google.common.truth.Truth;
+import com.netflix.client.config.DefaultClientConfigImpl;
+import com.netflix.loadbalancer.Server;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class ServerSubsetTest {
+
+    @Test
+    void disabledByDefault() {
+        DefaultClientConfigImpl clientConfig = new DefaultClientConfigImpl();
+        Truth.assertThat(ServerSubset.from(clientConfig)).isNull();
+
+        clientConfig.set(ServerSubset.SIZE, 5);
+        Truth.assertThat(ServerSubset.from(clientConfig).getSize()).isEqualTo(5);
+    }
+
+    @Test
+    void smallListIsKept() {
+        List<Server> servers = servers(3);
+
+        Truth.assertThat(new ServerSubset("node", 5).select(servers)).isSameInstanceAs(servers);
+    }
+
+    @Test
+    void subsetIsStableAndInOrder() {
+        List<Server> servers = servers(50);
+
+        List<Server> subset = new ServerSubset("node", 5).select(servers);
+
+        Truth.assertThat(subset).hasSize(5);
+        Truth.assertThat(subset).isInOrder((a, b) -> servers.indexOf(a) - servers.indexOf(b));
+        Truth.assertThat(new ServerSubset("node", 5).select(new ArrayList<>(servers)))
+                .containsExactlyElementsIn(subset);
+    }
+
+    @Test
+    void addingServerChangesAtMostOne() {
+        List<Server> servers = servers(50);
+        for (int node = 0; node < 20; node++) {
+            ServerSubset subset = new ServerSubset("node-" + node, 5);
+            Set<Server> before = new HashSet<>(subset.select(servers));
+
+            List<Server> grown = new ArrayList<>(servers);
+            grown.add(new Server("10.0.1.0", 7001));
+            Set<Server> after = new HashSet<>(subset.select(grown));
+
+            after.removeAll(before);
+            Truth.assertThat(after.size()).isAtMost(1);
+        }
+    }
+
+    @Test
+    void removingServerReplacesOnlyIt() {
+        List<Server> servers = servers(50);
+        ServerSubset subset = new ServerSubset("node", 5);
+        List<Server> before = subset.select(servers);
+
+        List<Server> shrunk = new ArrayList<>(servers);
+        shrunk.remove(before.get(0));
+        Set<Server> after = new HashSet<>(subset.select(shrunk));
+
+        Truth.assertThat(after).hasSize(5);
+        Truth.assertThat(after).containsAtLeastElementsIn(before.subList(1, before.size()));
+    }
+
+    @Test
+    void serversAreSpreadAcrossNodes() {
+        List<Server> servers = servers(20);
+        Map<Server, Integer> picks = new HashMap<>();
+        for (int node = 0; node < 1000; node++) {
+            for (Server server : new ServerSubset("node-" + node, 5).select(servers)) {
+                picks.merge(server, 1, Integer::sum);
+            }
+        }
+
+        // Each server is expected in a quarter of the 1000 subsets.
+        Truth.assertThat(picks).hasSize(20);
+        for (int count : picks.values()) {
+            Truth.assertThat(count).isIn(Range.closed(175, 325));
+        }
+    }
+
+    @Test
+    void everyZoneKeepsItsShare() {
+        List<Server> servers = servers(50);
+        for (int i = 0; i < servers.size(); i++) {
+            servers.get(i).setZone(i == 10 || i == 40 ? "a" : "b");
+        }
+
+        List<Server> subset = new ServerSubset("node", 5).selectPerZone(servers);
+
+        // Zone a's share rounds down to none, but is kept at one.  Zone b's rounds to 5.
+        Truth.assertThat(subset).hasSize(6);
+        Truth.assertThat(subset.stream().filter(server -> "a".equals(server.getZone())).count()).isEqualTo(1);
+    }
+
+    private static List<Server> servers(int count) {
+        List<Server> servers = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            servers.add(new Server("10.0.0." + i, 7001));
+        }
+        return servers;
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2026 Netflix, Inc.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package com.netflix.zuul.discovery;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.truth.Truth;
+import com.netflix.appinfo.InstanceInfo;
+import com.netflix.client.config.DefaultClientConfigImpl;
+import com.netflix.loadbalancer.DynamicServerListLoadBalancer;
+import com.netflix.loadbalancer.Server;
+import com.netflix.niws.loadbalancer.DiscoveryEnabledServer;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ZoneAwareServerResolverTest {
+
+    private DynamicServerListLoadBalancer<Server> loadBalancer;
+    private DefaultClientConfigImpl clientConfig;
+    private DiscoveryEnabledServer local;
+    private DiscoveryEnabledServer remote;
+
+    @BeforeEach
+    void setup() {
+        local = server("100.10.10.1", "us-east-1c");
+        remote = server("100.10.10.2", "us-east-1d");
+        loadBalancer = new DynamicServerListLoadBalancer<>();
+        loadBalancer.setServersList(ImmutableList.of(local, remote));
+
+        clientConfig = new DefaultClientConfigImpl();
+        clientConfig.set(ZoneAwareServerResolver.LOCAL_ZONE, "us-east-1c");
+    }
+
+    @Test
+    void prefersLocalZone() {
+        ZoneAwareServerResolver resolver = new ZoneAwareServerResolver(loadBalancer, clientConfig);
+
+        for (int i = 0; i < 100; i++) {
+            Truth.assertThat(resolver.resolve(null)).isEqualTo(new DiscoveryResult(local));
+        }
+        Truth.assertThat(resolver.getLocalShare()).isEqualTo(1.0);
+        Truth.assertThat(resolver.getLocalZoneRequests()).isEqualTo(100);
+        Truth.assertThat(resolver.getCrossZoneRequests()).isEqualTo(0);
+    }
+
+    @Test
+    void spillsOverWhenLocalZoneIsBusy() {
+        clientConfig.set(ZoneAwareServerResolver.MAX_ACTIVE_REQUESTS_PER_SERVER, 1);
+        ZoneAwareServerResolver resolver = new ZoneAwareServerResolver(loadBalancer, clientConfig);
+        DiscoveryResult busy = resolver.resultFor(local);
+        busy.incrementActiveRequestsCount();
+        busy.incrementActiveRequestsCount();
+
+        resolver.updateLocalShare();
+
+        // One local server against one remote one at full capacity.
+        Truth.assertThat(resolver.getLocalShare()).isEqualTo(0.5);
+        Set<DiscoveryResult> chosen = new HashSet<>();
+        for (int i = 0; i < 1000; i++) {
+            chosen.add(resolver.resolve(null));
+        }
+        Truth.assertThat(chosen).containsExactly(new DiscoveryResult(local), new DiscoveryResult(remote));
+        Truth.assertThat(resolver.getCrossZoneRequests()).isGreaterThan(0);
+    }
+
+    @Test
+    void spilloverCapacityScalesRemoteServers() {
+        clientConfig.set(ZoneAwareServerResolver.MAX_ACTIVE_REQUESTS_PER_SERVER, 1);
+        clientConfig.set(ZoneAwareServerResolver.SPILLOVER_CAPACITY_PERCENT, 25);
+        ZoneAwareServerResolver resolver = new ZoneAwareServerResolver(loadBalancer, clientConfig);
+        DiscoveryResult busy = resolver.resultFor(local);
+        busy.incrementActiveRequestsCount();
+        busy.incrementActiveRequestsCount();
+
+        resolver.updateLocalShare();
+
+        Truth.assertThat(resolver.getLocalShare()).isEqualTo(0.8);
+    }
+
+    @Test
+    void withoutLocalServersEverythingIsCrossZone() {
+        clientConfig.set(ZoneAwareServerResolver.LOCAL_ZONE, "us-east-1e");
+        ZoneAwareServerResolver resolver = new ZoneAwareServerResolver(loadBalancer, clientConfig);
+
+        Truth.assertThat(resolver.resolve(null)).isNotSameInstanceAs(DiscoveryResult.EMPTY);
+        Truth.assertThat(resolver.getLocalShare()).isEqualTo(0.0);
+        Truth.assertThat(resolver.getCrossZoneRequests()).isEqualTo(1);
+    }
+
+    @Test
+    void subsetKeepsLocalZone() {
+        ImmutableList.Builder<Server> servers = ImmutableList.<Server>builder().add(local);
+        for (int i = 0; i < 20; i++) {
+            servers.add(server("100.10.11." + i, "us-east-1d"));
+        }
+        loadBalancer.setServersList(servers.build());
+        clientConfig.set(ServerSubset.SIZE, 3);
+        clientConfig.set(ServerSubset.NODE_ID, "node");
+
+        ZoneAwareServerResolver resolver = new ZoneAwareServerResolver(loadBalancer, clientConfig);
+
+        // A single local server is still a zone's share of the subset, on top of the three remote ones.
+        Truth.assertThat(resolver.getServers()).hasSize(4);
+        Truth.assertThat(resolver.getServers()).contains(new DiscoveryResult(local));
+        Truth.assertThat(resolver.resolve(null)).isEqualTo(new DiscoveryResult(local));
+        Truth.assertThat(resolver.getLocalShare()).isEqualTo(1.0);
+    }
+
+    private static DiscoveryEnabledServer server(String ip, String zone) {
+        InstanceInfo instanceInfo = InstanceInfo.Builder.newBuilder()
+                .setAppName("zuul-discovery")
+                .setHostName(ip)
+                .setIPAddr(ip)
+                .setPort(443)
+                .build();
+        DiscoveryEnabledServer server = new DiscoveryEnabledServer(instanceInfo, true);
+        server.setZone(zone);
+        return server;
+    }
+}